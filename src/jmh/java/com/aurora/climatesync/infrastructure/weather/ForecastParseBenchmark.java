@@ -0,0 +1,135 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.stub.Fixtures;
+import com.aurora.climatesync.model.HourlySeries;
+import com.aurora.climatesync.model.WeatherForecast;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing cost of Open-Meteo responses, both the raw stream parse and the full repository call
+ * (URL building, parse, mapping to model objects) with the HTTP layer answered from memory. The
+ * {@code treeParse*} baselines do what the repository did before it streamed: buffer the body as a
+ * String, build a JsonNode tree with a new ObjectMapper, and copy the columns out of the tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForecastParseBenchmark {
+
+    private byte[] weekly;
+    private byte[] hourly;
+    private OpenMeteoWeatherRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        weekly = Fixtures.bytes(Fixtures.WEEKLY);
+        hourly = Fixtures.bytes(Fixtures.HOURLY_HORIZON);
+        // Weekly requests ask for "daily"; everything else gets the hourly payload.
+        RestTemplate restTemplate = new RestTemplate((uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            byte[] body = uri.getQuery().contains("daily=") ? weekly : hourly;
+            request.setResponse(new MockClientHttpResponse(body, HttpStatus.OK));
+            return request;
+        });
+        GeocodeCache geocodeCache = new GeocodeCache(Files.createTempFile("geocode", ".json"),
+                Duration.ofDays(1), Duration.ofDays(1), Clock.systemUTC());
+        repository = new OpenMeteoWeatherRepository(restTemplate, "http://stub/v1/forecast", "http://stub/v1/search",
+                "http://stub/search", 60, false, geocodeCache);
+    }
+
+    @Benchmark
+    public OpenMeteoResponse streamParseWeeklyPayload() throws IOException {
+        return OpenMeteoResponse.parse(new ByteArrayInputStream(weekly));
+    }
+
+    @Benchmark
+    public OpenMeteoResponse streamParseHourlyPayload() throws IOException {
+        return OpenMeteoResponse.parse(new ByteArrayInputStream(hourly));
+    }
+
+    @Benchmark
+    public Map<String, Object> treeParseWeeklyPayload() throws IOException {
+        return treeParse(weekly, "daily");
+    }
+
+    @Benchmark
+    public Map<String, Object> treeParseHourlyPayload() throws IOException {
+        return treeParse(hourly, "hourly");
+    }
+
+    @Benchmark
+    public List<WeatherForecast> fetchWeeklyForecast() {
+        return repository.fetchWeeklyForecast(43.65, -79.38);
+    }
+
+    @Benchmark
+    public HourlySeries fetchHourlySeries() {
+        return repository.fetchHourlySeries(43.65, -79.38, Fixtures.FIXTURE_FIRST_DAY, Fixtures.FIXTURE_FIRST_DAY.plusDays(15));
+    }
+
+    @Benchmark
+    public int fetchHourlyForecastAsList() {
+        // Reads every hour through the List<HourlyForecast> view, as the chart does.
+        int count = 0;
+        for (Object ignored : repository.fetchHourlyForecast(43.65, -79.38, LocalDate.of(2025, 11, 24))) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reads one block of the payload into the same columns {@link OpenMeteoResponse} holds: text
+     * for the time column, doubles for the rest.
+     */
+    private static Map<String, Object> treeParse(byte[] payload, String block) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(new String(payload, StandardCharsets.UTF_8));
+        Map<String, Object> columns = new HashMap<>();
+        root.path(block).fields().forEachRemaining(field -> {
+            JsonNode values = field.getValue();
+            if (field.getKey().equals("time")) {
+                String[] times = new String[values.size()];
+                for (int i = 0; i < times.length; i++) {
+                    times[i] = values.get(i).asText();
+                }
+                columns.put(field.getKey(), times);
+            } else {
+                double[] column = new double[values.size()];
+                for (int i = 0; i < column.length; i++) {
+                    column[i] = values.get(i).isNull() ? Double.NaN : values.get(i).asDouble();
+                }
+                columns.put(field.getKey(), column);
+            }
+        });
+        return columns;
+    }
+}
@@ -0,0 +1,94 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.stub.Fixtures;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering {@code fetchForecastForTime} once the location's hourly series is in memory,
+ * next to the older approach of binary-searching a list of {@link HourlyForecast} objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NearestHourBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    private OpenMeteoWeatherRepository repository;
+    private ForecastBundle listBundle;
+    private ZonedDateTime[] times;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] hourly = Fixtures.bytes(Fixtures.HOURLY_HORIZON);
+        RestTemplate restTemplate = new RestTemplate((uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(new MockClientHttpResponse(hourly, HttpStatus.OK));
+            return request;
+        });
+        GeocodeCache geocodeCache = new GeocodeCache(Files.createTempFile("geocode", ".json"),
+                Duration.ofDays(1), Duration.ofDays(1), Clock.systemUTC());
+        repository = new OpenMeteoWeatherRepository(restTemplate, "http://stub/v1/forecast", "http://stub/v1/search",
+                "http://stub/search", 24 * 60, false, geocodeCache);
+
+        HourlySeries series = repository.fetchHourlySeries(43.65, -79.38, Fixtures.FIXTURE_FIRST_DAY, Fixtures.FIXTURE_FIRST_DAY);
+        List<HourlyForecast> objects = new ArrayList<>(series.asForecasts());
+        listBundle = new ForecastBundle(ZoneOffset.UTC, null, objects);
+
+        // Event start times spread over the fixture's horizon at odd minutes
+        ZonedDateTime first = series.getInstant(0).atZone(ZoneOffset.UTC);
+        times = new ZonedDateTime[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            times[i] = first.plusMinutes((i * 7919L) % ((long) series.size() * 60));
+        }
+        // Load the series into the store before measuring
+        repository.fetchForecastForTime(43.65, -79.38, times[0]);
+    }
+
+    @Benchmark
+    public EventWeather seriesLookup() {
+        return repository.fetchForecastForTime(43.65, -79.38, nextTime());
+    }
+
+    @Benchmark
+    public EventWeather objectListBinarySearch() {
+        return listBundle.getWeatherAt(nextTime());
+    }
+
+    private ZonedDateTime nextTime() {
+        ZonedDateTime time = times[next];
+        next = (next + 1) & (LOOKUPS - 1);
+        return time;
+    }
+}
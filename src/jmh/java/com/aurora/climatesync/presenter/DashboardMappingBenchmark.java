@@ -0,0 +1,63 @@
+package com.aurora.climatesync.presenter;
+
+import com.aurora.climatesync.stub.Fixtures;
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.DashboardEvent;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.WeatherForecast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning enriched dashboard events into view models, as done on every dashboard load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardMappingBenchmark {
+
+    private static final String[] CONDITIONS = {"Clear", "Cloudy", "Rainy", "Snow", "Fog", "Thunderstorm"};
+
+    private DashboardPresenter presenter;
+    private List<DashboardEvent> events;
+
+    @Setup
+    public void setUp() {
+        presenter = new DashboardPresenter(null, null, null);
+        events = new ArrayList<>();
+        int i = 0;
+        for (CalendarEvent event : Fixtures.calendarEvents(Fixtures.FIXTURE_FIRST_DAY)) {
+            String condition = CONDITIONS[i % CONDITIONS.length];
+            // Every third event has no weather, as for events without a location
+            WeatherForecast forecast = i % 3 == 2 ? null : new WeatherForecast(event.getStartTime().toLocalDate(),
+                    6.0 + i % 5, -1.0 + i % 3, condition, (i % 10) / 10.0, 10.0 + i, i % 4 == 0 ? 3.5 : null, i % 4 == 0 ? 3 : 61);
+            EventWeather weather = forecast == null ? null : new EventWeather(2.0 + i % 7, condition, (i % 10) / 10.0, 12.0);
+            events.add(new DashboardEvent(event, forecast, weather));
+            i++;
+        }
+    }
+
+    @Benchmark
+    public List<DashboardViewModel> mapDashboard() {
+        List<DashboardViewModel> viewModels = new ArrayList<>(events.size());
+        for (DashboardEvent event : events) {
+            viewModels.add(presenter.mapToViewModel(event));
+        }
+        return viewModels;
+    }
+}
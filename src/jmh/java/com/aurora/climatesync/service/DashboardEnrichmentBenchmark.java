@@ -0,0 +1,67 @@
+package com.aurora.climatesync.service;
+
+import com.aurora.climatesync.model.DashboardEvent;
+import com.aurora.climatesync.stub.LatencyDistribution;
+import com.aurora.climatesync.stub.OfflineDashboard;
+import com.aurora.climatesync.stub.StubUpstreamServer;
+import com.aurora.climatesync.stub.UpstreamBehavior;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full dashboard load: calendar events from the fixture, geocoding (answered by the on-disk
+ * cache after the first load), forecast requests against a local stub server, and the fan-out of
+ * results to events. The response cache is left out so every load pays for its forecast requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class DashboardEnrichmentBenchmark {
+
+    @Param({"25"})
+    public int eventCount;
+
+    /** Simulated network round trip added by the stub to every response. */
+    @Param({"0", "40"})
+    public long upstreamLatencyMillis;
+
+    private StubUpstreamServer stub;
+    private OfflineDashboard dashboard;
+    private DashboardService dashboardService;
+
+    @Setup
+    public void setUp() {
+        stub = new StubUpstreamServer().setBehavior(
+                UpstreamBehavior.healthy().withLatency(LatencyDistribution.fixed(upstreamLatencyMillis)));
+        dashboard = new OfflineDashboard(stub, false);
+        dashboardService = dashboard.getDashboardService();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dashboard.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public List<DashboardEvent> loadDashboard() {
+        return dashboardService.getDashboardEvents(eventCount);
+    }
+}
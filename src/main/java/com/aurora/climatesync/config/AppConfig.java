@@ -1,14 +1,45 @@
 package com.aurora.climatesync.config;
 
+import com.aurora.climatesync.infrastructure.google.GoogleCalendarRepository;
+import com.aurora.climatesync.infrastructure.weather.OpenMeteoLocationRepository;
+import com.aurora.climatesync.service.WeatherEnrichmentEngine;
+import com.aurora.climatesync.service.WeatherService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class AppConfig {
 
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService weatherEnrichmentExecutor(
+            @Value("${dashboard.enrichment.pool-size:8}") int poolSize,
+            @Value("${dashboard.enrichment.virtual-threads:true}") boolean virtualThreads) {
+        return WeatherEnrichmentEngine.newExecutor(poolSize, virtualThreads);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService calendarPageExecutor(
+            @Value("${calendar.page-fetch.threads:" + GoogleCalendarRepository.DEFAULT_PAGE_FETCH_THREADS + "}") int threads) {
+        return GoogleCalendarRepository.newPageFetcher(threads);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService geocodingSearchExecutor(
+            @Value("${geocoding.search.threads:" + OpenMeteoLocationRepository.DEFAULT_SEARCH_THREADS + "}") int threads) {
+        return OpenMeteoLocationRepository.newSearchExecutor(threads);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public WeatherEnrichmentEngine weatherEnrichmentEngine(
+            WeatherService weatherService,
+            @Qualifier("weatherEnrichmentExecutor") ExecutorService executor,
+            @Value("${dashboard.enrichment.deadline-ms:8000}") long deadlineMillis,
+            @Value("${weather.batch.max-locations:10}") int batchLocations) {
+        return new WeatherEnrichmentEngine(weatherService, executor, Duration.ofMillis(deadlineMillis), batchLocations);
     }
 }
@@ -0,0 +1,55 @@
+package com.aurora.climatesync.config;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reports how busy the shared HTTP connection pool is for each upstream host.
+ */
+public class HttpPoolMonitor {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    public HttpPoolMonitor(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * @return Pool statistics keyed by host name, for every host a connection has been opened to.
+     */
+    public Map<String, PoolStats> getStatsPerHost() {
+        Map<String, PoolStats> stats = new TreeMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            stats.put(route.getTargetHost().toHostString(), connectionManager.getStats(route));
+        }
+        return stats;
+    }
+
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * @return A one-line summary such as "api.open-meteo.com: 1 leased, 3 idle, 0 waiting (max 10)".
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, PoolStats> entry : getStatsPerHost().entrySet()) {
+            PoolStats s = entry.getValue();
+            if (sb.length() > 0) {
+                sb.append("; ");
+            }
+            sb.append(entry.getKey()).append(": ")
+                    .append(s.getLeased()).append(" leased, ")
+                    .append(s.getAvailable()).append(" idle, ")
+                    .append(s.getPending()).append(" waiting (max ")
+                    .append(s.getMax()).append(")");
+        }
+        return sb.length() == 0 ? "no connections" : sb.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.aurora.climatesync.config;
+
+import com.aurora.climatesync.infrastructure.gazetteer.Gazetteer;
+import com.aurora.climatesync.infrastructure.gazetteer.GazetteerLocationRepository;
+import com.aurora.climatesync.infrastructure.weather.OpenMeteoLocationRepository;
+import com.aurora.climatesync.repository.LocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Puts the offline gazetteer in front of the Open-Meteo geocoder, so location search answers known
+ * cities locally and only goes over the network for everything else.
+ */
+@Configuration
+public class LocationRepositoryConfig {
+
+    @Bean
+    public Gazetteer gazetteer(@Value("${geocoding.gazetteer.file:classpath:gazetteer/cities.tsv}") Resource file)
+            throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return Gazetteer.load(in);
+        }
+    }
+
+    @Bean
+    @Primary
+    public LocationRepository locationRepository(Gazetteer gazetteer, OpenMeteoLocationRepository openMeteoLocationRepository) {
+        return new GazetteerLocationRepository(gazetteer, openMeteoLocationRepository);
+    }
+}
@@ -0,0 +1,36 @@
+package com.aurora.climatesync.config;
+
+import com.aurora.climatesync.infrastructure.weather.CachingWeatherRepository;
+import com.aurora.climatesync.infrastructure.weather.CoalescingWeatherRepository;
+import com.aurora.climatesync.infrastructure.weather.OpenMeteoWeatherRepository;
+import com.aurora.climatesync.repository.WeatherRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Wraps the Open-Meteo repository with the decorators the services should actually talk to:
+ * cache first, then request coalescing, so concurrent cache misses still share one HTTP call.
+ */
+@Configuration
+public class WeatherRepositoryConfig {
+
+    @Bean
+    public CoalescingWeatherRepository coalescingWeatherRepository(OpenMeteoWeatherRepository openMeteoWeatherRepository) {
+        return new CoalescingWeatherRepository(openMeteoWeatherRepository);
+    }
+
+    @Bean
+    @Primary
+    public WeatherRepository weatherRepository(
+            CoalescingWeatherRepository coalescingWeatherRepository,
+            @Value("${weather.cache.max-entries:512}") int maxEntries,
+            @Value("${weather.cache.daily-ttl-minutes:30}") long dailyTtlMinutes,
+            @Value("${weather.cache.hourly-ttl-minutes:60}") long hourlyTtlMinutes) {
+        return new CachingWeatherRepository(coalescingWeatherRepository, maxEntries,
+                Duration.ofMinutes(dailyTtlMinutes), Duration.ofMinutes(hourlyTtlMinutes));
+    }
+}
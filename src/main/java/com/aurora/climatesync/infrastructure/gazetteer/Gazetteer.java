@@ -0,0 +1,218 @@
+package com.aurora.climatesync.infrastructure.gazetteer;
+
+import com.aurora.climatesync.model.Location;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An in-memory index of cities read from a GeoNames-style tab-separated file
+ * ({@code name, asciiname, alternatenames, latitude, longitude, country, population}).
+ *
+ * <p>Every name and alternate name is normalised (lower case, accents and punctuation removed)
+ * and kept in one sorted array, so a prefix lookup is a binary search. Names are also split into
+ * trigrams for a fuzzy lookup that tolerates typos. Matches are ranked by how well the name
+ * matches and then by population, so "par" finds Paris before Parma.
+ */
+public class Gazetteer {
+
+    /** Fuzzy matches must share at least this share of trigrams (Dice coefficient) with the query. */
+    static final double MIN_SIMILARITY = 0.5;
+
+    private final String[] cityNames;
+    private final String[] countries;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] populations;
+
+    /** Normalised names, sorted, each pointing at a city in {@link #nameCity}. */
+    private final String[] names;
+    private final int[] nameCity;
+    private final Map<String, int[]> trigramIndex;
+
+    private Gazetteer(List<String[]> rows) {
+        int n = rows.size();
+        cityNames = new String[n];
+        countries = new String[n];
+        latitudes = new double[n];
+        longitudes = new double[n];
+        populations = new long[n];
+
+        List<String[]> entries = new ArrayList<>();
+        for (int city = 0; city < n; city++) {
+            String[] row = rows.get(city);
+            cityNames[city] = row[0];
+            latitudes[city] = Double.parseDouble(row[3]);
+            longitudes[city] = Double.parseDouble(row[4]);
+            countries[city] = row[5];
+            populations[city] = row.length > 6 && !row[6].isEmpty() ? Long.parseLong(row[6]) : 0;
+
+            Set<String> aliases = new LinkedHashSet<>();
+            aliases.add(normalize(row[0]));
+            aliases.add(normalize(row[1]));
+            for (String alternate : row[2].split(",")) {
+                aliases.add(normalize(alternate));
+            }
+            aliases.remove("");
+            for (String alias : aliases) {
+                entries.add(new String[] {alias, String.valueOf(city)});
+            }
+        }
+        entries.sort((a, b) -> a[0].compareTo(b[0]));
+
+        names = new String[entries.size()];
+        nameCity = new int[entries.size()];
+        Map<String, List<Integer>> trigrams = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            names[i] = entries.get(i)[0];
+            nameCity[i] = Integer.parseInt(entries.get(i)[1]);
+            for (String trigram : trigrams(names[i])) {
+                trigrams.computeIfAbsent(trigram, t -> new ArrayList<>()).add(i);
+            }
+        }
+        trigramIndex = new HashMap<>();
+        trigrams.forEach((trigram, ids) -> trigramIndex.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Reads a cities file. Lines starting with {@code #} are comments.
+     */
+    public static Gazetteer load(InputStream in) {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] row = line.split("\t", -1);
+                if (row.length >= 6) {
+                    rows.add(row);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read gazetteer", e);
+        }
+        return new Gazetteer(rows);
+    }
+
+    public int size() {
+        return cityNames.length;
+    }
+
+    /**
+     * @return True if some city is called exactly the query, by name or alternate name.
+     */
+    public boolean containsName(String query) {
+        String q = normalize(query);
+        int at = lowerBound(q);
+        return !q.isEmpty() && at < names.length && names[at].equals(q);
+    }
+
+    /**
+     * @return Cities whose name, or one of their alternate names, is or starts with the query;
+     *         exact names first, then by population. Empty if nothing matches.
+     */
+    public List<Location> searchPrefix(String query, int maxResults) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Double> scores = new HashMap<>();
+        int from = lowerBound(q);
+        for (int i = from; i < names.length && names[i].startsWith(q); i++) {
+            // An exact name outranks any prefix match; population breaks ties within each group.
+            double score = (names[i].length() == q.length() ? 2.0 : 1.0) + populationWeight(nameCity[i]);
+            scores.merge(nameCity[i], score, Math::max);
+        }
+        return top(scores, maxResults);
+    }
+
+    /**
+     * @return Cities whose names are spelled like the query (at least {@link #MIN_SIMILARITY} of
+     *         their trigrams shared), best match first.
+     */
+    public List<Location> searchFuzzy(String query, int maxResults) {
+        String q = normalize(query);
+        Set<String> queryTrigrams = trigrams(q);
+        if (queryTrigrams.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (int name : trigramIndex.getOrDefault(trigram, new int[0])) {
+                shared.merge(name, 1, Integer::sum);
+            }
+        }
+        Map<Integer, Double> scores = new HashMap<>();
+        shared.forEach((name, count) -> {
+            double dice = 2.0 * count / (queryTrigrams.size() + trigrams(names[name]).size());
+            if (dice >= MIN_SIMILARITY) {
+                scores.merge(nameCity[name], dice + 0.1 * populationWeight(nameCity[name]), Math::max);
+            }
+        });
+        return top(scores, maxResults);
+    }
+
+    private List<Location> top(Map<Integer, Double> scores, int maxResults) {
+        Integer[] cities = scores.keySet().toArray(new Integer[0]);
+        Arrays.sort(cities, (a, b) -> Double.compare(scores.get(b), scores.get(a)));
+        List<Location> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(maxResults, cities.length); i++) {
+            int city = cities[i];
+            result.add(new Location(cityNames[city], countries[city], latitudes[city], longitudes[city]));
+        }
+        return result;
+    }
+
+    /** Maps population onto [0, 1): log-scaled, so a city ten times larger gains a fixed step. */
+    private double populationWeight(int city) {
+        return Math.min(0.99, Math.log10(1 + populations[city]) / 10.0);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase().replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    private static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        String padded = "  " + normalized + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        if (normalized.isEmpty()) {
+            trigrams.clear();
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,94 @@
+package com.aurora.climatesync.infrastructure.gazetteer;
+
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.repository.LocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Answers location searches that name a bundled city exactly from the {@link Gazetteer}, without
+ * the network. A partial name goes to the remote geocoder, since "San" or "Par" could be far more
+ * places than the curated list holds; the gazetteer's prefix matches only fill up the remote's
+ * answer, or stand in for it when it fails. If neither finds anything, close spellings from the
+ * gazetteer are offered, so a typo still resolves without a network.
+ *
+ * <p>Suggestions while typing take a cheaper path: the gazetteer's prefix matches come first and
+ * the remote is asked once, plainly, only to fill the list up.
+ */
+public class GazetteerLocationRepository implements LocationRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(GazetteerLocationRepository.class);
+
+    private final Gazetteer gazetteer;
+    private final LocationRepository remote;
+
+    public GazetteerLocationRepository(Gazetteer gazetteer, LocationRepository remote) {
+        this.gazetteer = gazetteer;
+        this.remote = remote;
+    }
+
+    @Override
+    public List<Location> searchLocations(String query, int maxResults) {
+        List<Location> local = gazetteer.searchPrefix(query, maxResults);
+        if (gazetteer.containsName(query)) {
+            // Exact names rank first in a prefix search.
+            return local;
+        }
+
+        try {
+            List<Location> found = remote.searchLocations(query, maxResults);
+            if (found != null && !found.isEmpty()) {
+                return merge(found, local, maxResults);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Remote geocoding failed for '{}', using the offline gazetteer: {}", query, e.getMessage());
+        }
+        if (!local.isEmpty()) {
+            return local;
+        }
+        return gazetteer.searchFuzzy(query, maxResults);
+    }
+
+    @Override
+    public List<Location> suggestLocations(String prefix, int maxResults) {
+        List<Location> local = gazetteer.searchPrefix(prefix, maxResults);
+        if (local.size() >= maxResults) {
+            return local;
+        }
+        try {
+            List<Location> found = remote.suggestLocations(prefix, maxResults);
+            if (found != null && !found.isEmpty()) {
+                return merge(local, found, maxResults);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Remote suggestions failed for '{}': {}", prefix, e.getMessage());
+        }
+        return local.isEmpty() ? gazetteer.searchFuzzy(prefix, maxResults) : local;
+    }
+
+    /**
+     * @return The first answer in its order, then matches from the second it did not already have.
+     */
+    private static List<Location> merge(List<Location> first, List<Location> second, int maxResults) {
+        Map<String, Location> merged = new LinkedHashMap<>();
+        for (Location location : first) {
+            merged.putIfAbsent(key(location), location);
+        }
+        for (Location location : second) {
+            merged.putIfAbsent(key(location), location);
+        }
+        List<Location> result = new ArrayList<>(merged.values());
+        return result.size() > maxResults ? new ArrayList<>(result.subList(0, maxResults)) : result;
+    }
+
+    private static String key(Location location) {
+        String country = location.getCountry() == null ? "" : location.getCountry();
+        return Gazetteer.normalize(location.getCityName()) + "|" + country.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,285 @@
+package com.aurora.climatesync.infrastructure.google;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A local copy of the primary calendar kept in step with Google through incremental sync. The
+ * first refresh lists the events in the coming window and keeps the {@code nextSyncToken}; later
+ * refreshes send that token and receive only what was created, changed or cancelled since. If
+ * Google no longer accepts the token (410 Gone), or the window has slid a day past what the copy
+ * covers, the copy is rebuilt with a full sync.
+ * <p>
+ * Listings are fetched without holding the copy's lock and applied under it once complete, so
+ * reads and local writes never wait on the network.
+ */
+class CalendarSync {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarSync.class);
+
+    static final String CALENDAR_ID = "primary";
+    /** The largest page the Calendar API will return. */
+    private static final int PAGE_SIZE = 250;
+    private static final int GONE = 410;
+    /** How far ahead a full sync lists events. */
+    static final Duration DEFAULT_WINDOW = Duration.ofDays(60);
+    /** How far the window may slide past the last full sync before the next one. */
+    private static final Duration WINDOW_SLACK = Duration.ofDays(1);
+
+    private final GoogleEventMapper eventMapper;
+    private final Duration window;
+    // Serialises refreshes; the copy itself is guarded by this object's monitor.
+    private final Object refreshLock = new Object();
+    private final Map<String, CalendarEvent> events = new HashMap<>();
+    private String syncToken;
+    private ZonedDateTime coveredUntil;
+    private int lastChangeCount;
+    private long generation;
+
+    CalendarSync(GoogleEventMapper eventMapper) {
+        this(eventMapper, DEFAULT_WINDOW);
+    }
+
+    CalendarSync(GoogleEventMapper eventMapper, Duration window) {
+        this.eventMapper = eventMapper;
+        this.window = window;
+    }
+
+    /**
+     * Brings the local copy up to date, with a full sync the first time and a delta afterwards.
+     * On failure the copy keeps whatever it held before.
+     */
+    void refresh(Calendar client) throws IOException {
+        refresh(client, null);
+    }
+
+    /**
+     * Like {@link #refresh(Calendar)}, handing each page of a full sync to {@code onFullSyncPage}
+     * as it arrives, so a caller can show the first events before the last page is in.
+     * @param onFullSyncPage Receives the live events of each page, or null.
+     * @return True if this was a full sync, false if it was a delta.
+     */
+    boolean refresh(Calendar client, Consumer<List<CalendarEvent>> onFullSyncPage) throws IOException {
+        synchronized (refreshLock) {
+            ZonedDateTime now = ZonedDateTime.now();
+            String token;
+            long startedAt;
+            synchronized (this) {
+                boolean slid = coveredUntil != null && now.plus(window).minus(WINDOW_SLACK).isAfter(coveredUntil);
+                token = slid ? null : syncToken;
+                startedAt = generation;
+            }
+            if (token != null) {
+                try {
+                    Listing delta = list(client, token, null, null, null);
+                    synchronized (this) {
+                        if (startedAt == generation) {
+                            applyDelta(delta);
+                            pruneEnded(now);
+                        }
+                        logger.debug("Calendar delta sync: {} changes, {} events held", lastChangeCount, events.size());
+                    }
+                    return false;
+                } catch (GoogleJsonResponseException e) {
+                    if (e.getStatusCode() != GONE) {
+                        throw e;
+                    }
+                    logger.info("Calendar sync token expired; running a full sync");
+                }
+            }
+            ZonedDateTime until = now.plus(window);
+            Listing full = list(client, null, now, until, onFullSyncPage);
+            synchronized (this) {
+                // A reset while the listing was in flight means it may be for another account.
+                if (startedAt == generation) {
+                    events.clear();
+                    events.putAll(full.changed);
+                    syncToken = full.nextSyncToken;
+                    coveredUntil = until;
+                    lastChangeCount = full.changed.size();
+                }
+                logger.debug("Calendar full sync: {} events", events.size());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return Events that have not ended by {@code now}, by start time, at most {@code maxResults}.
+     */
+    synchronized List<CalendarEvent> upcoming(int maxResults, ZonedDateTime now) {
+        List<CalendarEvent> upcoming = new ArrayList<>();
+        for (CalendarEvent event : events.values()) {
+            if (event.getEndTime() == null || event.getEndTime().isAfter(now)) {
+                upcoming.add(event);
+            }
+        }
+        upcoming.sort(Comparator.comparing(CalendarEvent::getStartTime, Comparator.nullsLast(Comparator.naturalOrder())));
+        return upcoming.size() > maxResults ? new ArrayList<>(upcoming.subList(0, maxResults)) : upcoming;
+    }
+
+    /**
+     * @return Events overlapping {@code [from, to)}, by start time.
+     */
+    synchronized List<CalendarEvent> between(ZonedDateTime from, ZonedDateTime to) {
+        List<CalendarEvent> between = new ArrayList<>();
+        for (CalendarEvent event : events.values()) {
+            if (overlaps(event, from, to)) {
+                between.add(event);
+            }
+        }
+        between.sort(Comparator.comparing(CalendarEvent::getStartTime, Comparator.nullsLast(Comparator.naturalOrder())));
+        return between;
+    }
+
+    static boolean overlaps(CalendarEvent event, ZonedDateTime from, ZonedDateTime to) {
+        return (event.getEndTime() == null || event.getEndTime().isAfter(from))
+                && (event.getStartTime() == null || event.getStartTime().isBefore(to));
+    }
+
+    /**
+     * @return How far ahead of the last full sync the copy holds events.
+     */
+    Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * @return Where the copy ends: the end of the window at the last full sync, or null before one.
+     * It can be up to a day short of the current window.
+     */
+    synchronized ZonedDateTime getCoveredUntil() {
+        return coveredUntil;
+    }
+
+    /** Records a write made through this app so it shows before the next delta arrives. */
+    synchronized void put(CalendarEvent event) {
+        if (event != null && event.getEventID() != null) {
+            events.put(event.getEventID(), event);
+        }
+    }
+
+    synchronized void remove(String eventId) {
+        events.remove(eventId);
+    }
+
+    /** Forgets everything, so the next refresh is a full sync (e.g. after connecting another account). */
+    synchronized void reset() {
+        events.clear();
+        syncToken = null;
+        coveredUntil = null;
+        generation++;
+    }
+
+    synchronized boolean hasSyncToken() {
+        return syncToken != null;
+    }
+
+    /**
+     * @return The number of events created, updated or cancelled by the most recent refresh.
+     */
+    synchronized int getLastChangeCount() {
+        return lastChangeCount;
+    }
+
+    synchronized int size() {
+        return events.size();
+    }
+
+    /**
+     * Reads every page of one listing. Nothing is applied, so a failed page leaves the copy as it was.
+     * @param token The sync token for a delta, or null for a full listing of {@code [from, until)}.
+     * @param onPage Receives the live events of each page as it arrives, or null.
+     */
+    private Listing list(Calendar client, String token, ZonedDateTime from, ZonedDateTime until,
+                         Consumer<List<CalendarEvent>> onPage) throws IOException {
+        Map<String, CalendarEvent> changed = new HashMap<>();
+        List<String> cancelled = new ArrayList<>();
+        String pageToken = null;
+        Events page;
+        do {
+            Calendar.Events.List request = client.events().list(CALENDAR_ID);
+            request.setSingleEvents(true);
+            request.setMaxResults(PAGE_SIZE);
+            if (token != null) {
+                // Google rejects time filters together with a sync token; the token carries them.
+                request.setSyncToken(token);
+            } else {
+                request.setTimeMin(new DateTime(from.toInstant().toEpochMilli()));
+                request.setTimeMax(new DateTime(until.toInstant().toEpochMilli()));
+            }
+            if (pageToken != null) {
+                request.setPageToken(pageToken);
+            }
+            page = request.execute();
+            List<CalendarEvent> live = new ArrayList<>();
+            if (page.getItems() != null) {
+                for (Event item : page.getItems()) {
+                    if ("cancelled".equals(item.getStatus())) {
+                        cancelled.add(item.getId());
+                    } else {
+                        CalendarEvent event = eventMapper.mapToCalendarEvent(item);
+                        changed.put(item.getId(), event);
+                        live.add(event);
+                    }
+                }
+            }
+            if (onPage != null) {
+                onPage.accept(live);
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        return new Listing(changed, cancelled, page.getNextSyncToken());
+    }
+
+    /**
+     * Applies a delta. Events moved beyond the covered window are dropped, like those a full
+     * sync would not have listed. Callers hold the lock.
+     */
+    private void applyDelta(Listing delta) {
+        for (Map.Entry<String, CalendarEvent> entry : delta.changed.entrySet()) {
+            ZonedDateTime start = entry.getValue().getStartTime();
+            if (start != null && coveredUntil != null && !start.isBefore(coveredUntil)) {
+                events.remove(entry.getKey());
+            } else {
+                events.put(entry.getKey(), entry.getValue());
+            }
+        }
+        delta.cancelled.forEach(events::remove);
+        syncToken = delta.nextSyncToken;
+        lastChangeCount = delta.changed.size() + delta.cancelled.size();
+    }
+
+    private void pruneEnded(ZonedDateTime now) {
+        events.values().removeIf(event -> event.getEndTime() != null && !event.getEndTime().isAfter(now));
+    }
+
+    /** The events from every page of one listing, keyed by Google's event id. */
+    private static final class Listing {
+        private final Map<String, CalendarEvent> changed;
+        private final List<String> cancelled;
+        private final String nextSyncToken;
+
+        private Listing(Map<String, CalendarEvent> changed, List<String> cancelled, String nextSyncToken) {
+            this.changed = changed;
+            this.cancelled = cancelled;
+            this.nextSyncToken = nextSyncToken;
+        }
+    }
+}
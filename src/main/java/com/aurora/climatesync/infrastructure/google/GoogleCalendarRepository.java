@@ -1,32 +1,70 @@
 package com.aurora.climatesync.infrastructure.google;
 
 import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.CalendarMutation;
+import com.aurora.climatesync.model.CalendarMutationResult;
 import com.aurora.climatesync.repository.CalendarRepository;
+import com.aurora.climatesync.repository.EventPages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
-import com.google.api.services.calendar.model.Events;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Repository
 public class GoogleCalendarRepository implements CalendarRepository {
+    private static final Logger logger = LoggerFactory.getLogger(GoogleCalendarRepository.class);
     private static final String APPLICATION_NAME = "ClimateSync";
+    /** Events per page when listing a window; small enough that the first page arrives quickly. */
+    static final int LIST_PAGE_SIZE = 100;
+    /** Google accepts up to 1000 calls per batch but recommends keeping batches to 50. */
+    static final int MAX_BATCH_SIZE = 50;
+    public static final int DEFAULT_PAGE_FETCH_THREADS = 4;
+    /** A window computed just before the call may start a moment before the copy's last sync. */
+    private static final Duration WINDOW_START_SLACK = Duration.ofMinutes(1);
+
+    private static ExecutorService defaultPageFetcher;
 
     Calendar client;
     private final GoogleCredentialManager credentialManager;
     private final GoogleEventMapper eventMapper;
+    private final CalendarSync calendarSync;
+    private final ExecutorService pageFetcher;
 
     public GoogleCalendarRepository(GoogleCredentialManager credentialManager, GoogleEventMapper eventMapper) {
+        this(credentialManager, eventMapper, sharedDefaultPageFetcher());
+    }
+
+    @Autowired
+    public GoogleCalendarRepository(GoogleCredentialManager credentialManager, GoogleEventMapper eventMapper,
+                                    @Qualifier("calendarPageExecutor") ExecutorService pageFetcher) {
         this.credentialManager = credentialManager;
         this.eventMapper = eventMapper;
+        this.calendarSync = new CalendarSync(eventMapper);
+        this.pageFetcher = pageFetcher;
     }
 
     @Override
@@ -34,6 +72,8 @@ public class GoogleCalendarRepository implements CalendarRepository {
         final NetHttpTransport HTTP_TRANSPORT = getHttpTransport();
         Credential credential = credentialManager.getCredentials(HTTP_TRANSPORT);
         this.client = createCalendarClient(HTTP_TRANSPORT, credential);
+        // The account may have changed, so the local copy starts again from a full sync.
+        calendarSync.reset();
 
         // Test call to verify token
         return verifyConnection(client);
@@ -62,7 +102,9 @@ public class GoogleCalendarRepository implements CalendarRepository {
         try {
             Event event = eventMapper.mapToGoogleEvent(calendarEvent);
             Event createdEvent = client.events().insert("primary", event).execute();
-            return eventMapper.mapToCalendarEvent(createdEvent);
+            CalendarEvent created = eventMapper.mapToCalendarEvent(createdEvent);
+            calendarSync.put(created);
+            return created;
         } catch (IOException e) {
             e.printStackTrace();
             throw new RuntimeException("Failed to add event to Google Calendar", e);
@@ -75,9 +117,10 @@ public class GoogleCalendarRepository implements CalendarRepository {
             throw new IllegalStateException("Calendar client is not connected.");
         }
         try {
-            Event event = client.events().get("primary", calendarEvent.getEventID()).execute();
-            eventMapper.updateGoogleEvent(event, calendarEvent);
-            client.events().update("primary", event.getId(), event).execute();
+            // A patch sends only the fields we set, so there is no need to fetch the event first.
+            Event patch = eventMapper.mapToGooglePatch(calendarEvent);
+            client.events().patch("primary", calendarEvent.getEventID(), patch).execute();
+            calendarSync.put(calendarEvent);
         } catch (IOException e) {
             e.printStackTrace();
             throw new RuntimeException("Failed to update event in Google Calendar", e);
@@ -91,12 +134,87 @@ public class GoogleCalendarRepository implements CalendarRepository {
         }
         try {
             client.events().delete("primary", eventId).execute();
+            calendarSync.remove(eventId);
         } catch (IOException e) {
             e.printStackTrace();
             throw new RuntimeException("Failed to delete event from Google Calendar", e);
         }
     }
 
+    /**
+     * Sends the mutations through Google's batch endpoint, {@link #MAX_BATCH_SIZE} per HTTP call.
+     * Updates are patches. Each mutation gets its own result; if a whole batch call fails, every
+     * mutation in it is reported as failed.
+     */
+    @Override
+    public List<CalendarMutationResult> applyMutations(List<CalendarMutation> mutations) {
+        if (client == null) {
+            throw new IllegalStateException("Calendar client is not connected.");
+        }
+        CalendarMutationResult[] results = new CalendarMutationResult[mutations.size()];
+        for (int from = 0; from < mutations.size(); from += MAX_BATCH_SIZE) {
+            int to = Math.min(from + MAX_BATCH_SIZE, mutations.size());
+            String error = "Batch request to Google Calendar failed";
+            try {
+                BatchRequest batch = client.batch();
+                for (int i = from; i < to; i++) {
+                    queue(batch, mutations.get(i), i, results);
+                }
+                batch.execute();
+            } catch (IOException e) {
+                logger.warn("Batch of mutations {}-{} to Google Calendar failed: {}", from, to - 1, e.getMessage());
+                if (e.getMessage() != null) {
+                    error = e.getMessage();
+                }
+            }
+            for (int i = from; i < to; i++) {
+                if (results[i] == null) {
+                    results[i] = CalendarMutationResult.failed(mutations.get(i), error);
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private void queue(BatchRequest batch, CalendarMutation mutation, int index, CalendarMutationResult[] results)
+            throws IOException {
+        switch (mutation.getType()) {
+            case ADD -> client.events().insert("primary", eventMapper.mapToGoogleEvent(mutation.getEvent()))
+                    .queue(batch, eventCallback(mutation, index, results));
+            case UPDATE -> client.events().patch("primary", mutation.getEventId(), eventMapper.mapToGooglePatch(mutation.getEvent()))
+                    .queue(batch, eventCallback(mutation, index, results));
+            case DELETE -> client.events().delete("primary", mutation.getEventId())
+                    .queue(batch, new JsonBatchCallback<Void>() {
+                        @Override
+                        public void onSuccess(Void unused, HttpHeaders responseHeaders) {
+                            calendarSync.remove(mutation.getEventId());
+                            results[index] = CalendarMutationResult.succeeded(mutation, null);
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                            results[index] = CalendarMutationResult.failed(mutation, error.getMessage());
+                        }
+                    });
+        }
+    }
+
+    private JsonBatchCallback<Event> eventCallback(CalendarMutation mutation, int index, CalendarMutationResult[] results) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Event stored, HttpHeaders responseHeaders) {
+                CalendarEvent event = eventMapper.mapToCalendarEvent(stored);
+                calendarSync.put(event);
+                results[index] = CalendarMutationResult.succeeded(mutation, event);
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                results[index] = CalendarMutationResult.failed(mutation, error.getMessage());
+            }
+        };
+    }
+
     @Override
     public boolean isConnected() {
         return client != null;
@@ -107,6 +225,10 @@ public class GoogleCalendarRepository implements CalendarRepository {
         return getUpcomingEvents(25);
     }
 
+    /**
+     * Refreshes the local copy of the calendar with the changes since the last call, then answers
+     * from it. If the refresh fails, the events from the last successful one are returned.
+     */
     @Override
     public List<CalendarEvent> getUpcomingEvents(int maxResults) {
         if (client == null) {
@@ -114,27 +236,111 @@ public class GoogleCalendarRepository implements CalendarRepository {
             return Collections.emptyList();
         }
         try {
-            System.out.println("GoogleCalendarRepository: Fetching events...");
-            DateTime now = new DateTime(System.currentTimeMillis());
-            Events events = client.events().list("primary")
-                    .setMaxResults(maxResults)
-                    .setTimeMin(now)
-                    .setOrderBy("startTime")
-                    .setSingleEvents(true)
-                    .execute();
-            
-            List<CalendarEvent> calendarEvents = new java.util.ArrayList<>();
-            List<Event> items = events.getItems();
-            if (items != null) {
-                for (Event event : items) {
-                    calendarEvents.add(eventMapper.mapToCalendarEvent(event));
-                }
-            }
-            return calendarEvents;
+            calendarSync.refresh(client);
         } catch (IOException e) {
             e.printStackTrace();
-            return Collections.emptyList();
         }
+        return calendarSync.upcoming(maxResults, ZonedDateTime.now());
+    }
+
+    /**
+     * Answers a window starting now from the local copy of the calendar. The copy is refreshed
+     * first: a delta costs one small request and the window is then served from memory as one
+     * page, while a cold or expired copy is rebuilt with a full sync whose pages are handed out as
+     * they arrive. Windows the copy does not hold (the past, or beyond its sync window) are listed
+     * from Google page by page, the next page downloading while the caller renders the current one.
+     * The copy ends where its last full sync did, which can be up to a day short of the window, so
+     * events past that are listed from Google after the copy's pages.
+     */
+    @Override
+    public EventPages listEvents(ZonedDateTime timeMin, ZonedDateTime timeMax) {
+        if (client == null) {
+            return EventPages.empty();
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        if (timeMin.isBefore(now.minus(WINDOW_START_SLACK)) || timeMax.isAfter(now.plus(calendarSync.getWindow()))) {
+            return new GoogleEventPager(client, eventMapper, pageFetcher,
+                    new DateTime(timeMin.toInstant().toEpochMilli()),
+                    new DateTime(timeMax.toInstant().toEpochMilli()), LIST_PAGE_SIZE);
+        }
+        Calendar connected = client;
+        EventPages synced = new SyncedEventPages(pageFetcher, sink -> {
+            AtomicBoolean streamed = new AtomicBoolean();
+            try {
+                boolean fullSync = calendarSync.refresh(connected, page -> {
+                    List<CalendarEvent> inWindow = page.stream()
+                            .filter(event -> CalendarSync.overlaps(event, timeMin, timeMax))
+                            .sorted(Comparator.comparing(CalendarEvent::getStartTime,
+                                    Comparator.nullsLast(Comparator.naturalOrder())))
+                            .toList();
+                    streamed.set(true);
+                    sink.accept(inWindow);
+                });
+                if (fullSync) {
+                    return;
+                }
+            } catch (IOException e) {
+                if (streamed.get() || !calendarSync.hasSyncToken()) {
+                    throw e;
+                }
+                // The last good copy is better than nothing, as in getUpcomingEvents.
+                logger.warn("Calendar refresh failed; showing the last synced events: {}", e.getMessage());
+            }
+            sink.accept(calendarSync.between(timeMin, timeMax));
+        });
+        // Read once the synced pages are done, so the refresh has settled where the copy ends.
+        return EventPages.concat(synced, () -> {
+            ZonedDateTime coveredUntil = calendarSync.getCoveredUntil();
+            if (coveredUntil == null || !timeMax.isAfter(coveredUntil)) {
+                return EventPages.empty();
+            }
+            return startingFrom(coveredUntil, new GoogleEventPager(connected, eventMapper, pageFetcher,
+                    new DateTime(coveredUntil.toInstant().toEpochMilli()),
+                    new DateTime(timeMax.toInstant().toEpochMilli()), LIST_PAGE_SIZE));
+        });
+    }
+
+    /**
+     * @return The pages without events that start before {@code from}; the copy already holds those.
+     */
+    private static EventPages startingFrom(ZonedDateTime from, EventPages pages) {
+        return new EventPages() {
+            @Override
+            public boolean hasNext() {
+                return pages.hasNext();
+            }
+
+            @Override
+            public List<CalendarEvent> next() {
+                return pages.next().stream()
+                        .filter(event -> event.getStartTime() == null || !event.getStartTime().isBefore(from))
+                        .toList();
+            }
+
+            @Override
+            public void close() {
+                pages.close();
+            }
+        };
+    }
+
+    /**
+     * Creates the executor that fetches calendar pages ahead of the caller.
+     */
+    public static ExecutorService newPageFetcher(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "calendar-page-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static synchronized ExecutorService sharedDefaultPageFetcher() {
+        if (defaultPageFetcher == null) {
+            defaultPageFetcher = newPageFetcher(DEFAULT_PAGE_FETCH_THREADS);
+        }
+        return defaultPageFetcher;
     }
 
     // For testing purposes
@@ -2,6 +2,7 @@ package com.aurora.climatesync.infrastructure.google;
 
 import com.aurora.climatesync.model.CalendarEvent;
 import com.aurora.climatesync.model.Location;
+import com.google.api.client.util.Data;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
@@ -43,6 +44,21 @@ public class GoogleEventMapper {
         return event;
     }
 
+    /**
+     * Maps the event for a patch. A patch leaves out null fields, so a title or description the
+     * user cleared is sent as an explicit JSON null, which Google stores as cleared.
+     */
+    public Event mapToGooglePatch(CalendarEvent calendarEvent) {
+        Event event = mapToGoogleEvent(calendarEvent);
+        if (calendarEvent.getSummary() == null) {
+            event.setSummary(Data.NULL_STRING);
+        }
+        if (calendarEvent.getDescription() == null) {
+            event.setDescription(Data.NULL_STRING);
+        }
+        return event;
+    }
+
     public void updateGoogleEvent(Event event, CalendarEvent calendarEvent) {
         event.setSummary(calendarEvent.getSummary());
         event.setDescription(calendarEvent.getDescription());
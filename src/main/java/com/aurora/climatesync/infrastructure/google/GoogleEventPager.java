@@ -0,0 +1,104 @@
+package com.aurora.climatesync.infrastructure.google;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.repository.EventPages;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Pages through {@code events.list} for a time window. As soon as a page arrives the request for
+ * the next one is sent, so it is on the wire while the caller maps and renders the current page.
+ */
+class GoogleEventPager implements EventPages {
+
+    private final Calendar client;
+    private final GoogleEventMapper eventMapper;
+    private final ExecutorService executor;
+    private final DateTime timeMin;
+    private final DateTime timeMax;
+    private final int pageSize;
+    private Future<Events> pending;
+
+    GoogleEventPager(Calendar client, GoogleEventMapper eventMapper, ExecutorService executor,
+                     DateTime timeMin, DateTime timeMax, int pageSize) {
+        this.client = client;
+        this.eventMapper = eventMapper;
+        this.executor = executor;
+        this.timeMin = timeMin;
+        this.timeMax = timeMax;
+        this.pageSize = pageSize;
+        this.pending = executor.submit(() -> fetch(null));
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        return pending != null;
+    }
+
+    /**
+     * @throws RuntimeException if the page could not be fetched; no further pages follow.
+     */
+    @Override
+    public synchronized List<CalendarEvent> next() {
+        if (pending == null) {
+            throw new NoSuchElementException();
+        }
+        Events page = await(pending);
+        String nextPageToken = page.getNextPageToken();
+        pending = nextPageToken != null ? executor.submit(() -> fetch(nextPageToken)) : null;
+
+        List<CalendarEvent> events = new ArrayList<>();
+        if (page.getItems() != null) {
+            for (Event item : page.getItems()) {
+                if (!"cancelled".equals(item.getStatus())) {
+                    events.add(eventMapper.mapToCalendarEvent(item));
+                }
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    private Events fetch(String pageToken) throws Exception {
+        Calendar.Events.List request = client.events().list(CalendarSync.CALENDAR_ID);
+        request.setSingleEvents(true);
+        request.setOrderBy("startTime");
+        request.setTimeMin(timeMin);
+        request.setTimeMax(timeMax);
+        request.setMaxResults(pageSize);
+        if (pageToken != null) {
+            request.setPageToken(pageToken);
+        }
+        return request.execute();
+    }
+
+    private Events await(Future<Events> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending = null;
+            throw new RuntimeException("Interrupted while listing events from Google Calendar", e);
+        } catch (ExecutionException | CancellationException e) {
+            pending = null;
+            throw new RuntimeException("Failed to list events from Google Calendar", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+}
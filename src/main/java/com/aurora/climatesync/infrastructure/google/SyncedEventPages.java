@@ -0,0 +1,97 @@
+package com.aurora.climatesync.infrastructure.google;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.repository.EventPages;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Pages produced by a background task and handed over as they arrive. Used to answer a window
+ * from {@link CalendarSync}: a full sync streams its pages while they download, a delta sync
+ * yields the window from the local copy as a single page.
+ */
+class SyncedEventPages implements EventPages {
+
+    /** Writes the pages to the sink, in the order they should be delivered. */
+    interface Source {
+        void produce(Consumer<List<CalendarEvent>> sink) throws Exception;
+    }
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Future<?> task;
+    private Object head;
+    private boolean finished;
+
+    SyncedEventPages(ExecutorService executor, Source source) {
+        this.task = executor.submit(() -> {
+            try {
+                source.produce(page -> {
+                    if (!page.isEmpty()) {
+                        queue.add(page);
+                    }
+                });
+                queue.add(END);
+            } catch (Throwable e) {
+                // Errors too: a reader waiting for the next page would otherwise wait forever.
+                queue.add(e);
+            }
+        });
+    }
+
+    /**
+     * Waits until the next page has arrived or the task has finished.
+     */
+    @Override
+    public synchronized boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        if (head == null) {
+            try {
+                head = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new RuntimeException("Interrupted while listing events from Google Calendar", e);
+            }
+        }
+        if (head == END) {
+            finished = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @throws RuntimeException if the listing failed; no further pages follow.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized List<CalendarEvent> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object item = head;
+        head = null;
+        if (item instanceof Throwable) {
+            finished = true;
+            Throwable cause = (Throwable) item;
+            throw new RuntimeException("Failed to list events from Google Calendar", cause);
+        }
+        return (List<CalendarEvent>) item;
+    }
+
+    @Override
+    public synchronized void close() {
+        finished = true;
+        task.cancel(true);
+    }
+}
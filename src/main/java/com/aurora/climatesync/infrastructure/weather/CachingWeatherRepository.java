@@ -0,0 +1,226 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.ForecastWeek;
+import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.model.WeatherForecast;
+import com.aurora.climatesync.repository.WeatherRepository;
+import com.aurora.climatesync.util.ExpiringLruCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link WeatherRepository} decorator that keeps recent forecasts in memory so repeated
+ * refreshes for the same place do not go back to the network. Entries are keyed by coordinates
+ * rounded to ~1 km plus the shape of the request, and expire after a TTL chosen per kind of
+ * request. Empty or failed responses are never cached. Geocoding is passed straight through.
+ *
+ * <p>A cached bundle for the week starting today also answers weekly and hourly requests for the
+ * same place, so a caller that fetched the bundle does not pay for a second request for either half.
+ */
+public class CachingWeatherRepository implements WeatherRepository {
+
+    static final int COORDINATE_DECIMALS = 2;
+
+    private final WeatherRepository delegate;
+    private final ExpiringLruCache<String, Object> cache;
+    private final Duration dailyTtl;
+    private final Duration hourlyTtl;
+
+    /**
+     * @param dailyTtl TTL for weekly forecasts and bundles, which include the current temperature.
+     * @param hourlyTtl TTL for hourly series and point-in-time lookups.
+     */
+    public CachingWeatherRepository(WeatherRepository delegate, int maxEntries, Duration dailyTtl, Duration hourlyTtl) {
+        this(delegate, maxEntries, dailyTtl, hourlyTtl, Clock.systemUTC());
+    }
+
+    CachingWeatherRepository(WeatherRepository delegate, int maxEntries, Duration dailyTtl, Duration hourlyTtl, Clock clock) {
+        this.delegate = delegate;
+        this.cache = new ExpiringLruCache<>(maxEntries, clock);
+        this.dailyTtl = dailyTtl;
+        this.hourlyTtl = hourlyTtl;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WeatherForecast> fetchWeeklyForecast(double latitude, double longitude) {
+        String key = "weekly|" + cell(latitude, longitude);
+        List<WeatherForecast> cached = (List<WeatherForecast>) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        ForecastBundle bundle = peekWeek(latitude, longitude);
+        if (bundle != null) {
+            return bundle.getDailyForecasts();
+        }
+        List<WeatherForecast> fresh = delegate.fetchWeeklyForecast(latitude, longitude);
+        if (fresh != null && !fresh.isEmpty()) {
+            cached = Collections.unmodifiableList(fresh);
+            cache.put(key, cached, dailyTtl);
+            return cached;
+        }
+        return fresh;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HourlyForecast> fetchHourlyForecast(double latitude, double longitude, LocalDate date) {
+        String key = "hourly|" + cell(latitude, longitude) + "|" + date;
+        List<HourlyForecast> cached = (List<HourlyForecast>) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        ForecastBundle bundle = peekWeek(latitude, longitude);
+        if (bundle != null && bundle.getDailyForecast(date) != null) {
+            return bundle.getHourlyForecasts(date);
+        }
+        List<HourlyForecast> fresh = delegate.fetchHourlyForecast(latitude, longitude, date);
+        if (fresh != null && !fresh.isEmpty()) {
+            cached = Collections.unmodifiableList(fresh);
+            cache.put(key, cached, hourlyTtl);
+            return cached;
+        }
+        return fresh;
+    }
+
+    @Override
+    public EventWeather fetchForecastForTime(double latitude, double longitude, ZonedDateTime time) {
+        // The delegate already keeps the whole hourly horizon per location in memory; an entry
+        // per requested hour on top of that would only duplicate it.
+        return delegate.fetchForecastForTime(latitude, longitude, time);
+    }
+
+    @Override
+    public HourlySeries fetchHourlySeries(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        String key = "series|" + cell(latitude, longitude) + "|" + startDate + "|" + endDate;
+        HourlySeries cached = (HourlySeries) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        HourlySeries fresh = delegate.fetchHourlySeries(latitude, longitude, startDate, endDate);
+        if (fresh != null && !fresh.isEmpty()) {
+            cache.put(key, fresh, hourlyTtl);
+        }
+        return fresh;
+    }
+
+    @Override
+    public ForecastBundle fetchForecastBundle(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        String key = bundleKey(latitude, longitude, startDate, endDate);
+        ForecastBundle cached = (ForecastBundle) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        ForecastBundle fresh = delegate.fetchForecastBundle(latitude, longitude, startDate, endDate);
+        if (isCacheable(fresh)) {
+            cache.put(key, fresh, dailyTtl);
+        }
+        return fresh;
+    }
+
+    /**
+     * Answers what it can from the cache and asks the delegate for the rest in one batch. Bundles
+     * share their cache entries with {@link #fetchForecastBundle}.
+     */
+    @Override
+    public Map<Coordinates, ForecastBundle> fetchForecastBundles(Collection<Coordinates> locations,
+                                                                 LocalDate startDate, LocalDate endDate) {
+        Map<Coordinates, ForecastBundle> bundles = new HashMap<>();
+        List<Coordinates> misses = new ArrayList<>();
+        for (Coordinates location : locations) {
+            ForecastBundle cached = (ForecastBundle) cache.get(
+                    bundleKey(location.getLatitude(), location.getLongitude(), startDate, endDate));
+            if (cached != null) {
+                bundles.put(location, cached);
+            } else {
+                misses.add(location);
+            }
+        }
+        if (misses.isEmpty()) {
+            return bundles;
+        }
+        for (Map.Entry<Coordinates, ForecastBundle> entry : delegate.fetchForecastBundles(misses, startDate, endDate).entrySet()) {
+            ForecastBundle fresh = entry.getValue();
+            if (isCacheable(fresh)) {
+                Coordinates location = entry.getKey();
+                cache.put(bundleKey(location.getLatitude(), location.getLongitude(), startDate, endDate), fresh, dailyTtl);
+            }
+            bundles.put(entry.getKey(), fresh);
+        }
+        return bundles;
+    }
+
+    @Override
+    public boolean resolveLocation(Location location) {
+        return delegate.resolveLocation(location);
+    }
+
+    @Override
+    public long getForecastRequestCount() {
+        return delegate.getForecastRequestCount();
+    }
+
+    @Override
+    public long getGeocodeRequestCount() {
+        return delegate.getGeocodeRequestCount();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getExpirationCount() {
+        return cache.getExpirationCount();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingWeatherRepository" + cache;
+    }
+
+    /**
+     * @return The location's week from the bundle {@link ForecastWeek} requests, if it is cached.
+     */
+    private ForecastBundle peekWeek(double latitude, double longitude) {
+        return ForecastWeek.of((ForecastBundle) cache.peek(bundleKey(latitude, longitude,
+                ForecastWeek.firstRequestedDate(), ForecastWeek.lastRequestedDate())));
+    }
+
+    private static String bundleKey(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        return "bundle|" + cell(latitude, longitude) + "|" + startDate + "|" + endDate;
+    }
+
+    private static boolean isCacheable(ForecastBundle bundle) {
+        return bundle != null && !bundle.getDailyForecasts().isEmpty();
+    }
+
+    private static Coordinates cell(double latitude, double longitude) {
+        return new Coordinates(latitude, longitude).roundedTo(COORDINATE_DECIMALS);
+    }
+}
@@ -0,0 +1,206 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.exception.WeatherServiceException;
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.model.WeatherForecast;
+import com.aurora.climatesync.repository.WeatherRepository;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link WeatherRepository} decorator that lets concurrent callers asking for the same forecast
+ * share one upstream request. The first caller performs the fetch; anyone who asks for the same
+ * (coordinates, variables, date range) while it is in flight waits for and receives its result.
+ * Nothing is kept once the request finishes, so this complements rather than replaces caching.
+ */
+public class CoalescingWeatherRepository implements WeatherRepository {
+
+    private final WeatherRepository delegate;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong upstreamCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    public CoalescingWeatherRepository(WeatherRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<WeatherForecast> fetchWeeklyForecast(double latitude, double longitude) {
+        return coalesce("weekly|" + cell(latitude, longitude),
+                () -> delegate.fetchWeeklyForecast(latitude, longitude));
+    }
+
+    @Override
+    public List<HourlyForecast> fetchHourlyForecast(double latitude, double longitude, LocalDate date) {
+        return coalesce("hourly|" + cell(latitude, longitude) + "|" + date,
+                () -> delegate.fetchHourlyForecast(latitude, longitude, date));
+    }
+
+    @Override
+    public EventWeather fetchForecastForTime(double latitude, double longitude, ZonedDateTime time) {
+        // The delegate's hourly series store already shares one load per location.
+        return delegate.fetchForecastForTime(latitude, longitude, time);
+    }
+
+    @Override
+    public HourlySeries fetchHourlySeries(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        return coalesce("series|" + cell(latitude, longitude) + "|" + startDate + "|" + endDate,
+                () -> delegate.fetchHourlySeries(latitude, longitude, startDate, endDate));
+    }
+
+    @Override
+    public ForecastBundle fetchForecastBundle(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        return coalesce(bundleKey(latitude, longitude, startDate, endDate),
+                () -> delegate.fetchForecastBundle(latitude, longitude, startDate, endDate));
+    }
+
+    /**
+     * Locations already being fetched, alone or as part of another batch, are waited for; the
+     * others go to the delegate as one batch that concurrent callers can join per location.
+     * A location whose shared request fails is left out rather than failing the whole batch.
+     */
+    @Override
+    public Map<Coordinates, ForecastBundle> fetchForecastBundles(Collection<Coordinates> locations,
+                                                                 LocalDate startDate, LocalDate endDate) {
+        Map<Coordinates, String> keys = new HashMap<>();
+        Map<Coordinates, CompletableFuture<Object>> owned = new LinkedHashMap<>();
+        Map<Coordinates, CompletableFuture<Object>> joined = new LinkedHashMap<>();
+        for (Coordinates location : locations) {
+            String key = bundleKey(location.getLatitude(), location.getLongitude(), startDate, endDate);
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                coalescedCalls.incrementAndGet();
+                joined.put(location, existing);
+            } else {
+                keys.put(location, key);
+                owned.put(location, mine);
+            }
+        }
+
+        Map<Coordinates, ForecastBundle> bundles = new HashMap<>();
+        if (!owned.isEmpty()) {
+            upstreamCalls.incrementAndGet();
+            try {
+                Map<Coordinates, ForecastBundle> fetched = delegate.fetchForecastBundles(owned.keySet(), startDate, endDate);
+                for (Map.Entry<Coordinates, CompletableFuture<Object>> entry : owned.entrySet()) {
+                    ForecastBundle bundle = fetched.get(entry.getKey());
+                    entry.getValue().complete(bundle);
+                    if (bundle != null) {
+                        bundles.put(entry.getKey(), bundle);
+                    }
+                }
+            } catch (Throwable e) {
+                // Errors too: a future left incomplete would block every caller that joined it.
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach((location, future) -> inFlight.remove(keys.get(location), future));
+            }
+        }
+
+        for (Map.Entry<Coordinates, CompletableFuture<Object>> entry : joined.entrySet()) {
+            try {
+                ForecastBundle bundle = (ForecastBundle) await(entry.getValue());
+                if (bundle != null) {
+                    bundles.put(entry.getKey(), bundle);
+                }
+            } catch (RuntimeException e) {
+                // Another caller's request failed; this location simply has no bundle.
+            }
+        }
+        return bundles;
+    }
+
+    @Override
+    public boolean resolveLocation(Location location) {
+        // Resolution writes into the caller's Location, so there is no shared result to hand out.
+        return delegate.resolveLocation(location);
+    }
+
+    @Override
+    public long getForecastRequestCount() {
+        return delegate.getForecastRequestCount();
+    }
+
+    @Override
+    public long getGeocodeRequestCount() {
+        return delegate.getGeocodeRequestCount();
+    }
+
+    /**
+     * @return How many fetches were actually sent to the wrapped repository.
+     */
+    public long getUpstreamCallCount() {
+        return upstreamCalls.get();
+    }
+
+    /**
+     * @return How many calls were answered by joining a request that was already in flight.
+     */
+    public long getCoalescedCallCount() {
+        return coalescedCalls.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String key, Supplier<T> fetch) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        upstreamCalls.incrementAndGet();
+        try {
+            T result = fetch.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too: a future left incomplete would block every caller that joined it.
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WeatherServiceException("Interrupted while waiting for a shared forecast request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new WeatherServiceException("Shared forecast request failed", e.getCause());
+        }
+    }
+
+    private static String bundleKey(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        return "bundle|" + cell(latitude, longitude) + "|" + startDate + "|" + endDate;
+    }
+
+    private static Coordinates cell(double latitude, double longitude) {
+        return new Coordinates(latitude, longitude).roundedTo(CachingWeatherRepository.COORDINATE_DECIMALS);
+    }
+}
@@ -0,0 +1,311 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Location;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers geocoding results by the free text that was looked up (plus the country hint, if
+ * any) and keeps them in a small JSON file, so a location seen in an earlier session is not sent
+ * to Open-Meteo or Nominatim again. Texts that could not be resolved are remembered too, but for
+ * a much shorter time, since a failed lookup is more likely to change.
+ * <p>
+ * New entries only mark the cache dirty; the file is rewritten once after a short quiet period,
+ * and again on shutdown, so a burst of lookups costs a single write.
+ */
+@Component
+public class GeocodeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodeCache.class);
+
+    static final Duration DEFAULT_FLUSH_DELAY = Duration.ofSeconds(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Entry> entries = new HashMap<>();
+    // Held while snapshotting and writing the file, so flushes never overtake each other on disk
+    private final Object writeLock = new Object();
+    private final Path file;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration flushDelay;
+    private final Clock clock;
+    private ScheduledExecutorService flusher;
+    private boolean dirty;
+    private boolean flushScheduled;
+    private boolean closed;
+
+    public GeocodeCache(String file, long ttlDays, long negativeTtlHours) {
+        this(file, ttlDays, negativeTtlHours, DEFAULT_FLUSH_DELAY.toMillis());
+    }
+
+    @Autowired
+    public GeocodeCache(
+            @Value("${weather.geocode.cache-file:cache/geocode-cache.json}") String file,
+            @Value("${weather.geocode.ttl-days:30}") long ttlDays,
+            @Value("${weather.geocode.negative-ttl-hours:24}") long negativeTtlHours,
+            @Value("${weather.geocode.flush-delay-ms:2000}") long flushDelayMillis) {
+        this(Paths.get(file), Duration.ofDays(ttlDays), Duration.ofHours(negativeTtlHours),
+                Duration.ofMillis(flushDelayMillis), Clock.systemUTC());
+    }
+
+    GeocodeCache(Path file, Duration ttl, Duration negativeTtl, Clock clock) {
+        this(file, ttl, negativeTtl, DEFAULT_FLUSH_DELAY, clock);
+    }
+
+    GeocodeCache(Path file, Duration ttl, Duration negativeTtl, Duration flushDelay, Clock clock) {
+        this.file = file;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.flushDelay = flushDelay;
+        this.clock = clock;
+        load();
+    }
+
+    /**
+     * @return The remembered result for the text, or null if it has not been looked up recently.
+     */
+    public synchronized Entry get(String query, String countryHint) {
+        String key = key(query, countryHint);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Remembers that the text resolved to the given location.
+     */
+    public synchronized void putResolved(String query, String countryHint, Location resolved) {
+        entries.put(key(query, countryHint), new Entry(true, resolved.getCityName(), resolved.getCountry(),
+                resolved.getLatitude(), resolved.getLongitude(), clock.millis() + ttl.toMillis()));
+        markDirty();
+    }
+
+    /**
+     * Remembers that the text could not be resolved.
+     */
+    public synchronized void putMissing(String query, String countryHint) {
+        entries.put(key(query, countryHint), new Entry(false, null, null, 0, 0, clock.millis() + negativeTtl.toMillis()));
+        markDirty();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes pending entries to the file now instead of waiting for the scheduled flush.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            ObjectNode root;
+            synchronized (this) {
+                flushScheduled = false;
+                if (!dirty) {
+                    return;
+                }
+                root = snapshot();
+                dirty = false;
+            }
+            if (!write(root)) {
+                synchronized (this) {
+                    // Keep the entries pending so the next flush tries again.
+                    dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the background flush and writes whatever is still pending.
+     */
+    @PreDestroy
+    public void close() {
+        ScheduledExecutorService toStop;
+        synchronized (this) {
+            closed = true;
+            toStop = flusher;
+            flusher = null;
+        }
+        if (toStop != null) {
+            toStop.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * Schedules a flush after the quiet period unless one is already pending. Callers hold the lock.
+     */
+    private void markDirty() {
+        dirty = true;
+        if (flushScheduled || closed) {
+            return;
+        }
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "geocode-cache-flush");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        flushScheduled = true;
+        flusher.schedule(this::flush, flushDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Lowercases the text and collapses whitespace so trivially different spellings share an entry.
+     */
+    static String key(String query, String countryHint) {
+        return normalize(query) + "|" + normalize(countryHint);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(file.toFile());
+            long now = clock.millis();
+            for (JsonNode node : root.path("entries")) {
+                Entry entry = new Entry(
+                        node.path("found").asBoolean(),
+                        node.hasNonNull("name") ? node.get("name").asText() : null,
+                        node.hasNonNull("country") ? node.get("country").asText() : null,
+                        node.path("latitude").asDouble(),
+                        node.path("longitude").asDouble(),
+                        node.path("expiresAt").asLong());
+                if (!entry.isExpired(now)) {
+                    entries.put(node.path("key").asText(), entry);
+                }
+            }
+        } catch (IOException e) {
+            // A corrupt or unreadable cache only costs us some repeat lookups.
+            logger.warn("Ignoring unreadable geocode cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private ObjectNode snapshot() {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode list = root.putArray("entries");
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            ObjectNode node = list.addObject();
+            node.put("key", e.getKey());
+            node.put("found", entry.found);
+            node.put("name", entry.name);
+            node.put("country", entry.country);
+            node.put("latitude", entry.latitude);
+            node.put("longitude", entry.longitude);
+            node.put("expiresAt", entry.expiresAtMillis);
+        }
+        return root;
+    }
+
+    private boolean write(ObjectNode root) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write to a sibling file first so a crash mid-write never leaves a truncated cache.
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), root);
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Could not write geocode cache {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * A remembered lookup result.
+     */
+    public static final class Entry {
+        private final boolean found;
+        private final String name;
+        private final String country;
+        private final double latitude;
+        private final double longitude;
+        private final long expiresAtMillis;
+
+        Entry(boolean found, String name, String country, double latitude, double longitude, long expiresAtMillis) {
+            this.found = found;
+            this.name = name;
+            this.country = country;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        /**
+         * Copies the remembered result into the location.
+         * @return True if the text had resolved, false if it was remembered as not found.
+         */
+        public boolean applyTo(Location location) {
+            if (!found) {
+                return false;
+            }
+            location.setLatitude(latitude);
+            location.setLongitude(longitude);
+            if (name != null) {
+                location.setCityName(name);
+            }
+            if (country != null) {
+                location.setCountry(country);
+            }
+            return true;
+        }
+
+        public Location toLocation() {
+            return new Location(name, country, latitude, longitude);
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.HourlySeries;
+import com.aurora.climatesync.util.ExpiringLruCache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Keeps one {@link HourlySeries} per location for the whole forecast horizon. The first
+ * lookup for a location loads its series; later lookups are in-memory reads until the entry
+ * expires. Concurrent first lookups for the same location share a single load.
+ *
+ * <p>This is the only cache for point-in-time lookups: one series answers every hour of the
+ * horizon, which a cache keyed by the requested time could not, so the caching and coalescing
+ * decorators pass {@code fetchForecastForTime} straight through.
+ */
+class HourlySeriesStore {
+
+    private final ExpiringLruCache<Coordinates, HourlySeries> series;
+    /** Loads in progress; an entry lives only as long as its load. */
+    private final ConcurrentMap<Coordinates, CompletableFuture<HourlySeries>> loading = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    HourlySeriesStore(int maxLocations, Duration ttl) {
+        this.series = new ExpiringLruCache<>(maxLocations);
+        this.ttl = ttl;
+    }
+
+    /**
+     * @return The series for the cell, loading it if needed, or null if the load failed.
+     */
+    HourlySeries get(Coordinates cell, Function<Coordinates, HourlySeries> loader) {
+        HourlySeries cached = series.get(cell);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<HourlySeries> mine = new CompletableFuture<>();
+        CompletableFuture<HourlySeries> existing = loading.putIfAbsent(cell, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            // A load that finished between the miss above and claiming the cell has already stored it.
+            HourlySeries loaded = series.peek(cell);
+            if (loaded == null) {
+                loaded = loader.apply(cell);
+                if (loaded != null && loaded.size() > 0) {
+                    series.put(cell, loaded, ttl);
+                }
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(cell, mine);
+        }
+    }
+
+    /**
+     * @return How many loads are in progress.
+     */
+    int getLoadingCount() {
+        return loading.size();
+    }
+
+    void clear() {
+        series.clear();
+    }
+
+    private static HourlySeries await(CompletableFuture<HourlySeries> load) {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+}
@@ -4,20 +4,63 @@ import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.repository.LocationRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Repository
 public class OpenMeteoLocationRepository implements LocationRepository {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    static final String DEFAULT_GEOCODING_URL = "https://geocoding-api.open-meteo.com/v1/search";
+    static final int DEFAULT_MAX_CONCURRENCY = 4;
+    /** Threads shared by all searches; two searches can run their variants side by side. */
+    public static final int DEFAULT_SEARCH_THREADS = 8;
+
+    private static ExecutorService defaultSearchExecutor;
+
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final String geocodingApiUrl = "https://geocoding-api.open-meteo.com/v1/search";
+    private final String geocodingApiUrl;
+    private final GeocodeCache geocodeCache;
+    private final int maxConcurrency;
+    private final ExecutorService searchExecutor;
+
+    public OpenMeteoLocationRepository(RestTemplate restTemplate, GeocodeCache geocodeCache) {
+        this(restTemplate, geocodeCache, DEFAULT_GEOCODING_URL, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    public OpenMeteoLocationRepository(RestTemplate restTemplate, GeocodeCache geocodeCache,
+                                       String geocodingApiUrl, int maxConcurrency) {
+        this(restTemplate, geocodeCache, geocodingApiUrl, maxConcurrency, sharedDefaultSearchExecutor());
+    }
+
+    @Autowired
+    public OpenMeteoLocationRepository(
+            RestTemplate restTemplate,
+            GeocodeCache geocodeCache,
+            @Value("${weather.api.geocoding-url:" + DEFAULT_GEOCODING_URL + "}") String geocodingApiUrl,
+            @Value("${geocoding.search.max-concurrency:" + DEFAULT_MAX_CONCURRENCY + "}") int maxConcurrency,
+            @Qualifier("geocodingSearchExecutor") ExecutorService searchExecutor) {
+        this.restTemplate = restTemplate;
+        this.geocodeCache = geocodeCache;
+        this.geocodingApiUrl = geocodingApiUrl;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.searchExecutor = searchExecutor;
+    }
 
     @Override
     public List<Location> searchLocations(String query, int maxResults) {
@@ -27,8 +70,9 @@ public class OpenMeteoLocationRepository implements LocationRepository {
 
         String q = query.trim();
 
-        // These are the exact strings Open-Meteo actually recognizes
-        List<String> attempts = List.of(
+        // These are the exact strings Open-Meteo actually recognizes, best first. The replacements
+        // leave most queries unchanged, so duplicates are dropped.
+        List<String> attempts = new ArrayList<>(new LinkedHashSet<>(List.of(
                 q,
                 q.replace("CN Tower", "CN Tower Toronto"),
                 q.replace("Bay St", "Bay Street Toronto"),
@@ -36,13 +80,15 @@ public class OpenMeteoLocationRepository implements LocationRepository {
                 q + ", Toronto",
                 q + " Canada",
                 q + ", Canada"
-        );
+        )));
 
-        for (String attempt : attempts) {
-            List<Location> result = trySearch(attempt, maxResults);
-            if (!result.isEmpty() && result.get(0).getLatitude() != 0.0) {
-                return result;
-            }
+        List<Location> found = searchVariants(attempts, maxResults);
+        if (found != null) {
+            return found;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            // The caller gave up on this query (e.g. a superseded typeahead lookup); skip the fallbacks.
+            return new ArrayList<>();
         }
 
         // Final direct attempts that are known to work
@@ -58,7 +104,131 @@ public class OpenMeteoLocationRepository implements LocationRepository {
         return trySearch(q, maxResults); // last chance with original
     }
 
+    /**
+     * One plain geocoding request for the prefix, returning every result up to {@code maxResults}.
+     * Nothing is cached: a list of candidates does not say which place the user meant.
+     */
+    @Override
+    public List<Location> suggestLocations(String prefix, int maxResults) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        String url = UriComponentsBuilder.fromHttpUrl(geocodingApiUrl)
+                .queryParam("name", prefix.trim())
+                .queryParam("count", maxResults)
+                .queryParam("language", "en")
+                .queryParam("format", "json")
+                .build().toUriString();
+        try {
+            return parse(restTemplate.getForObject(url, String.class), maxResults);
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Runs the variants concurrently, at most {@code maxConcurrency} at a time, and returns the
+     * result of the best-ranked variant that found something. A later variant's hit is only used
+     * once every variant ranked above it has come back empty; as soon as the winner is known the
+     * remaining lookups are cancelled.
+     * @return The winning result, or null if no variant found anything.
+     */
+    List<Location> searchVariants(List<String> variants, int maxResults) {
+        // A cached hit for the original query wins outright, without a thread hop.
+        GeocodeCache.Entry cached = geocodeCache.get(variants.get(0), null);
+        if (cached != null && cached.isFound()) {
+            return trySearch(variants.get(0), maxResults);
+        }
+
+        CompletionService<Integer> completion = new ExecutorCompletionService<>(searchExecutor);
+        List<Future<Integer>> futures = new ArrayList<>();
+        List<List<Location>> results = new ArrayList<>();
+        for (int i = 0; i < variants.size(); i++) {
+            results.add(null);
+        }
+        int submitted = 0;
+        int completed = 0;
+        try {
+            for (; submitted < Math.min(maxConcurrency, variants.size()); submitted++) {
+                futures.add(submit(completion, variants, submitted, maxResults, results));
+            }
+            while (completed < variants.size()) {
+                completion.take().get();
+                completed++;
+
+                List<Location> winner = null;
+                synchronized (results) {
+                    int best = 0;
+                    while (best < variants.size() && results.get(best) != null && !isAcceptable(results.get(best))) {
+                        best++;
+                    }
+                    if (best < variants.size()) {
+                        winner = results.get(best);
+                    }
+                }
+                if (winner != null) {
+                    return winner;
+                }
+                if (submitted < variants.size()) {
+                    futures.add(submit(completion, variants, submitted++, maxResults, results));
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // trySearch handles its own failures, so this only happens if a task was cancelled.
+            return null;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Future<Integer> submit(CompletionService<Integer> completion, List<String> variants, int index,
+                                   int maxResults, List<List<Location>> results) {
+        return completion.submit(() -> {
+            List<Location> result = trySearch(variants.get(index), maxResults);
+            synchronized (results) {
+                results.set(index, result);
+            }
+            return index;
+        });
+    }
+
+    private static boolean isAcceptable(List<Location> result) {
+        return !result.isEmpty() && result.get(0).getLatitude() != 0.0;
+    }
+
+    /**
+     * Creates the executor that runs query variants. Searches beyond its size queue for a thread.
+     */
+    public static ExecutorService newSearchExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "geocoding-search-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static synchronized ExecutorService sharedDefaultSearchExecutor() {
+        if (defaultSearchExecutor == null) {
+            defaultSearchExecutor = newSearchExecutor(DEFAULT_SEARCH_THREADS);
+        }
+        return defaultSearchExecutor;
+    }
+
     private List<Location> trySearch(String q, int maxResults) {
+        GeocodeCache.Entry cached = geocodeCache.get(q, null);
+        if (cached != null) {
+            List<Location> list = new ArrayList<>();
+            if (cached.isFound()) {
+                list.add(cached.toLocation());
+            }
+            return list;
+        }
+
         String url = UriComponentsBuilder.fromHttpUrl(geocodingApiUrl)
                 .queryParam("name", q)
                 .queryParam("count", 5)
@@ -68,24 +238,31 @@ public class OpenMeteoLocationRepository implements LocationRepository {
 
         try {
             String json = restTemplate.getForObject(url, String.class);
-            return parse(json);
+            List<Location> result = parse(json, 1);
+            // Misses are not recorded here: the weather repository still has Nominatim to try for them.
+            if (!result.isEmpty()) {
+                geocodeCache.putResolved(q, null, result.get(0));
+            }
+            return result;
         } catch (Exception e) {
             return new ArrayList<>();
         }
     }
 
-    private List<Location> parse(String json) {
+    private List<Location> parse(String json, int maxResults) {
         List<Location> list = new ArrayList<>();
         try {
             JsonNode results = objectMapper.readTree(json).path("results");
-            if (results.isArray() && results.size() > 0) {
-                JsonNode first = results.get(0);
-                String name = first.path("name").asText();
-                String country = first.path("country").asText();
-                double lat = first.path("latitude").asDouble();
-                double lon = first.path("longitude").asDouble();
-                if (lat != 0 && lon != 0) {
-                    list.add(new Location(name, country, lat, lon));
+            if (results.isArray()) {
+                for (int i = 0; i < results.size() && list.size() < maxResults; i++) {
+                    JsonNode result = results.get(i);
+                    String name = result.path("name").asText();
+                    String country = result.path("country").asText();
+                    double lat = result.path("latitude").asDouble();
+                    double lon = result.path("longitude").asDouble();
+                    if (lat != 0 && lon != 0) {
+                        list.add(new Location(name, country, lat, lon));
+                    }
                 }
             }
         } catch (Exception ignored) {}
@@ -0,0 +1,221 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of an Open-Meteo forecast response that the app uses. The response is read as a
+ * token stream straight into primitive column arrays, so no intermediate JSON tree or boxed
+ * values are built; for a multi-day hourly payload this is most of the parse cost.
+ */
+final class OpenMeteoResponse {
+
+    /**
+     * Thread-safe and expensive to create, so shared by every parse. Almost every token in a
+     * forecast is a decimal number, so the allocation-light double parser pays off here.
+     */
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+            .build();
+
+    private String timezone;
+    private Double currentTemperature;
+    private Columns daily;
+    private Columns hourly;
+
+    private OpenMeteoResponse() {
+    }
+
+    /**
+     * @return The parsed response, or null if the stream is empty or not a JSON object.
+     */
+    static OpenMeteoResponse parse(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT ? readResponse(parser) : null;
+        }
+    }
+
+    /**
+     * Parses a response to a request for several coordinates, which Open-Meteo answers with an
+     * array holding one object per location, in request order. A single object, as sent when only
+     * one location was asked for, is read as a list of one.
+     * @return The responses by position; elements that are not objects are null.
+     */
+    static List<OpenMeteoResponse> parseAll(InputStream in) throws IOException {
+        List<OpenMeteoResponse> responses = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                responses.add(readResponse(parser));
+            } else if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        responses.add(readResponse(parser));
+                    } else {
+                        parser.skipChildren();
+                        responses.add(null);
+                    }
+                }
+            }
+        }
+        return responses;
+    }
+
+    private static OpenMeteoResponse readResponse(JsonParser parser) throws IOException {
+        OpenMeteoResponse response = new OpenMeteoResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "timezone":
+                    response.timezone = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    break;
+                case "current":
+                    response.currentTemperature = readCurrentTemperature(parser);
+                    break;
+                case "daily":
+                    response.daily = readColumns(parser);
+                    break;
+                case "hourly":
+                    response.hourly = readColumns(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    String getTimezone() {
+        return timezone;
+    }
+
+    Double getCurrentTemperature() {
+        return currentTemperature;
+    }
+
+    /**
+     * @return The "daily" block, or null if the response has none.
+     */
+    Columns getDaily() {
+        return daily;
+    }
+
+    /**
+     * @return The "hourly" block, or null if the response has none.
+     */
+    Columns getHourly() {
+        return hourly;
+    }
+
+    private static Double readCurrentTemperature(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Double temperature = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("temperature_2m".equals(field) && value.isNumeric()) {
+                temperature = parser.getDoubleValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return temperature;
+    }
+
+    private static Columns readColumns(JsonParser parser) throws IOException {
+        Columns columns = new Columns();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return columns;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                readColumn(parser, field, columns);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Reads one array. Numbers go into a double[]; if any element is a string the column is kept
+     * as a String[] instead (ISO dates and times). JSON nulls become 0, matching how the previous
+     * tree-based parsing read them.
+     */
+    private static void readColumn(JsonParser parser, String field, Columns columns) throws IOException {
+        double[] numbers = new double[64];
+        List<String> texts = null;
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of input in \"" + field + "\"");
+            }
+            if (count == numbers.length) {
+                numbers = Arrays.copyOf(numbers, count * 2);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                if (texts == null) {
+                    texts = new ArrayList<>(Math.max(16, count * 2));
+                    for (int i = 0; i < count; i++) {
+                        texts.add(null);
+                    }
+                }
+                texts.add(parser.getText());
+            } else {
+                if (token.isNumeric()) {
+                    numbers[count] = parser.getDoubleValue();
+                } else {
+                    parser.skipChildren();
+                }
+                if (texts != null) {
+                    texts.add(null);
+                }
+            }
+            count++;
+        }
+        if (texts != null) {
+            columns.texts.put(field, texts.toArray(new String[0]));
+        } else {
+            columns.numbers.put(field, Arrays.copyOf(numbers, count));
+        }
+    }
+
+    /**
+     * The column arrays of a "daily" or "hourly" block, by variable name.
+     */
+    static final class Columns {
+        private final Map<String, double[]> numbers = new HashMap<>();
+        private final Map<String, String[]> texts = new HashMap<>();
+
+        /**
+         * @return The numeric column, or null if the block has no such numeric column.
+         */
+        double[] numbers(String name) {
+            return numbers.get(name);
+        }
+
+        /**
+         * @return The text column, or null if the block has no such text column.
+         */
+        String[] texts(String name) {
+            return texts.get(name);
+        }
+    }
+}
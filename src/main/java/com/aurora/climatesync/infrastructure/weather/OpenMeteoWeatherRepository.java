@@ -1,14 +1,20 @@
 package com.aurora.climatesync.infrastructure.weather;
 
+import com.aurora.climatesync.model.Coordinates;
 import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
 import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
 import com.aurora.climatesync.repository.WeatherRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -18,30 +24,79 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class OpenMeteoWeatherRepository implements WeatherRepository {
 
+    private static final Logger logger = LoggerFactory.getLogger(OpenMeteoWeatherRepository.class);
+
+    private static final String DAILY_VARIABLES =
+            "temperature_2m_max,temperature_2m_min,precipitation_probability_mean,weathercode,windspeed_10m_max";
+    private static final String HOURLY_VARIABLES =
+            "temperature_2m,precipitation_probability,weathercode,windspeed_10m";
+    private static final int FORECAST_HORIZON_DAYS = 16;
+    /** Locations per multi-location forecast request, unless configured otherwise. */
+    public static final int DEFAULT_MAX_BATCH_LOCATIONS = 10;
+    /** Locations whose hourly series are kept in memory, unless configured otherwise. */
+    public static final int DEFAULT_MAX_SERIES_LOCATIONS = 256;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final RestTemplate restTemplate;
     private final String forecastApiUrl;
     private final String geocodingApiUrl;
     private final String nominatimApiUrl;
+    private final HourlySeriesStore hourlySeriesStore;
+    private final boolean interpolateHourly;
+    private final GeocodeCache geocodeCache;
+    private final int maxBatchLocations;
+    private final AtomicLong forecastRequests = new AtomicLong();
+    private final AtomicLong geocodeRequests = new AtomicLong();
+
+    public OpenMeteoWeatherRepository(RestTemplate restTemplate, String forecastApiUrl, String geocodingApiUrl,
+                                      String nominatimApiUrl, long hourlySeriesTtlMinutes, boolean interpolateHourly,
+                                      GeocodeCache geocodeCache) {
+        this(restTemplate, forecastApiUrl, geocodingApiUrl, nominatimApiUrl, hourlySeriesTtlMinutes, interpolateHourly,
+                geocodeCache, DEFAULT_MAX_BATCH_LOCATIONS);
+    }
+
+    public OpenMeteoWeatherRepository(RestTemplate restTemplate, String forecastApiUrl, String geocodingApiUrl,
+                                      String nominatimApiUrl, long hourlySeriesTtlMinutes, boolean interpolateHourly,
+                                      GeocodeCache geocodeCache, int maxBatchLocations) {
+        this(restTemplate, forecastApiUrl, geocodingApiUrl, nominatimApiUrl, hourlySeriesTtlMinutes, interpolateHourly,
+                geocodeCache, maxBatchLocations, DEFAULT_MAX_SERIES_LOCATIONS);
+    }
 
     @Autowired
     public OpenMeteoWeatherRepository(
             RestTemplate restTemplate,
             @Value("${weather.api.forecast-url:https://api.open-meteo.com/v1/forecast}") String forecastApiUrl,
             @Value("${weather.api.geocoding-url:https://geocoding-api.open-meteo.com/v1/search}") String geocodingApiUrl,
-            @Value("${weather.api.nominatim-url:https://nominatim.openstreetmap.org/search}") String nominatimApiUrl) {
+            @Value("${weather.api.nominatim-url:https://nominatim.openstreetmap.org/search}") String nominatimApiUrl,
+            @Value("${weather.hourly.series-ttl-minutes:60}") long hourlySeriesTtlMinutes,
+            @Value("${weather.hourly.interpolate:false}") boolean interpolateHourly,
+            GeocodeCache geocodeCache,
+            @Value("${weather.batch.max-locations:10}") int maxBatchLocations,
+            @Value("${weather.hourly.series-max-locations:" + DEFAULT_MAX_SERIES_LOCATIONS + "}") int maxSeriesLocations) {
         this.restTemplate = restTemplate;
         this.forecastApiUrl = forecastApiUrl;
         this.geocodingApiUrl = geocodingApiUrl;
         this.nominatimApiUrl = nominatimApiUrl;
+        this.hourlySeriesStore = new HourlySeriesStore(Math.max(1, maxSeriesLocations), Duration.ofMinutes(hourlySeriesTtlMinutes));
+        this.interpolateHourly = interpolateHourly;
+        this.geocodeCache = geocodeCache;
+        this.maxBatchLocations = Math.max(1, maxBatchLocations);
     }
 
     @Override
@@ -52,76 +107,16 @@ public class OpenMeteoWeatherRepository implements WeatherRepository {
                     .queryParam("latitude", latitude)
                     .queryParam("longitude", longitude)
                     .queryParam("current", "temperature_2m")
-                    .queryParam("daily",
-                            "temperature_2m_max,temperature_2m_min,precipitation_probability_mean,weathercode,windspeed_10m_max")
+                    .queryParam("daily", DAILY_VARIABLES)
                     .queryParam("timezone", "auto")
                     .toUriString();
 
-            String json = restTemplate.getForObject(url, String.class);
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
-
-            if (root == null || !root.has("daily")) {
-                return new ArrayList<>();
-            }
-
-            Double currentTemp = null;
-            if (root.has("current")) {
-                JsonNode current = root.get("current");
-                if (current.has("temperature_2m")) {
-                    currentTemp = current.get("temperature_2m").asDouble();
-                }
-            }
-
-            JsonNode daily = root.get("daily");
-
-            JsonNode dates = daily.get("time");
-            JsonNode maxTemps = daily.get("temperature_2m_max");
-            JsonNode minTemps = daily.get("temperature_2m_min");
-            JsonNode precip = daily.get("precipitation_probability_mean");
-            JsonNode codes = daily.get("weathercode");
-            JsonNode winds = daily.get("windspeed_10m_max");
-
-            if (dates == null || !dates.isArray()) {
+            OpenMeteoResponse response = fetch(url);
+            if (response == null || response.getDaily() == null) {
                 return new ArrayList<>();
             }
 
-            int size = dates.size();
-            List<WeatherForecast> forecasts = new ArrayList<>();
-
-            int maxIndex = size;
-            if (maxTemps != null && maxTemps.isArray()) maxIndex = Math.min(maxIndex, maxTemps.size());
-            if (minTemps != null && minTemps.isArray()) maxIndex = Math.min(maxIndex, minTemps.size());
-            if (precip != null && precip.isArray()) maxIndex = Math.min(maxIndex, precip.size());
-            if (codes != null && codes.isArray()) maxIndex = Math.min(maxIndex, codes.size());
-            if (winds != null && winds.isArray()) maxIndex = Math.min(maxIndex, winds.size());
-
-            for (int i = 0; i < maxIndex; i++) {
-                LocalDate date = LocalDate.parse(dates.get(i).asText());
-                double maxT = maxTemps != null ? maxTemps.get(i).asDouble() : 0.0;
-                double minT = minTemps != null ? minTemps.get(i).asDouble() : 0.0;
-                double precipitationChance = precip != null ? (precip.get(i).asDouble() / 100.0) : 0.0;
-                int code = codes != null ? codes.get(i).asInt() : -1;
-                double windSpeed = winds != null ? winds.get(i).asDouble() : 0.0;
-
-                String condition = mapWeatherCode(code);
-
-                Double todayCurrentTemp = (i == 0) ? currentTemp : null;
-
-                forecasts.add(new WeatherForecast(
-                        date,
-                        maxT,
-                        minT,
-                        condition,
-                        precipitationChance,
-                        windSpeed,
-                        todayCurrentTemp,
-                        code
-                ));
-            }
-
-            return forecasts;
+            return parseDaily(response, zoneOf(response), null);
         } catch (Exception e) {
             e.printStackTrace();
             return new ArrayList<>();
@@ -130,231 +125,400 @@ public class OpenMeteoWeatherRepository implements WeatherRepository {
 
     @Override
     public List<HourlyForecast> fetchHourlyForecast(double latitude, double longitude, LocalDate date) {
+        HourlySeries series = fetchHourlySeries(latitude, longitude, date, date);
+        return series != null ? series.asForecasts() : new ArrayList<>();
+    }
+
+    @Override
+    public HourlySeries fetchHourlySeries(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
         try {
-            String dateStr = date.toString();
-            
             String url = UriComponentsBuilder
                     .fromUriString(forecastApiUrl)
                     .queryParam("latitude", latitude)
                     .queryParam("longitude", longitude)
-                    .queryParam("hourly", "temperature_2m,precipitation_probability,weathercode,windspeed_10m")
-                    .queryParam("start_date", dateStr)
-                    .queryParam("end_date", dateStr)
+                    .queryParam("hourly", HOURLY_VARIABLES)
+                    .queryParam("start_date", startDate.toString())
+                    .queryParam("end_date", endDate.toString())
                     .queryParam("timezone", "auto")
+                    .queryParam("timeformat", "unixtime")
                     .toUriString();
 
-            String json = restTemplate.getForObject(url, String.class);
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
+            OpenMeteoResponse response = fetch(url);
+            return response != null ? toSeries(response, zoneOf(response)) : null;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 
-            List<HourlyForecast> forecasts = new ArrayList<>();
+    @Override
+    public ForecastBundle fetchForecastBundle(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        try {
+            OpenMeteoResponse response = fetch(bundleUrl(String.valueOf(latitude), String.valueOf(longitude), startDate, endDate));
+            return response != null ? toBundle(response) : null;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 
-            if (root == null || !root.has("hourly")) {
-                return forecasts;
+    /**
+     * Sends the locations to Open-Meteo as comma-separated coordinate lists, at most
+     * {@code maxBatchLocations} per request, and matches the answers back to the locations by
+     * position. The requests for successive chunks are sent one after another.
+     */
+    @Override
+    public Map<Coordinates, ForecastBundle> fetchForecastBundles(Collection<Coordinates> locations,
+                                                                 LocalDate startDate, LocalDate endDate) {
+        List<Coordinates> distinct = new ArrayList<>(new LinkedHashSet<>(locations));
+        Map<Coordinates, ForecastBundle> bundles = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += maxBatchLocations) {
+            List<Coordinates> chunk = distinct.subList(from, Math.min(from + maxBatchLocations, distinct.size()));
+            StringJoiner latitudes = new StringJoiner(",");
+            StringJoiner longitudes = new StringJoiner(",");
+            for (Coordinates coordinates : chunk) {
+                latitudes.add(String.valueOf(coordinates.getLatitude()));
+                longitudes.add(String.valueOf(coordinates.getLongitude()));
             }
+            try {
+                forecastRequests.incrementAndGet();
+                List<OpenMeteoResponse> responses = restTemplate.execute(
+                        bundleUrl(latitudes.toString(), longitudes.toString(), startDate, endDate), HttpMethod.GET, null,
+                        response -> OpenMeteoResponse.parseAll(response.getBody()));
+                if (responses == null || responses.size() != chunk.size()) {
+                    // Without one answer per location the positions cannot be trusted.
+                    logger.warn("Dropping forecast batch: expected {} locations in the response but got {}",
+                            chunk.size(), responses == null ? 0 : responses.size());
+                    continue;
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (responses.get(i) != null) {
+                        bundles.put(chunk.get(i), toBundle(responses.get(i)));
+                    }
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return bundles;
+    }
 
-            JsonNode hourly = root.get("hourly");
-            JsonNode times = hourly.get("time");
-            JsonNode temps = hourly.get("temperature_2m");
-            JsonNode precip = hourly.get("precipitation_probability");
-            JsonNode codes = hourly.get("weathercode");
-            JsonNode winds = hourly.get("windspeed_10m");
+    private String bundleUrl(String latitudes, String longitudes, LocalDate startDate, LocalDate endDate) {
+        return UriComponentsBuilder
+                .fromUriString(forecastApiUrl)
+                .queryParam("latitude", latitudes)
+                .queryParam("longitude", longitudes)
+                .queryParam("current", "temperature_2m")
+                .queryParam("daily", DAILY_VARIABLES)
+                .queryParam("hourly", HOURLY_VARIABLES)
+                .queryParam("start_date", startDate.toString())
+                .queryParam("end_date", endDate.toString())
+                .queryParam("timezone", "auto")
+                .queryParam("timeformat", "unixtime")
+                .toUriString();
+    }
 
-            if (times == null || !times.isArray()) {
-                return forecasts;
-            }
+    private ForecastBundle toBundle(OpenMeteoResponse response) {
+        ZoneId zone = zoneOf(response);
+        List<WeatherForecast> daily = parseDaily(response, zone, LocalDate.now(zone));
+        return new ForecastBundle(zone, daily, toSeries(response, zone), Instant.now());
+    }
 
-            for (int i = 0; i < times.size(); i++) {
-                LocalDateTime dateTime = LocalDateTime.parse(times.get(i).asText());
-                double temp = temps != null ? temps.get(i).asDouble() : 0.0;
-                double precipitation = precip != null ? precip.get(i).asDouble() / 100.0 : 0.0;
-                int code = codes != null ? codes.get(i).asInt() : 0;
-                double wind = winds != null ? winds.get(i).asDouble() : 0.0;
-                
-                String condition = mapWeatherCode(code);
-                
-                forecasts.add(new HourlyForecast(dateTime, temp, precipitation, condition, wind));
-            }
+    /**
+     * Streams the response body through {@link OpenMeteoResponse} instead of buffering it as a String.
+     */
+    private OpenMeteoResponse fetch(String url) {
+        forecastRequests.incrementAndGet();
+        return restTemplate.execute(url, HttpMethod.GET, null, response -> OpenMeteoResponse.parse(response.getBody()));
+    }
 
-            return forecasts;
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * Reads the "daily" block. The current temperature, if present, is attached to the entry for
+     * {@code today}; when {@code today} is null it goes on the first entry. Dates may be ISO
+     * strings or, with {@code timeformat=unixtime}, the epoch second of local midnight in {@code zone}.
+     */
+    private List<WeatherForecast> parseDaily(OpenMeteoResponse response, ZoneId zone, LocalDate today) {
+        OpenMeteoResponse.Columns daily = response.getDaily();
+        LocalDate[] dates = daily != null ? dailyDates(daily, zone) : null;
+        if (dates == null) {
             return new ArrayList<>();
         }
-    }
 
-    @Override
-    public EventWeather fetchForecastForTime(double latitude, double longitude, ZonedDateTime time) {
-        try {
-            String dateStr = time.toLocalDate().toString();
-            
-            String url = UriComponentsBuilder
-                    .fromUriString(forecastApiUrl)
-                    .queryParam("latitude", latitude)
-                    .queryParam("longitude", longitude)
-                    .queryParam("hourly", "temperature_2m,precipitation_probability,weathercode,windspeed_10m")
-                    .queryParam("start_date", dateStr)
-                    .queryParam("end_date", dateStr)
-                    .queryParam("timezone", "UTC") 
-                    .toUriString();
+        Double currentTemp = response.getCurrentTemperature();
+        double[] maxTemps = daily.numbers("temperature_2m_max");
+        double[] minTemps = daily.numbers("temperature_2m_min");
+        double[] precip = daily.numbers("precipitation_probability_mean");
+        double[] codes = daily.numbers("weathercode");
+        double[] winds = daily.numbers("windspeed_10m_max");
+
+        int maxIndex = commonLength(dates.length, maxTemps, minTemps, precip, codes, winds);
+        List<WeatherForecast> forecasts = new ArrayList<>(maxIndex);
+
+        for (int i = 0; i < maxIndex; i++) {
+            LocalDate date = dates[i];
+            double maxT = maxTemps != null ? maxTemps[i] : 0.0;
+            double minT = minTemps != null ? minTemps[i] : 0.0;
+            double precipitationChance = precip != null ? (precip[i] / 100.0) : 0.0;
+            int code = codes != null ? (int) codes[i] : -1;
+            double windSpeed = winds != null ? winds[i] : 0.0;
+
+            String condition = mapWeatherCode(code);
+
+            boolean isToday = today == null ? i == 0 : date.equals(today);
+            Double todayCurrentTemp = isToday ? currentTemp : null;
+
+            forecasts.add(new WeatherForecast(
+                    date,
+                    maxT,
+                    minT,
+                    condition,
+                    precipitationChance,
+                    windSpeed,
+                    todayCurrentTemp,
+                    code
+            ));
+        }
 
-            String json = restTemplate.getForObject(url, String.class);
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
+        return forecasts;
+    }
 
-            if (root == null || !root.has("hourly")) {
-                return null;
+    private static LocalDate[] dailyDates(OpenMeteoResponse.Columns daily, ZoneId zone) {
+        String[] isoDates = daily.texts("time");
+        if (isoDates != null) {
+            LocalDate[] dates = new LocalDate[isoDates.length];
+            for (int i = 0; i < dates.length; i++) {
+                dates[i] = LocalDate.parse(isoDates[i]);
             }
+            return dates;
+        }
+        double[] epochDates = daily.numbers("time");
+        if (epochDates == null) {
+            return null;
+        }
+        LocalDate[] dates = new LocalDate[epochDates.length];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.ofInstant(Instant.ofEpochSecond((long) epochDates[i]), zone);
+        }
+        return dates;
+    }
 
-            JsonNode hourly = root.get("hourly");
-            JsonNode times = hourly.get("time");
-            JsonNode temps = hourly.get("temperature_2m");
-            JsonNode precip = hourly.get("precipitation_probability");
-            JsonNode codes = hourly.get("weathercode");
-            JsonNode winds = hourly.get("windspeed_10m");
+    /**
+     * Builds a series from an "hourly" block requested with {@code timeformat=unixtime}.
+     * @return The series, or null if the block is missing or empty.
+     */
+    private static HourlySeries toSeries(OpenMeteoResponse response, ZoneId zone) {
+        OpenMeteoResponse.Columns hourly = response.getHourly();
+        double[] times = hourly != null ? hourly.numbers("time") : null;
+        if (times == null || times.length == 0) {
+            return null;
+        }
 
-            if (times == null || !times.isArray()) {
-                return null;
-            }
+        double[] temps = hourly.numbers("temperature_2m");
+        double[] precip = hourly.numbers("precipitation_probability");
+        double[] codes = hourly.numbers("weathercode");
+        double[] winds = hourly.numbers("windspeed_10m");
+
+        int size = commonLength(times.length, temps, precip, codes, winds);
+        double[] temperature = temps != null ? Arrays.copyOf(temps, size) : new double[size];
+        double[] precipitation = new double[size];
+        double[] wind = winds != null ? Arrays.copyOf(winds, size) : new double[size];
+        short[] weatherCode = new short[size];
+        for (int i = 0; i < size; i++) {
+            precipitation[i] = precip != null ? precip[i] / 100.0 : 0.0;
+            weatherCode[i] = codes != null ? (short) codes[i] : 0;
+        }
 
-            int closestIndex = -1;
-            long minDiff = Long.MAX_VALUE;
-            
-            Instant targetInstant = time.toInstant();
-            
-            for (int i = 0; i < times.size(); i++) {
-                LocalDateTime localDt = LocalDateTime.parse(times.get(i).asText());
-                ZonedDateTime zdt = localDt.atZone(ZoneId.of("UTC"));
-                
-                long diff = Math.abs(Duration.between(zdt.toInstant(), targetInstant).toMinutes());
-                
-                if (diff < minDiff) {
-                    minDiff = diff;
-                    closestIndex = i;
-                }
-            }
+        return new HourlySeries(zone, (long) times[0], temperature, precipitation, wind, weatherCode,
+                OpenMeteoWeatherRepository::mapWeatherCode);
+    }
 
-            if (closestIndex != -1) {
-                double temp = temps != null ? temps.get(closestIndex).asDouble() : 0.0;
-                double precipitation = precip != null ? precip.get(closestIndex).asDouble() : 0.0; 
-                int code = codes != null ? codes.get(closestIndex).asInt() : 0;
-                double wind = winds != null ? winds.get(closestIndex).asDouble() : 0.0;
-                
-                String condition = mapWeatherCode(code);
-                
-                return new EventWeather(temp, condition, precipitation / 100.0, wind);
+    private static ZoneId zoneOf(OpenMeteoResponse response) {
+        return response.getTimezone() != null ? ZoneId.of(response.getTimezone()) : ZoneOffset.UTC;
+    }
+
+    /**
+     * @return The number of rows every present column has a value for.
+     */
+    private static int commonLength(int length, double[]... columns) {
+        for (double[] column : columns) {
+            if (column != null) {
+                length = Math.min(length, column.length);
             }
+        }
+        return length;
+    }
+
+    @Override
+    public EventWeather fetchForecastForTime(double latitude, double longitude, ZonedDateTime time) {
+        Coordinates cell = new Coordinates(latitude, longitude).roundedTo(CachingWeatherRepository.COORDINATE_DECIMALS);
+        HourlySeries series = hourlySeriesStore.get(cell, this::fetchHorizonSeries);
+        if (series == null) {
+            return null;
+        }
+        return series.weatherAt(time.toInstant(), interpolateHourly);
+    }
+
+    /**
+     * Downloads the full hourly forecast horizon for a location in UTC, with epoch-second
+     * timestamps so that rows can be addressed by hour offset.
+     */
+    private HourlySeries fetchHorizonSeries(Coordinates cell) {
+        try {
+            String url = UriComponentsBuilder
+                    .fromUriString(forecastApiUrl)
+                    .queryParam("latitude", cell.getLatitude())
+                    .queryParam("longitude", cell.getLongitude())
+                    .queryParam("hourly", HOURLY_VARIABLES)
+                    .queryParam("past_days", 1)
+                    .queryParam("forecast_days", FORECAST_HORIZON_DAYS)
+                    .queryParam("timezone", "UTC")
+                    .queryParam("timeformat", "unixtime")
+                    .toUriString();
 
+            OpenMeteoResponse response = fetch(url);
+            return response != null ? toSeries(response, ZoneOffset.UTC) : null;
         } catch (Exception e) {
             e.printStackTrace();
+            return null;
         }
-        return null;
     }
 
     @Override
     public boolean resolveLocation(Location location) {
+        // Resolution overwrites the name and country, so remember what was asked for first.
+        String query = location.getCityName();
+        String countryHint = location.getCountry();
+        GeocodeCache.Entry cached = geocodeCache.get(query, countryHint);
+        if (cached != null) {
+            return cached.applyTo(location);
+        }
+
         boolean resolved = false;
-        
+        boolean lookupFailed = false;
         try {
-            String url = geocodingApiUrl + "?name=" + 
-                    URLEncoder.encode(location.getCityName(), StandardCharsets.UTF_8) +
-                    "&count=10&language=en";
-
-            String json = restTemplate.getForObject(url, String.class);
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
-            
-            if (root.has("results") && root.get("results").isArray() && root.get("results").size() > 0) {
-                JsonNode results = root.get("results");
-                JsonNode bestMatch = results.get(0); 
-
-                if (location.getCountry() != null && !location.getCountry().isEmpty()) {
-                    for (JsonNode result : results) {
-                        if (result.has("country") && 
-                            result.get("country").asText().equalsIgnoreCase(location.getCountry())) {
-                            bestMatch = result;
-                            break;
-                        }
-                    }
-                }
-
-                if (bestMatch.has("latitude") && bestMatch.has("longitude")) {
-                    location.setLatitude(bestMatch.get("latitude").asDouble());
-                    location.setLongitude(bestMatch.get("longitude").asDouble());
-                    
-                    if (bestMatch.has("name")) {
-                        location.setCityName(bestMatch.get("name").asText());
-                    }
-                    if (bestMatch.has("country")) {
-                        location.setCountry(bestMatch.get("country").asText());
-                    }
-                    resolved = true;
-                }
-            }
+            resolved = resolveWithOpenMeteo(location);
         } catch (Exception e) {
             e.printStackTrace();
+            lookupFailed = true;
         }
 
         if (!resolved) {
-            resolved = resolveWithNominatim(location);
+            try {
+                resolved = resolveWithNominatim(location);
+            } catch (Exception e) {
+                e.printStackTrace();
+                lookupFailed = true;
+            }
+        }
+
+        if (resolved) {
+            geocodeCache.putResolved(query, countryHint, location);
+        } else if (!lookupFailed) {
+            // Only a clean "no match" is remembered; a network error says nothing about the text.
+            geocodeCache.putMissing(query, countryHint);
         }
         return resolved;
     }
 
-    private boolean resolveWithNominatim(Location location) {
-        try {
-            String query = location.getCityName();
+    @Override
+    public long getForecastRequestCount() {
+        return forecastRequests.get();
+    }
+
+    @Override
+    public long getGeocodeRequestCount() {
+        return geocodeRequests.get();
+    }
+
+    private boolean resolveWithOpenMeteo(Location location) throws Exception {
+        String url = geocodingApiUrl + "?name=" + 
+                URLEncoder.encode(location.getCityName(), StandardCharsets.UTF_8) +
+                "&count=10&language=en";
+
+        geocodeRequests.incrementAndGet();
+        String json = restTemplate.getForObject(url, String.class);
+        JsonNode root = OBJECT_MAPPER.readTree(json);
+        
+        if (root.has("results") && root.get("results").isArray() && root.get("results").size() > 0) {
+            JsonNode results = root.get("results");
+            JsonNode bestMatch = results.get(0); 
+
             if (location.getCountry() != null && !location.getCountry().isEmpty()) {
-                query += ", " + location.getCountry();
+                for (JsonNode result : results) {
+                    if (result.has("country") && 
+                        result.get("country").asText().equalsIgnoreCase(location.getCountry())) {
+                        bestMatch = result;
+                        break;
+                    }
+                }
             }
 
-            String url = UriComponentsBuilder
-                    .fromUriString(nominatimApiUrl)
-                    .queryParam("q", query)
-                    .queryParam("format", "json")
-                    .queryParam("limit", 1)
-                    .toUriString();
+            if (bestMatch.has("latitude") && bestMatch.has("longitude")) {
+                location.setLatitude(bestMatch.get("latitude").asDouble());
+                location.setLongitude(bestMatch.get("longitude").asDouble());
+                
+                if (bestMatch.has("name")) {
+                    location.setCityName(bestMatch.get("name").asText());
+                }
+                if (bestMatch.has("country")) {
+                    location.setCountry(bestMatch.get("country").asText());
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean resolveWithNominatim(Location location) throws Exception {
+        String query = location.getCityName();
+        if (location.getCountry() != null && !location.getCountry().isEmpty()) {
+            query += ", " + location.getCountry();
+        }
 
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.set("User-Agent", "ClimateSync/1.0");
-            org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
-
-            org.springframework.http.ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    org.springframework.http.HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            if (response.getBody() != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode root = mapper.readTree(response.getBody());
-
-                if (root.isArray() && root.size() > 0) {
-                    JsonNode result = root.get(0);
-                    if (result.has("lat") && result.has("lon")) {
-                        location.setLatitude(result.get("lat").asDouble());
-                        location.setLongitude(result.get("lon").asDouble());
-                        
-                        if (result.has("display_name")) {
-                            String displayName = result.get("display_name").asText();
-                            String[] parts = displayName.split(",");
-                            location.setCityName(parts[0].trim());
-                            if (parts.length > 1) {
-                                location.setCountry(parts[parts.length - 1].trim());
-                            }
+        String url = UriComponentsBuilder
+                .fromUriString(nominatimApiUrl)
+                .queryParam("q", query)
+                .queryParam("format", "json")
+                .queryParam("limit", 1)
+                .toUriString();
+
+        org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
+        headers.set("User-Agent", "ClimateSync/1.0");
+        org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
+
+        geocodeRequests.incrementAndGet();
+        org.springframework.http.ResponseEntity<String> response = restTemplate.exchange(
+                url,
+                org.springframework.http.HttpMethod.GET,
+                entity,
+                String.class
+        );
+
+        if (response.getBody() != null) {
+            JsonNode root = OBJECT_MAPPER.readTree(response.getBody());
+
+            if (root.isArray() && root.size() > 0) {
+                JsonNode result = root.get(0);
+                if (result.has("lat") && result.has("lon")) {
+                    location.setLatitude(result.get("lat").asDouble());
+                    location.setLongitude(result.get("lon").asDouble());
+                    
+                    if (result.has("display_name")) {
+                        String displayName = result.get("display_name").asText();
+                        String[] parts = displayName.split(",");
+                        location.setCityName(parts[0].trim());
+                        if (parts.length > 1) {
+                            location.setCountry(parts[parts.length - 1].trim());
                         }
-                        return true;
                     }
+                    return true;
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
         return false;
     }
 
-    private String mapWeatherCode(int code) {
+    static String mapWeatherCode(int code) {
         switch (code) {
             case 0: return "Clear";
             case 1:
@@ -0,0 +1,58 @@
+package com.aurora.climatesync.model;
+
+/**
+ * One queued write to the calendar: creating, updating or deleting an event. Mutations are
+ * collected and applied together so many writes share a few round trips.
+ */
+public class CalendarMutation {
+
+    public enum Type { ADD, UPDATE, DELETE }
+
+    private final Type type;
+    private final CalendarEvent event;
+    private final String eventId;
+
+    private CalendarMutation(Type type, CalendarEvent event, String eventId) {
+        this.type = type;
+        this.event = event;
+        this.eventId = eventId;
+    }
+
+    public static CalendarMutation add(CalendarEvent event) {
+        return new CalendarMutation(Type.ADD, event, null);
+    }
+
+    /**
+     * Only the fields set on {@code event} are written; the event is identified by its ID.
+     */
+    public static CalendarMutation update(CalendarEvent event) {
+        return new CalendarMutation(Type.UPDATE, event, event.getEventID());
+    }
+
+    public static CalendarMutation delete(String eventId) {
+        return new CalendarMutation(Type.DELETE, null, eventId);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return The event to write, or null for a delete.
+     */
+    public CalendarEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * @return The ID of the event to change, or null for an add.
+     */
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String toString() {
+        return type + (eventId != null ? " " + eventId : "");
+    }
+}
@@ -0,0 +1,51 @@
+package com.aurora.climatesync.model;
+
+/**
+ * The outcome of one {@link CalendarMutation}. A batch can partly succeed, so each mutation
+ * reports on its own.
+ */
+public class CalendarMutationResult {
+
+    private final CalendarMutation mutation;
+    private final CalendarEvent event;
+    private final String error;
+
+    private CalendarMutationResult(CalendarMutation mutation, CalendarEvent event, String error) {
+        this.mutation = mutation;
+        this.event = event;
+        this.error = error;
+    }
+
+    /**
+     * @param event The event as stored by the calendar, or null for a delete.
+     */
+    public static CalendarMutationResult succeeded(CalendarMutation mutation, CalendarEvent event) {
+        return new CalendarMutationResult(mutation, event, null);
+    }
+
+    public static CalendarMutationResult failed(CalendarMutation mutation, String error) {
+        return new CalendarMutationResult(mutation, null, error);
+    }
+
+    public CalendarMutation getMutation() {
+        return mutation;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return The stored event after an add or update; null for deletes and failures.
+     */
+    public CalendarEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * @return Why the mutation failed, or null if it succeeded.
+     */
+    public String getError() {
+        return error;
+    }
+}
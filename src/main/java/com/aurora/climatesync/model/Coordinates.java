@@ -0,0 +1,54 @@
+package com.aurora.climatesync.model;
+
+/**
+ * An immutable latitude/longitude pair, used as a key when grouping or caching weather lookups.
+ */
+public class Coordinates {
+    private final double latitude;
+    private final double longitude;
+
+    public Coordinates(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static Coordinates of(Location location) {
+        return new Coordinates(location.getLatitude(), location.getLongitude());
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Snaps these coordinates to a grid cell. Two decimals is roughly 1 km, which is finer than
+     * the forecast model resolution, so points in the same cell get the same forecast.
+     */
+    public Coordinates roundedTo(int decimals) {
+        double scale = Math.pow(10, decimals);
+        return new Coordinates(Math.round(latitude * scale) / scale, Math.round(longitude * scale) / scale);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Coordinates)) return false;
+        Coordinates that = (Coordinates) o;
+        return Double.compare(that.latitude, latitude) == 0 &&
+                Double.compare(that.longitude, longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + latitude + ", " + longitude + ")";
+    }
+}
@@ -0,0 +1,157 @@
+package com.aurora.climatesync.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily and hourly forecasts for one location over a date range, as returned by a single
+ * forecast request. Hourly times are local to the forecast's time zone. The bundle remembers when
+ * its data was fetched, so a copy handed out by a cache can still say how old it is.
+ */
+public class ForecastBundle {
+    private final ZoneId zone;
+    private final List<WeatherForecast> dailyForecasts;
+    private final List<HourlyForecast> hourlyForecasts;
+    private final HourlySeries hourlySeries;
+    private final Instant fetchedAt;
+    private final Map<LocalDate, WeatherForecast> dailyByDate = new LinkedHashMap<>();
+
+    public ForecastBundle(ZoneId zone, List<WeatherForecast> dailyForecasts, List<HourlyForecast> hourlyForecasts) {
+        this(zone, dailyForecasts, hourlyForecasts, null, Instant.now());
+    }
+
+    public ForecastBundle(ZoneId zone, List<WeatherForecast> dailyForecasts, HourlySeries hourlySeries) {
+        this(zone, dailyForecasts, hourlySeries, Instant.now());
+    }
+
+    /**
+     * @param fetchedAt When the forecast was received from upstream.
+     */
+    public ForecastBundle(ZoneId zone, List<WeatherForecast> dailyForecasts, HourlySeries hourlySeries, Instant fetchedAt) {
+        this(zone, dailyForecasts, hourlySeries == null ? null : hourlySeries.asForecasts(), hourlySeries, fetchedAt);
+    }
+
+    private ForecastBundle(ZoneId zone, List<WeatherForecast> dailyForecasts, List<HourlyForecast> hourlyForecasts,
+                           HourlySeries hourlySeries, Instant fetchedAt) {
+        this.zone = zone;
+        this.dailyForecasts = dailyForecasts == null ? Collections.emptyList() : dailyForecasts;
+        this.hourlyForecasts = hourlyForecasts == null ? Collections.emptyList() : hourlyForecasts;
+        this.hourlySeries = hourlySeries;
+        this.fetchedAt = fetchedAt;
+        for (WeatherForecast forecast : this.dailyForecasts) {
+            dailyByDate.put(forecast.getDate(), forecast);
+        }
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public List<WeatherForecast> getDailyForecasts() {
+        return dailyForecasts;
+    }
+
+    public List<HourlyForecast> getHourlyForecasts() {
+        return hourlyForecasts;
+    }
+
+    /**
+     * @return The hourly forecasts falling on the given local date, in time order.
+     */
+    public List<HourlyForecast> getHourlyForecasts(LocalDate date) {
+        List<HourlyForecast> hours = new ArrayList<>();
+        for (HourlyForecast hour : hourlyForecasts) {
+            if (hour.getDateTime().toLocalDate().equals(date)) {
+                hours.add(hour);
+            }
+        }
+        return hours;
+    }
+
+    /**
+     * @return The hourly data in columnar form, or null if the bundle was built from a list.
+     */
+    public HourlySeries getHourlySeries() {
+        return hourlySeries;
+    }
+
+    /**
+     * @return The days from {@code from} to {@code to} (inclusive) with their hours, or this bundle if
+     * it holds nothing outside them. A cut-down bundle keeps its hours as a list.
+     */
+    public ForecastBundle between(LocalDate from, LocalDate to) {
+        List<WeatherForecast> days = new ArrayList<>();
+        for (WeatherForecast forecast : dailyForecasts) {
+            if (!forecast.getDate().isBefore(from) && !forecast.getDate().isAfter(to)) {
+                days.add(forecast);
+            }
+        }
+        List<HourlyForecast> hours = new ArrayList<>();
+        for (HourlyForecast hour : hourlyForecasts) {
+            LocalDate date = hour.getDateTime().toLocalDate();
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                hours.add(hour);
+            }
+        }
+        if (days.size() == dailyForecasts.size() && hours.size() == hourlyForecasts.size()) {
+            return this;
+        }
+        return new ForecastBundle(zone, days, hours, null, fetchedAt);
+    }
+
+    public WeatherForecast getDailyForecast(LocalDate date) {
+        return dailyByDate.get(date);
+    }
+
+    /**
+     * Returns the weather for the hour closest to the given instant, or null if the instant is
+     * more than an hour outside the range covered by this bundle.
+     */
+    public EventWeather getWeatherAt(ZonedDateTime time) {
+        if (hourlySeries != null) {
+            return hourlySeries.weatherAt(time.toInstant(), false);
+        }
+        if (hourlyForecasts.isEmpty()) {
+            return null;
+        }
+        LocalDateTime target = time.withZoneSameInstant(zone).toLocalDateTime();
+
+        int low = 0;
+        int high = hourlyForecasts.size() - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hourlyForecasts.get(mid).getDateTime().isBefore(target)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int closest = low;
+        if (low > 0 && distanceMinutes(hourlyForecasts.get(low - 1), target) <= distanceMinutes(hourlyForecasts.get(low), target)) {
+            closest = low - 1;
+        }
+
+        HourlyForecast hour = hourlyForecasts.get(closest);
+        if (distanceMinutes(hour, target) > 60) {
+            return null;
+        }
+        return new EventWeather(hour.getTemperature(), hour.getCondition(), hour.getPrecipitationProbability(), hour.getWindSpeed());
+    }
+
+    private static long distanceMinutes(HourlyForecast hour, LocalDateTime target) {
+        return Math.abs(Duration.between(hour.getDateTime(), target).toMinutes());
+    }
+}
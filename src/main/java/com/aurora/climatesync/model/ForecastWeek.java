@@ -0,0 +1,49 @@
+package com.aurora.climatesync.model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * The coming week at a location, which starts on the location's own date rather than this
+ * machine's. The location's time zone is only known once its forecast comes back, so the request
+ * covers every date that is "today" somewhere on Earth and {@link #of} cuts the answer down to the
+ * seven days that start today where the forecast is.
+ */
+public final class ForecastWeek {
+
+    public static final int DAYS = 7;
+
+    /** The furthest behind and ahead of UTC that any place keeps its clocks. */
+    private static final ZoneOffset EARLIEST = ZoneOffset.ofHours(-12);
+    private static final ZoneOffset LATEST = ZoneOffset.ofHours(14);
+
+    private ForecastWeek() {
+    }
+
+    /**
+     * @return The first date to request: today at the place where it is earliest.
+     */
+    public static LocalDate firstRequestedDate() {
+        return LocalDate.now(EARLIEST);
+    }
+
+    /**
+     * @return The last date to request: the last day of the week at the place where it is latest.
+     */
+    public static LocalDate lastRequestedDate() {
+        return LocalDate.now(LATEST).plusDays(DAYS - 1);
+    }
+
+    /**
+     * @return The days of the bundle from today in its own time zone, for a week, or null if there is no bundle.
+     */
+    public static ForecastBundle of(ForecastBundle bundle) {
+        if (bundle == null) {
+            return null;
+        }
+        ZoneId zone = bundle.getZone() != null ? bundle.getZone() : ZoneOffset.UTC;
+        LocalDate today = LocalDate.now(zone);
+        return bundle.between(today, today.plusDays(DAYS - 1));
+    }
+}
@@ -0,0 +1,140 @@
+package com.aurora.climatesync.model;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Hourly forecast values for one location, stored column by column: one primitive array per
+ * variable, with row {@code i} falling exactly {@code i} hours after the first row. Compared with a
+ * list of {@link HourlyForecast} objects this needs no per-hour objects at all, and the row for any
+ * instant is found by arithmetic instead of searching.
+ *
+ * <p>{@link #asForecasts()} offers the same data as a {@code List<HourlyForecast>} for code that
+ * works with individual hours.
+ */
+public class HourlySeries {
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private final ZoneId zone;
+    private final long startEpochSecond;
+    private final double[] temperature;
+    private final double[] precipitationProbability; // 0.0–1.0
+    private final double[] windSpeed;
+    private final short[] weatherCode;
+    private final IntFunction<String> conditionForCode;
+
+    /**
+     * @param zone             Time zone used when presenting rows as local date-times.
+     * @param startEpochSecond Epoch second of the first row; later rows follow at one-hour steps.
+     * @param conditionForCode Turns a provider weather code into a condition name such as "Rainy".
+     */
+    public HourlySeries(ZoneId zone, long startEpochSecond, double[] temperature, double[] precipitationProbability,
+                        double[] windSpeed, short[] weatherCode, IntFunction<String> conditionForCode) {
+        this.zone = zone;
+        this.startEpochSecond = startEpochSecond;
+        this.temperature = temperature;
+        this.precipitationProbability = precipitationProbability;
+        this.windSpeed = windSpeed;
+        this.weatherCode = weatherCode;
+        this.conditionForCode = conditionForCode;
+    }
+
+    public int size() {
+        return temperature.length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public long getStartEpochSecond() {
+        return startEpochSecond;
+    }
+
+    public Instant getInstant(int index) {
+        return Instant.ofEpochSecond(startEpochSecond + index * SECONDS_PER_HOUR);
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        return LocalDateTime.ofInstant(getInstant(index), zone);
+    }
+
+    public double getTemperature(int index) {
+        return temperature[index];
+    }
+
+    public double getPrecipitationProbability(int index) {
+        return precipitationProbability[index];
+    }
+
+    public double getWindSpeed(int index) {
+        return windSpeed[index];
+    }
+
+    public int getWeatherCode(int index) {
+        return weatherCode[index];
+    }
+
+    public String getCondition(int index) {
+        return conditionForCode.apply(weatherCode[index]);
+    }
+
+    /**
+     * Returns the weather at the given instant, or null if it falls outside the series.
+     * @param interpolate If true, temperature, precipitation and wind are blended linearly between
+     *                    the two surrounding hours; otherwise the nearest hour is used as is.
+     */
+    public EventWeather weatherAt(Instant instant, boolean interpolate) {
+        double hours = (double) (instant.getEpochSecond() - startEpochSecond) / SECONDS_PER_HOUR;
+        int nearest = (int) Math.round(hours);
+        if (nearest < 0 || nearest >= size()) {
+            return null;
+        }
+        String condition = getCondition(nearest);
+
+        int before = (int) Math.floor(hours);
+        if (!interpolate || before < 0 || before + 1 >= size()) {
+            return new EventWeather(temperature[nearest], condition, precipitationProbability[nearest], windSpeed[nearest]);
+        }
+        double fraction = hours - before;
+        return new EventWeather(
+                lerp(temperature, before, fraction),
+                condition,
+                lerp(precipitationProbability, before, fraction),
+                lerp(windSpeed, before, fraction));
+    }
+
+    /**
+     * A read-only list view of the series. Each {@link HourlyForecast} is created when it is read,
+     * so the view itself costs nothing until it is used.
+     */
+    public List<HourlyForecast> asForecasts() {
+        return new ForecastView();
+    }
+
+    private static double lerp(double[] values, int index, double fraction) {
+        return values[index] + (values[index + 1] - values[index]) * fraction;
+    }
+
+    private class ForecastView extends AbstractList<HourlyForecast> implements RandomAccess {
+        @Override
+        public HourlyForecast get(int index) {
+            return new HourlyForecast(getDateTime(index), temperature[index], precipitationProbability[index],
+                    getCondition(index), windSpeed[index]);
+        }
+
+        @Override
+        public int size() {
+            return HourlySeries.this.size();
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package com.aurora.climatesync.presenter;
 
-import java.util.List;
-
 public interface DashboardContract {
     interface View {
-        void showEvents(List<DashboardViewModel> events);
+        void showEvents(EventIndex events);
         void showLoading(String message);
         void showError(String message);
     }
@@ -8,6 +8,7 @@ import com.aurora.climatesync.service.DashboardService;
 import com.aurora.climatesync.util.WeatherIconMapper;
 
 import javax.swing.*;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +17,9 @@ public class DashboardPresenter implements DashboardContract.Presenter {
     private final DashboardContract.View view;
     private final DashboardService dashboardService;
     private final CalendarService calendarService;
+    /** How far ahead the default load lists events. */
+    static final int WINDOW_DAYS = 60;
+    private SwingWorker<Void, List<DashboardViewModel>> streamWorker;
     private List<DashboardViewModel> allEvents = new ArrayList<>();
 
     public DashboardPresenter(DashboardContract.View view, DashboardService dashboardService, CalendarService calendarService) {
@@ -29,9 +33,63 @@ public class DashboardPresenter implements DashboardContract.Presenter {
         loadEvents();
     }
 
+    /**
+     * Loads every event in the next {@link #WINDOW_DAYS} days. Each page is shown as soon as it has
+     * been enriched, so the first events appear while later pages are still on their way. Pages of
+     * a cold sync are in no particular order, so {@link EventIndex} puts what has arrived in start
+     * order each time.
+     */
     @Override
     public void loadEvents() {
-        loadEvents(25);
+        if (streamWorker != null) {
+            streamWorker.cancel(true);
+        }
+        view.showLoading("Loading events...");
+        ZonedDateTime from = ZonedDateTime.now();
+        ZonedDateTime to = from.plusDays(WINDOW_DAYS);
+
+        SwingWorker<Void, List<DashboardViewModel>> worker = new SwingWorker<>() {
+            private final List<DashboardViewModel> loaded = new ArrayList<>();
+
+            @Override
+            protected Void doInBackground() {
+                dashboardService.streamDashboardEvents(from, to, page -> {
+                    if (!isCancelled()) {
+                        publish(page.stream()
+                                .map(DashboardPresenter.this::mapToViewModel)
+                                .collect(Collectors.toList()));
+                    }
+                });
+                return null;
+            }
+
+            @Override
+            protected void process(List<List<DashboardViewModel>> pages) {
+                if (isCancelled()) {
+                    return;
+                }
+                pages.forEach(loaded::addAll);
+                allEvents = new ArrayList<>(loaded);
+                view.showEvents(EventIndex.of(allEvents));
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    get();
+                    allEvents = new ArrayList<>(loaded);
+                    view.showEvents(EventIndex.of(allEvents));
+                } catch (Exception e) {
+                    view.showError("Failed to load events: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        };
+        streamWorker = worker;
+        worker.execute();
     }
 
     @Override
@@ -52,7 +110,7 @@ public class DashboardPresenter implements DashboardContract.Presenter {
                 try {
                     List<DashboardViewModel> viewModels = get();
                     allEvents = viewModels;
-                    view.showEvents(viewModels);
+                    view.showEvents(EventIndex.of(viewModels));
                 } catch (Exception e) {
                     view.showError("Failed to load events: " + e.getMessage());
                     e.printStackTrace();
@@ -65,7 +123,7 @@ public class DashboardPresenter implements DashboardContract.Presenter {
     @Override
     public void onSearchQuery(String query) {
         if (query == null || query.trim().isEmpty()) {
-            view.showEvents(allEvents);
+            view.showEvents(EventIndex.of(allEvents));
             return;
         }
         String lowerQuery = query.toLowerCase().trim();
@@ -73,10 +131,10 @@ public class DashboardPresenter implements DashboardContract.Presenter {
                 .filter(e -> e.getTitle().toLowerCase().contains(lowerQuery) ||
                         (e.getDescription() != null && e.getDescription().toLowerCase().contains(lowerQuery)))
                 .collect(Collectors.toList());
-        view.showEvents(filtered);
+        view.showEvents(EventIndex.of(filtered));
     }
 
-    private DashboardViewModel mapToViewModel(DashboardEvent event) {
+    DashboardViewModel mapToViewModel(DashboardEvent event) {
         String weatherIcon = null;
         String tempDisplay = null;
         String weatherMessage = null;
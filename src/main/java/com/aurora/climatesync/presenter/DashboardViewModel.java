@@ -4,6 +4,7 @@ import com.aurora.climatesync.model.WeatherForecast;
 
 import java.awt.Color;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 
 public class DashboardViewModel {
     private final String eventId;
@@ -52,4 +53,22 @@ public class DashboardViewModel {
     public Object getSourceEvent() { return sourceEvent; }
     public int getWeatherCode() { return weatherCode; }
     public WeatherForecast getWeatherForecast() { return weatherForecast; }
+
+    /**
+     * @return A stable key for this event across loads: its ID, or its title and start if it has none.
+     */
+    public String getKey() {
+        return eventId != null ? eventId : title + "@" + startTime;
+    }
+
+    /**
+     * @return A hash of everything the views draw for this event, so a view can tell whether a
+     *         rendered card is still current.
+     */
+    public int contentHash() {
+        Double min = weatherForecast != null ? weatherForecast.getMinTemperature() : null;
+        Double max = weatherForecast != null ? weatherForecast.getMaxTemperature() : null;
+        return Objects.hash(eventId, title, description, location, startTime, endTime, colorId,
+                weatherIcon, temperatureDisplay, weatherMessage, weatherCode, min, max);
+    }
 }
@@ -0,0 +1,79 @@
+package com.aurora.climatesync.presenter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The loaded events grouped by the local date they start on, each day in start order. The
+ * presenter builds it once per load so the Day, Week and Month views can look up a day directly
+ * instead of scanning every event for every cell they draw.
+ */
+public class EventIndex {
+
+    private static final EventIndex EMPTY = new EventIndex(Collections.emptyList());
+    private static final Comparator<DashboardViewModel> BY_START =
+            Comparator.comparing(DashboardViewModel::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<DashboardViewModel> all;
+    private final NavigableMap<LocalDate, List<DashboardViewModel>> byDate = new TreeMap<>();
+
+    private EventIndex(List<DashboardViewModel> events) {
+        // Sync pages come in no particular order across pages, so the whole list is sorted here.
+        List<DashboardViewModel> sorted = new ArrayList<>(events);
+        sorted.sort(BY_START);
+        this.all = Collections.unmodifiableList(sorted);
+        for (DashboardViewModel event : events) {
+            if (event.getStartTime() != null) {
+                byDate.computeIfAbsent(event.getStartTime().toLocalDate(), date -> new ArrayList<>()).add(event);
+            }
+        }
+        byDate.replaceAll((date, day) -> {
+            day.sort(BY_START);
+            return Collections.unmodifiableList(day);
+        });
+    }
+
+    public static EventIndex of(List<DashboardViewModel> events) {
+        return events.isEmpty() ? EMPTY : new EventIndex(events);
+    }
+
+    public static EventIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return Every event, by start time.
+     */
+    public List<DashboardViewModel> getAll() {
+        return all;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public boolean isEmpty() {
+        return all.isEmpty();
+    }
+
+    /**
+     * @return The events starting on {@code date}, by start time.
+     */
+    public List<DashboardViewModel> onDay(LocalDate date) {
+        return byDate.getOrDefault(date, Collections.emptyList());
+    }
+
+    /**
+     * @return The events starting between {@code from} and {@code to}, both inclusive, by start time.
+     */
+    public List<DashboardViewModel> between(LocalDate from, LocalDate to) {
+        List<DashboardViewModel> range = new ArrayList<>();
+        byDate.subMap(from, true, to, true).values().forEach(range::addAll);
+        return range;
+    }
+}
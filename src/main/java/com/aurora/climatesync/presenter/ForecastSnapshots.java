@@ -0,0 +1,80 @@
+package com.aurora.climatesync.presenter;
+
+import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.Location;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The last forecast the Weather tab showed for each recently viewed place, so going back to a
+ * city can show it at once while a fresh copy loads. It also remembers which location each
+ * recent query resolved to, so a repeated search finds its snapshot without geocoding first.
+ *
+ * <p>Not thread-safe; the presenter only touches it on the Event Dispatch Thread.
+ */
+class ForecastSnapshots {
+
+    static final int MAX_PLACES = 16;
+
+    private final Map<String, Snapshot> byPlace = lru();
+    private final Map<String, Location> byQuery = lru();
+
+    /**
+     * @return The location a recent search for this query resolved to, or null.
+     */
+    Location resolvedLocation(String query) {
+        return byQuery.get(LocationAutocomplete.normalize(query));
+    }
+
+    /**
+     * @return The last forecast shown for this place, or null.
+     */
+    Snapshot get(Location location) {
+        return byPlace.get(placeKey(location));
+    }
+
+    /**
+     * Records a freshly loaded forecast.
+     * @param fetchedAt When the forecast data was fetched, which for a cached forecast is earlier than now.
+     */
+    Snapshot put(String query, Location location, String displayName,
+                 List<WeatherViewModel> forecasts, List<HourlyForecast> hourlyForecasts, Instant fetchedAt) {
+        Snapshot snapshot = new Snapshot(displayName, forecasts, hourlyForecasts, fetchedAt);
+        byPlace.put(placeKey(location), snapshot);
+        byQuery.put(LocationAutocomplete.normalize(query), location);
+        return snapshot;
+    }
+
+    /** Places closer than ~1 km share a snapshot, the same rounding the forecast cache uses. */
+    private static String placeKey(Location location) {
+        return String.format(Locale.ROOT, "%.2f,%.2f", location.getLatitude(), location.getLongitude());
+    }
+
+    private static <V> Map<String, V> lru() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > MAX_PLACES;
+            }
+        };
+    }
+
+    static final class Snapshot {
+        final String displayName;
+        final List<WeatherViewModel> forecasts;
+        final List<HourlyForecast> hourlyForecasts;
+        final Instant fetchedAt;
+
+        Snapshot(String displayName, List<WeatherViewModel> forecasts, List<HourlyForecast> hourlyForecasts,
+                 Instant fetchedAt) {
+            this.displayName = displayName;
+            this.forecasts = forecasts;
+            this.hourlyForecasts = hourlyForecasts;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
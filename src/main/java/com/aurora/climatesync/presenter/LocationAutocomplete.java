@@ -0,0 +1,225 @@
+package com.aurora.climatesync.presenter;
+
+import com.aurora.climatesync.model.Location;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Turns keystrokes in the location box into suggestions. A lookup only starts once typing pauses
+ * for the debounce delay, and starting one cancels the lookup it supersedes, so a late answer for
+ * an old query never replaces a newer one. Answers are cached by query. Typing more letters reuses
+ * the cached answer for the shorter query as long as every candidate still matches; once the
+ * filtered list shrinks, the filtered candidates are shown while the longer query is looked up,
+ * since the source may have left out matches to keep its answer short.
+ *
+ * <p>All methods must be called on the Event Dispatch Thread; suggestions are delivered there too.
+ */
+public class LocationAutocomplete {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationAutocomplete.class);
+
+    public static final int DEFAULT_DEBOUNCE_MILLIS = 150;
+    public static final int MAX_SUGGESTIONS = 8;
+    static final int MIN_QUERY_LENGTH = 2;
+    private static final int CACHE_SIZE = 64;
+
+    private final Function<String, List<Location>> lookup;
+    private final Consumer<List<Location>> onSuggestions;
+    private final Timer debounce;
+    private final Map<String, List<Location>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Location>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private String pendingQuery;
+    private SwingWorker<List<Location>, Void> inFlight;
+    private int lookupCount;
+
+    /**
+     * @param lookup Finds up to {@link #MAX_SUGGESTIONS} locations for a normalised query; runs off the EDT.
+     * @param onSuggestions Receives the ranked suggestions, or an empty list to hide them.
+     */
+    public LocationAutocomplete(Function<String, List<Location>> lookup, Consumer<List<Location>> onSuggestions) {
+        this(lookup, onSuggestions, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public LocationAutocomplete(Function<String, List<Location>> lookup, Consumer<List<Location>> onSuggestions,
+                                int debounceMillis) {
+        this.lookup = lookup;
+        this.onSuggestions = onSuggestions;
+        this.debounce = new Timer(debounceMillis, e -> startLookup());
+        this.debounce.setRepeats(false);
+    }
+
+    public void onQueryChanged(String text) {
+        String query = normalize(text);
+        if (query.length() < MIN_QUERY_LENGTH) {
+            cancel();
+            onSuggestions.accept(new ArrayList<>());
+            return;
+        }
+
+        List<Location> cached = fromCache(query);
+        if (cached != null) {
+            cancel();
+            onSuggestions.accept(cached);
+            return;
+        }
+
+        List<Location> prefixed = cachedPrefix(query);
+        if (prefixed != null) {
+            List<Location> interim = startingWith(query, prefixed);
+            if (!interim.isEmpty()) {
+                onSuggestions.accept(rank(query, interim));
+            }
+        }
+        pendingQuery = query;
+        debounce.restart();
+    }
+
+    /** Drops any pending or running lookup, e.g. once the user has submitted a search. */
+    public void cancel() {
+        debounce.stop();
+        pendingQuery = null;
+        if (inFlight != null) {
+            inFlight.cancel(true);
+            inFlight = null;
+        }
+    }
+
+    /**
+     * @return How many lookups have been started; cache hits and debounced keystrokes do not count.
+     */
+    public int getLookupCount() {
+        return lookupCount;
+    }
+
+    private void startLookup() {
+        String query = pendingQuery;
+        pendingQuery = null;
+        if (query == null) {
+            return;
+        }
+        // A lookup that finished during the debounce may already cover this query.
+        List<Location> cached = fromCache(query);
+        if (cached != null) {
+            onSuggestions.accept(cached);
+            return;
+        }
+        if (inFlight != null) {
+            inFlight.cancel(true);
+        }
+        lookupCount++;
+
+        SwingWorker<List<Location>, Void> worker = new SwingWorker<>() {
+            @Override
+            protected List<Location> doInBackground() {
+                return lookup.apply(query);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || inFlight != this) {
+                    return;
+                }
+                inFlight = null;
+                try {
+                    List<Location> found = get();
+                    cache.put(query, found == null ? new ArrayList<>() : found);
+                } catch (InterruptedException | ExecutionException e) {
+                    logger.debug("Location suggestions failed for '{}': {}", query, e.getMessage());
+                    return;
+                }
+                if (pendingQuery != null) {
+                    // The user kept typing while this ran; answer the newer query only if these candidates cover it.
+                    List<Location> covered = fromCache(pendingQuery);
+                    if (covered != null) {
+                        debounce.stop();
+                        pendingQuery = null;
+                        onSuggestions.accept(covered);
+                    }
+                    return;
+                }
+                onSuggestions.accept(rank(query, cache.get(query)));
+            }
+        };
+        inFlight = worker;
+        worker.execute();
+    }
+
+    /**
+     * @return Suggestions for the query without a lookup, or null if it has to be looked up.
+     */
+    private List<Location> fromCache(String query) {
+        List<Location> exact = cache.get(query);
+        if (exact != null) {
+            return rank(query, exact);
+        }
+        List<Location> candidates = cachedPrefix(query);
+        if (candidates == null) {
+            return null;
+        }
+        // No source says its answer was exhaustive, so a shorter list only means the query has to be asked.
+        List<Location> filtered = startingWith(query, candidates);
+        if (filtered.isEmpty() || filtered.size() < candidates.size()) {
+            return null;
+        }
+        cache.put(query, filtered);
+        return rank(query, filtered);
+    }
+
+    /**
+     * @return The answer for the longest cached prefix of the query, which holds the closest candidates, or null.
+     */
+    private List<Location> cachedPrefix(String query) {
+        for (int length = query.length() - 1; length >= MIN_QUERY_LENGTH; length--) {
+            List<Location> candidates = cache.get(query.substring(0, length));
+            if (candidates != null) {
+                return candidates;
+            }
+        }
+        return null;
+    }
+
+    private static List<Location> startingWith(String query, List<Location> candidates) {
+        List<Location> filtered = new ArrayList<>();
+        for (Location candidate : candidates) {
+            if (normalize(candidate.getCityName()).startsWith(query)) {
+                filtered.add(candidate);
+            }
+        }
+        return filtered;
+    }
+
+    /** Exact names first, then names starting with the query, otherwise in the order they were found. */
+    static List<Location> rank(String query, List<Location> locations) {
+        List<Location> ranked = new ArrayList<>(locations);
+        ranked.sort(Comparator.comparingInt(location -> {
+            String name = normalize(location.getCityName());
+            return name.equals(query) ? 0 : name.startsWith(query) ? 1 : 2;
+        }));
+        return ranked.size() > MAX_SUGGESTIONS ? new ArrayList<>(ranked.subList(0, MAX_SUGGESTIONS)) : ranked;
+    }
+
+    /** Lower case and trimmed, keeping only the part before a comma ("Toronto, Ca" looks up "toronto"). */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        int comma = text.indexOf(',');
+        String name = comma >= 0 ? text.substring(0, comma) : text;
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
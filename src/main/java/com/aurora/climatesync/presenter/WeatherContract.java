@@ -1,7 +1,9 @@
 package com.aurora.climatesync.presenter;
 
 import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.Location;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface WeatherContract {
@@ -11,10 +13,19 @@ public interface WeatherContract {
         void showWeather(String city, List<WeatherViewModel> forecasts);
         void updateChart(List<HourlyForecast> hourlyForecasts);
         void showError(String message);
+        /**
+         * Shows when the displayed forecast was fetched.
+         * @param refreshing true while a newer copy is still loading in the background.
+         */
+        void showUpdatedAt(Instant fetchedAt, boolean refreshing);
+        /** Shows the location suggestions under the search box; an empty list hides them. */
+        void showSuggestions(List<Location> suggestions);
     }
 
     interface Presenter {
         void onSearch(String query);
+        void onQueryChanged(String text);
+        void onSuggestionSelected(Location location);
         void onViewReady();
     }
 }
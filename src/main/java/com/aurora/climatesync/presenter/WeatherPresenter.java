@@ -1,6 +1,7 @@
 package com.aurora.climatesync.presenter;
 
 import com.aurora.climatesync.exception.LocationNotFoundException;
+import com.aurora.climatesync.model.ForecastBundle;
 import com.aurora.climatesync.model.HourlyForecast;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
@@ -10,8 +11,11 @@ import com.aurora.climatesync.util.WeatherIconMapper;
 import com.aurora.climatesync.view.WeatherClimateMapper;
 
 import javax.swing.*;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -19,11 +23,17 @@ public class WeatherPresenter implements WeatherContract.Presenter {
     private final WeatherContract.View view;
     private final WeatherService weatherService;
     private final SearchService searchService;
+    private final LocationAutocomplete autocomplete;
+    private final ForecastSnapshots snapshots = new ForecastSnapshots();
+    private SwingWorker<WeatherResult, Void> searchWorker;
 
     public WeatherPresenter(WeatherContract.View view, WeatherService weatherService, SearchService searchService) {
         this.view = view;
         this.weatherService = weatherService;
         this.searchService = searchService;
+        this.autocomplete = new LocationAutocomplete(
+                query -> searchService.suggestLocations(query, LocationAutocomplete.MAX_SUGGESTIONS),
+                view::showSuggestions);
     }
 
     @Override
@@ -34,55 +44,108 @@ public class WeatherPresenter implements WeatherContract.Presenter {
 
     @Override
     public void onSearch(String query) {
+        autocomplete.cancel();
+        view.showSuggestions(new ArrayList<>());
         if (query == null || query.trim().isEmpty()) {
             view.showError("Please enter a location.");
             return;
         }
+        String label = query.trim();
+        load(label, null, () -> searchService.searchLocation(label));
+    }
+
+    @Override
+    public void onQueryChanged(String text) {
+        autocomplete.onQueryChanged(text);
+    }
+
+    @Override
+    public void onSuggestionSelected(Location location) {
+        autocomplete.cancel();
+        view.showSuggestions(new ArrayList<>());
+        // The suggestion already carries its coordinates, so there is nothing left to geocode.
+        load(location.getCityName(), location, () -> location);
+    }
 
-        view.showLoading("Searching for " + query.trim() + "...");
+    /**
+     * Resolves the location and loads its forecast. A newer search cancels this one, so results
+     * from an older query never replace those of a newer one. If the place was viewed recently its
+     * last forecast is shown straight away and the load refreshes it in the background.
+     * @param known The location if it is already resolved, or null to look up the query first.
+     */
+    private void load(String label, Location known, Callable<Location> resolve) {
+        if (searchWorker != null) {
+            searchWorker.cancel(true);
+        }
+        Location location = known != null ? known : snapshots.resolvedLocation(label);
+        ForecastSnapshots.Snapshot stale = location != null ? snapshots.get(location) : null;
+        if (stale != null) {
+            view.showWeather(stale.displayName, stale.forecasts);
+            view.updateChart(stale.hourlyForecasts);
+            view.showUpdatedAt(stale.fetchedAt, true);
+        } else {
+            view.showLoading("Searching for " + label + "...");
+        }
 
-        new SwingWorker<WeatherResult, Void>() {
+        SwingWorker<WeatherResult, Void> worker = new SwingWorker<>() {
             private Location resolvedLocation;
 
             @Override
             protected WeatherResult doInBackground() throws Exception {
-                resolvedLocation = searchService.searchLocation(query.trim());  // ← REAL LOCATION FROM API
+                resolvedLocation = location != null ? location : resolve.call();  // ← REAL LOCATION FROM API
                 if (resolvedLocation.isUnknown()) {
                     return null;
                 }
-                List<WeatherForecast> forecasts = weatherService.getWeeklyForecast(resolvedLocation);
-                List<HourlyForecast> hourlyForecasts = weatherService.getHourlyForecast(resolvedLocation, LocalDate.now());
+                // One request for both the week and today's hours.
+                ForecastBundle bundle = weatherService.getWeeklyBundle(resolvedLocation);
+                if (bundle == null) {
+                    return null;
+                }
+                List<WeatherForecast> forecasts = bundle.getDailyForecasts();
+                List<HourlyForecast> hourlyForecasts = bundle.getHourlyForecasts(LocalDate.now(bundle.getZone()));
                 List<WeatherViewModel> viewModels = forecasts.stream()
                         .map(WeatherPresenter.this::mapToViewModel)
                         .collect(Collectors.toList());
-                return new WeatherResult(viewModels, hourlyForecasts);
+                return new WeatherResult(viewModels, hourlyForecasts, bundle.getFetchedAt());
             }
 
             @Override
             protected void done() {
+                if (isCancelled() || searchWorker != this) {
+                    return;
+                }
+                WeatherResult result;
                 try {
-                    WeatherResult result = get();
-                    view.hideLoading();
-
-                    if (result == null || resolvedLocation == null || resolvedLocation.isUnknown()) {
-                        view.showError("Location not found: " + query.trim());
-                        return;
-                    }
-
-                    String displayName = resolvedLocation.getCityName();
-                    if (resolvedLocation.getCountry() != null && !resolvedLocation.getCountry().isEmpty()) {
-                        displayName += ", " + resolvedLocation.getCountry();
+                    result = get();
+                } catch (Exception e) {
+                    result = null;
+                }
+                view.hideLoading();
+
+                if (result == null || resolvedLocation == null || resolvedLocation.isUnknown()) {
+                    if (stale != null) {
+                        // Keep showing the last forecast, with its original time, rather than an error.
+                        view.showUpdatedAt(stale.fetchedAt, false);
+                    } else {
+                        view.showError("Location not found: " + label);
                     }
+                    return;
+                }
 
-                    view.showWeather(displayName, result.viewModels);
-                    view.updateChart(result.hourlyForecasts);
-
-                } catch (Exception e) {
-                    view.hideLoading();
-                    view.showError("Location not found: " + query.trim());
+                String displayName = resolvedLocation.getCityName();
+                if (resolvedLocation.getCountry() != null && !resolvedLocation.getCountry().isEmpty()) {
+                    displayName += ", " + resolvedLocation.getCountry();
                 }
+                ForecastSnapshots.Snapshot fresh = snapshots.put(label, resolvedLocation, displayName,
+                        result.viewModels, result.hourlyForecasts, result.fetchedAt);
+
+                view.showWeather(displayName, result.viewModels);
+                view.updateChart(result.hourlyForecasts);
+                view.showUpdatedAt(fresh.fetchedAt, false);
             }
-        }.execute();
+        };
+        searchWorker = worker;
+        worker.execute();
     }
 
     private WeatherViewModel mapToViewModel(WeatherForecast forecast) {
@@ -119,10 +182,12 @@ public class WeatherPresenter implements WeatherContract.Presenter {
     private static class WeatherResult {
         final List<WeatherViewModel> viewModels;
         final List<HourlyForecast> hourlyForecasts;
+        final Instant fetchedAt;
 
-        WeatherResult(List<WeatherViewModel> viewModels, List<HourlyForecast> hourlyForecasts) {
+        WeatherResult(List<WeatherViewModel> viewModels, List<HourlyForecast> hourlyForecasts, Instant fetchedAt) {
             this.viewModels = viewModels;
             this.hourlyForecasts = hourlyForecasts;
+            this.fetchedAt = fetchedAt;
         }
     }
 }
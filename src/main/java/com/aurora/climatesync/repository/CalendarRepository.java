@@ -1,14 +1,36 @@
 package com.aurora.climatesync.repository;
 
 import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.CalendarMutation;
+import com.aurora.climatesync.model.CalendarMutationResult;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface CalendarRepository {
     List<CalendarEvent> getUpcomingEvents();
     List<CalendarEvent> getUpcomingEvents(int maxResults);
+
+    /**
+     * Lists every event overlapping {@code [timeMin, timeMax)}, a page at a time, each page in start
+     * order. Unlike {@link #getUpcomingEvents(int)} there is no cap on the number of events.
+     */
+    EventPages listEvents(ZonedDateTime timeMin, ZonedDateTime timeMax);
+
+    /*
+     * Single writes, one request each. The dashboard makes one edit per dialog and shows its
+     * outcome (the stored event or the error) straight away, so it has nothing to batch.
+     */
     CalendarEvent addEvent(CalendarEvent event);
     void updateEvent(CalendarEvent event);
     void deleteEvent(String eventId);
+
+    /**
+     * Applies many writes together, sending them in as few requests as the calendar allows. Meant
+     * for bulk changes; a single edit gains nothing from it and should use the single writes.
+     * A failed mutation does not stop the others.
+     * @return One result per mutation, in the same order.
+     */
+    List<CalendarMutationResult> applyMutations(List<CalendarMutation> mutations);
     String connect() throws Exception;
     boolean isConnected();
 }
@@ -0,0 +1,101 @@
+package com.aurora.climatesync.repository;
+
+import com.aurora.climatesync.model.CalendarEvent;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Calendar events delivered a page at a time, each page in start order. Pages are fetched
+ * lazily; an implementation may already be fetching the next page while the caller works on the
+ * current one, so callers should close it when they stop early.
+ */
+public interface EventPages extends Iterator<List<CalendarEvent>>, AutoCloseable {
+
+    /**
+     * Stops any fetch still in flight. Further calls to {@link #hasNext()} return false.
+     */
+    @Override
+    void close();
+
+    /**
+     * @return Pages for an unconnected calendar: there are none.
+     */
+    static EventPages empty() {
+        return new EventPages() {
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public List<CalendarEvent> next() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * @return The pages of {@code first}, then those of the source {@code then} supplies once
+     * {@code first} has run out, so a source that depends on how the first listing went is only
+     * opened after it.
+     */
+    static EventPages concat(EventPages first, Supplier<EventPages> then) {
+        return new EventPages() {
+            private EventPages current = first;
+            private boolean switched;
+
+            @Override
+            public boolean hasNext() {
+                if (!current.hasNext() && !switched) {
+                    switched = true;
+                    current = then.get();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public List<CalendarEvent> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+
+            @Override
+            public void close() {
+                switched = true;
+                current.close();
+            }
+        };
+    }
+
+    /**
+     * @return A single page holding the given events, for sources that have everything at once.
+     */
+    static EventPages of(List<CalendarEvent> events) {
+        Iterator<List<CalendarEvent>> pages = Collections.singletonList(events).iterator();
+        return new EventPages() {
+            @Override
+            public boolean hasNext() {
+                return pages.hasNext();
+            }
+
+            @Override
+            public List<CalendarEvent> next() {
+                return pages.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -5,4 +5,10 @@ import java.util.List;
 
 public interface LocationRepository {
     List<Location> searchLocations(String query, int maxResults);
+
+    /**
+     * Candidates for a partly typed name, for suggestions while typing. Cheaper than
+     * {@link #searchLocations}: at most one network request and no query rewriting.
+     */
+    List<Location> suggestLocations(String prefix, int maxResults);
 }
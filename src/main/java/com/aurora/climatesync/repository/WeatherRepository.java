@@ -1,17 +1,55 @@
 package com.aurora.climatesync.repository;
 
+import com.aurora.climatesync.model.Coordinates;
 import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
 import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface WeatherRepository {
     List<WeatherForecast> fetchWeeklyForecast(double latitude, double longitude);
     List<HourlyForecast> fetchHourlyForecast(double latitude, double longitude, LocalDate date);
     EventWeather fetchForecastForTime(double latitude, double longitude, ZonedDateTime time);
+
+    /**
+     * Fetches hourly forecasts for every hour from the start of startDate to the end of endDate
+     * (inclusive), in the location's local time, as a columnar series.
+     * @return The series, or null if it could not be fetched.
+     */
+    HourlySeries fetchHourlySeries(double latitude, double longitude, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Fetches daily and hourly forecasts covering every date from startDate to endDate (inclusive)
+     * in a single upstream request.
+     */
+    ForecastBundle fetchForecastBundle(double latitude, double longitude, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Fetches forecast bundles for several locations over the same date range, sending as many
+     * locations per upstream request as allowed.
+     * @return Bundles keyed by the coordinates as passed in. Locations that could not be fetched
+     * are left out.
+     */
+    Map<Coordinates, ForecastBundle> fetchForecastBundles(Collection<Coordinates> locations, LocalDate startDate, LocalDate endDate);
     boolean resolveLocation(Location location);
+
+    /**
+     * @return How many forecast requests have been sent upstream so far; answers served from a
+     * cache or shared with a request already in flight are not counted.
+     */
+    long getForecastRequestCount();
+
+    /**
+     * @return How many geocoding requests have been sent upstream so far; locations resolved from
+     * the geocode cache are not counted.
+     */
+    long getGeocodeRequestCount();
 }
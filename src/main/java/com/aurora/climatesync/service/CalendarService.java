@@ -1,14 +1,21 @@
 package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.CalendarMutation;
+import com.aurora.climatesync.model.CalendarMutationResult;
+import com.aurora.climatesync.repository.EventPages;
+
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface CalendarService {
     List<CalendarEvent> getUpcomingEvents();
     List<CalendarEvent> getUpcomingEvents(int maxResults);
+    EventPages listEvents(ZonedDateTime timeMin, ZonedDateTime timeMax);
     CalendarEvent addEvent(CalendarEvent event);
     void updateEvent(CalendarEvent event);
     void deleteEvent(String eventId);
+    List<CalendarMutationResult> applyMutations(List<CalendarMutation> mutations);
     String connect() throws Exception;
     boolean isConnected();
 }
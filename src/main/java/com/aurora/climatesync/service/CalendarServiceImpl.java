@@ -1,9 +1,13 @@
 package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.CalendarMutation;
+import com.aurora.climatesync.model.CalendarMutationResult;
 import com.aurora.climatesync.repository.CalendarRepository;
+import com.aurora.climatesync.repository.EventPages;
 import org.springframework.stereotype.Service;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 @Service
@@ -25,6 +29,11 @@ public class CalendarServiceImpl implements CalendarService {
         return calendarRepository.getUpcomingEvents(maxResults);
     }
 
+    @Override
+    public EventPages listEvents(ZonedDateTime timeMin, ZonedDateTime timeMax) {
+        return calendarRepository.listEvents(timeMin, timeMax);
+    }
+
     @Override
     public CalendarEvent addEvent(CalendarEvent event) {
         return calendarRepository.addEvent(event);
@@ -40,6 +49,11 @@ public class CalendarServiceImpl implements CalendarService {
         calendarRepository.deleteEvent(eventId);
     }
 
+    @Override
+    public List<CalendarMutationResult> applyMutations(List<CalendarMutation> mutations) {
+        return calendarRepository.applyMutations(mutations);
+    }
+
     @Override
     public String connect() throws Exception {
         return calendarRepository.connect();
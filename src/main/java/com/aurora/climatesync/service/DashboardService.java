@@ -1,7 +1,9 @@
 package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.model.DashboardEvent;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface DashboardService {
     /**
@@ -16,4 +18,13 @@ public interface DashboardService {
      * @return List of DashboardEvents containing both calendar and weather data.
      */
     List<DashboardEvent> getDashboardEvents(int limit);
+
+    /**
+     * Streams every event in a time window, enriching and handing over one page at a time so the
+     * first events can be shown while later pages are still being fetched.
+     * @param from Start of the window (inclusive).
+     * @param to End of the window (exclusive).
+     * @param onPage Called on the calling thread with each enriched page, in start order.
+     */
+    void streamDashboardEvents(ZonedDateTime from, ZonedDateTime to, Consumer<List<DashboardEvent>> onPage);
 }
@@ -2,24 +2,28 @@ package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.model.CalendarEvent;
 import com.aurora.climatesync.model.DashboardEvent;
-import com.aurora.climatesync.model.WeatherForecast;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.aurora.climatesync.repository.EventPages;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
-    private static final Logger logger = LoggerFactory.getLogger(DashboardServiceImpl.class);
     private final CalendarService calendarService;
-    private final WeatherService weatherService;
+    private final WeatherEnrichmentEngine enrichmentEngine;
 
     public DashboardServiceImpl(CalendarService calendarService, WeatherService weatherService) {
+        this(calendarService, new WeatherEnrichmentEngine(weatherService));
+    }
+
+    @Autowired
+    public DashboardServiceImpl(CalendarService calendarService, WeatherEnrichmentEngine enrichmentEngine) {
         this.calendarService = calendarService;
-        this.weatherService = weatherService;
+        this.enrichmentEngine = enrichmentEngine;
     }
 
     @Override
@@ -30,23 +34,18 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     public List<DashboardEvent> getDashboardEvents(int limit) {
         List<CalendarEvent> events = calendarService.getUpcomingEvents(limit);
-        List<DashboardEvent> dashboardEvents = new ArrayList<>();
-
-        for (CalendarEvent event : events) {
-            WeatherForecast forecast = null;
-            com.aurora.climatesync.model.EventWeather eventWeather = null;
-            if (event.getEventLocation() != null) {
-                try {
-                    forecast = weatherService.getForecastForDate(event.getEventLocation(), event.getStartTime().toLocalDate());
-                    eventWeather = weatherService.getForecastForTime(event.getEventLocation(), event.getStartTime());
-                } catch (Exception e) {
-                    // Log error but continue processing other events
-                    logger.error("Could not fetch weather for event: {}", event.getSummary(), e);
+        return enrichmentEngine.enrich(events);
+    }
+
+    @Override
+    public void streamDashboardEvents(ZonedDateTime from, ZonedDateTime to, Consumer<List<DashboardEvent>> onPage) {
+        try (EventPages pages = calendarService.listEvents(from, to)) {
+            while (pages.hasNext()) {
+                List<CalendarEvent> page = pages.next();
+                if (!page.isEmpty()) {
+                    onPage.accept(enrichmentEngine.enrich(page));
                 }
             }
-            dashboardEvents.add(new DashboardEvent(event, forecast, eventWeather));
         }
-
-        return dashboardEvents;
     }
 }
@@ -0,0 +1,56 @@
+package com.aurora.climatesync.service;
+
+/**
+ * Counters for a single dashboard load, used to check that upstream calls scale with the number
+ * of distinct locations rather than the number of events.
+ */
+public class EnrichmentStats {
+    private final int eventCount;
+    private final int locationCount;
+    private final int geocodeRequests;
+    private final int forecastRequests;
+    private final long elapsedMillis;
+
+    public EnrichmentStats(int eventCount, int locationCount, int geocodeRequests, int forecastRequests, long elapsedMillis) {
+        this.eventCount = eventCount;
+        this.locationCount = locationCount;
+        this.geocodeRequests = geocodeRequests;
+        this.forecastRequests = forecastRequests;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getLocationCount() {
+        return locationCount;
+    }
+
+    public int getGeocodeRequests() {
+        return geocodeRequests;
+    }
+
+    public int getForecastRequests() {
+        return forecastRequests;
+    }
+
+    public int getUpstreamRequests() {
+        return geocodeRequests + forecastRequests;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrichmentStats{" +
+                "events=" + eventCount +
+                ", locations=" + locationCount +
+                ", geocodeRequests=" + geocodeRequests +
+                ", forecastRequests=" + forecastRequests +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
@@ -5,6 +5,7 @@ import com.aurora.climatesync.repository.LocationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -30,4 +31,15 @@ public class SearchService {
         List<Location> results = locationRepository.searchLocations(cleaned.toLowerCase(), 1);
         return results.isEmpty() ? Location.unknown() : results.get(0);
     }
+
+    /**
+     * @return Up to {@code maxResults} candidates for a partly typed location, best first.
+     */
+    public List<Location> suggestLocations(String query, int maxResults) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Location> results = locationRepository.suggestLocations(query.trim().toLowerCase(), maxResults);
+        return results == null ? new ArrayList<>() : results;
+    }
 }
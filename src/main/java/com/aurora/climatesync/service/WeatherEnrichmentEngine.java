@@ -0,0 +1,242 @@
+package com.aurora.climatesync.service;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.DashboardEvent;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.model.WeatherForecast;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enriches calendar events with weather. Events are first grouped by location so that each
+ * distinct place is geocoded once, concurrently on a bounded executor; then the places are
+ * fetched in batched forecast calls, one executor task per batch. Requests that have not finished
+ * when the per-dashboard deadline expires are cancelled and only the affected events are returned
+ * without weather, so a slow upstream cannot hold up the list.
+ */
+public class WeatherEnrichmentEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeatherEnrichmentEngine.class);
+
+    public static final int DEFAULT_POOL_SIZE = 8;
+    public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(8);
+    /** Locations per forecast batch, matching the upstream's default batch size. */
+    public static final int DEFAULT_BATCH_LOCATIONS = 10;
+
+    private static ExecutorService defaultExecutor;
+
+    private final WeatherService weatherService;
+    private final ExecutorService executor;
+    private final Duration deadline;
+    private final int batchLocations;
+    private volatile EnrichmentStats lastStats;
+
+    public WeatherEnrichmentEngine(WeatherService weatherService) {
+        this(weatherService, sharedDefaultExecutor(), DEFAULT_DEADLINE);
+    }
+
+    public WeatherEnrichmentEngine(WeatherService weatherService, ExecutorService executor, Duration deadline) {
+        this(weatherService, executor, deadline, DEFAULT_BATCH_LOCATIONS);
+    }
+
+    public WeatherEnrichmentEngine(WeatherService weatherService, ExecutorService executor, Duration deadline,
+                                   int batchLocations) {
+        this.weatherService = weatherService;
+        this.executor = executor;
+        this.deadline = deadline;
+        this.batchLocations = Math.max(1, batchLocations);
+    }
+
+    /**
+     * Looks up the daily forecast and the event-time weather for every event.
+     * @param events The calendar events to enrich, in display order.
+     * @return One DashboardEvent per input event, in the same order.
+     */
+    public List<DashboardEvent> enrich(List<CalendarEvent> events) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + deadline.toNanos();
+        // Counted where requests leave the process, so cache hits and shared in-flight requests
+        // are not included. Loads that overlap are counted in each other's stats.
+        long geocodeBefore = weatherService.getGeocodeRequestCount();
+        long forecastBefore = weatherService.getForecastRequestCount();
+
+        resolveLocations(events, deadlineNanos);
+
+        WeatherFetchPlan plan = WeatherFetchPlan.forEvents(events, LocalDate.now());
+        Map<Coordinates, ForecastBundle> bundles = fetchBundles(plan, deadlineNanos);
+
+        List<DashboardEvent> dashboardEvents = new ArrayList<>(events.size());
+        for (CalendarEvent event : events) {
+            WeatherForecast forecast = null;
+            EventWeather eventWeather = null;
+            Coordinates cell = plan.cellFor(event);
+            ForecastBundle bundle = cell == null ? null : bundles.get(cell);
+            if (bundle != null) {
+                forecast = bundle.getDailyForecast(event.getStartTime().toLocalDate());
+                eventWeather = bundle.getWeatherAt(event.getStartTime());
+            }
+            dashboardEvents.add(new DashboardEvent(event, forecast, eventWeather));
+        }
+
+        lastStats = new EnrichmentStats(events.size(), plan.getGroups().size(),
+                (int) (weatherService.getGeocodeRequestCount() - geocodeBefore),
+                (int) (weatherService.getForecastRequestCount() - forecastBefore),
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        logger.info("Dashboard enrichment: {}", lastStats);
+        return dashboardEvents;
+    }
+
+    /**
+     * @return Counters from the most recent call to {@link #enrich(List)}, or null before the first.
+     */
+    public EnrichmentStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Fetches the cells in the plan over the plan's whole date range, a batch of cells per
+     * executor task, so a dashboard spanning many places costs a few upstream requests rather than
+     * one per place and the batches run side by side.
+     * @return The bundles by cell; cells whose batch failed or missed the deadline are left out.
+     */
+    private Map<Coordinates, ForecastBundle> fetchBundles(WeatherFetchPlan plan, long deadlineNanos) {
+        if (plan.getGroups().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Coordinates> cells = new ArrayList<>(plan.getCells());
+        List<Future<Map<Coordinates, ForecastBundle>>> pending = new ArrayList<>();
+        for (int from = 0; from < cells.size(); from += batchLocations) {
+            List<Coordinates> batch = cells.subList(from, Math.min(from + batchLocations, cells.size()));
+            pending.add(executor.submit(() ->
+                    weatherService.getForecastBundles(batch, plan.getStartDate(), plan.getEndDate())));
+        }
+
+        Map<Coordinates, ForecastBundle> bundles = new HashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            int from = i * batchLocations;
+            Map<Coordinates, ForecastBundle> batch = await(pending.get(i), deadlineNanos, "forecasts for locations "
+                    + (from + 1) + "-" + Math.min(from + batchLocations, cells.size()) + " of " + cells.size());
+            if (batch != null) {
+                bundles.putAll(batch);
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * Geocodes each distinct unresolved location text once and copies the result to every event
+     * that shares it.
+     */
+    private void resolveLocations(List<CalendarEvent> events, long deadlineNanos) {
+        Map<String, List<Location>> unresolved = new LinkedHashMap<>();
+        for (CalendarEvent event : events) {
+            Location location = event.getEventLocation();
+            if (location == null || !location.isUnknown() || !isGeocodable(location)) {
+                continue;
+            }
+            unresolved.computeIfAbsent(textKey(location), k -> new ArrayList<>()).add(location);
+        }
+
+        Map<String, Future<Boolean>> pending = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Location>> entry : unresolved.entrySet()) {
+            Location representative = entry.getValue().get(0);
+            pending.put(entry.getKey(), executor.submit(() -> weatherService.resolveLocation(representative)));
+        }
+        for (Map.Entry<String, Future<Boolean>> entry : pending.entrySet()) {
+            Boolean resolved = await(entry.getValue(), deadlineNanos, "location '" + entry.getKey() + "'");
+            if (Boolean.TRUE.equals(resolved)) {
+                List<Location> sharing = unresolved.get(entry.getKey());
+                Location representative = sharing.get(0);
+                for (Location location : sharing.subList(1, sharing.size())) {
+                    location.setCityName(representative.getCityName());
+                    location.setCountry(representative.getCountry());
+                    location.setLatitude(representative.getLatitude());
+                    location.setLongitude(representative.getLongitude());
+                }
+            }
+        }
+    }
+
+    private static boolean isGeocodable(Location location) {
+        String name = location.getCityName();
+        return name != null && !name.isEmpty() && !name.equals("Unknown");
+    }
+
+    private static String textKey(Location location) {
+        String country = location.getCountry() == null ? "" : location.getCountry().trim().toLowerCase();
+        return location.getCityName().trim().toLowerCase() + "|" + country;
+    }
+
+    private <T> T await(Future<T> future, long deadlineNanos, String description) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Weather lookup ({}) missed the {} ms dashboard deadline", description, deadline.toMillis());
+        } catch (ExecutionException e) {
+            // Log error but continue processing other events
+            logger.error("Could not fetch weather ({})", description, e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the executor used for weather lookups. On runtimes that support virtual threads the
+     * pool's workers are virtual; on Java 17 they are ordinary daemon platform threads. Either way
+     * at most {@code poolSize} lookups run at once.
+     */
+    public static ExecutorService newExecutor(int poolSize, boolean preferVirtualThreads) {
+        ThreadFactory factory = preferVirtualThreads ? virtualThreadFactory() : null;
+        if (factory == null) {
+            AtomicInteger counter = new AtomicInteger();
+            factory = runnable -> {
+                Thread thread = new Thread(runnable, "weather-enrichment-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        return Executors.newFixedThreadPool(Math.max(1, poolSize), factory);
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null; // Virtual threads are not available on this JDK
+        }
+    }
+
+    private static synchronized ExecutorService sharedDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = newExecutor(DEFAULT_POOL_SIZE, true);
+        }
+        return defaultExecutor;
+    }
+}
@@ -0,0 +1,144 @@
+package com.aurora.climatesync.service;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.Location;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Groups dashboard events by forecast grid cell so that each distinct location is fetched once,
+ * with a date range wide enough to answer every event in the group.
+ */
+public class WeatherFetchPlan {
+
+    /** Cells are ~1 km across, finer than the forecast model grid. */
+    public static final int CELL_DECIMALS = 2;
+    /** Open-Meteo serves at most 16 forecast days, today included. */
+    public static final int FORECAST_HORIZON_DAYS = 16;
+
+    private final Map<Coordinates, Group> groups = new LinkedHashMap<>();
+
+    private WeatherFetchPlan() {
+    }
+
+    /**
+     * Builds a plan for the events whose locations already have coordinates. Events outside the
+     * forecast horizon are left out, and so are cells with no event inside it.
+     */
+    public static WeatherFetchPlan forEvents(List<CalendarEvent> events, LocalDate today) {
+        WeatherFetchPlan plan = new WeatherFetchPlan();
+        LocalDate horizon = today.plusDays(FORECAST_HORIZON_DAYS - 1);
+
+        for (CalendarEvent event : events) {
+            Location location = event.getEventLocation();
+            if (location == null || location.isUnknown() || event.getStartTime() == null) {
+                continue;
+            }
+            LocalDate date = event.getStartTime().toLocalDate();
+            if (date.isAfter(horizon)) {
+                continue;
+            }
+            Coordinates cell = Coordinates.of(location).roundedTo(CELL_DECIMALS);
+            plan.groups.computeIfAbsent(cell, Group::new).add(date, horizon);
+        }
+        return plan;
+    }
+
+    public Collection<Group> getGroups() {
+        return groups.values();
+    }
+
+    /**
+     * @return The cells of every group, for fetching them together in one batch.
+     */
+    public Set<Coordinates> getCells() {
+        return groups.keySet();
+    }
+
+    /**
+     * @return The earliest start date of any group, or null if the plan is empty.
+     */
+    public LocalDate getStartDate() {
+        LocalDate start = null;
+        for (Group group : groups.values()) {
+            if (start == null || group.getStartDate().isBefore(start)) {
+                start = group.getStartDate();
+            }
+        }
+        return start;
+    }
+
+    /**
+     * @return The latest end date of any group, or null if the plan is empty.
+     */
+    public LocalDate getEndDate() {
+        LocalDate end = null;
+        for (Group group : groups.values()) {
+            if (end == null || group.getEndDate().isAfter(end)) {
+                end = group.getEndDate();
+            }
+        }
+        return end;
+    }
+
+    /**
+     * @return The cell the event was planned under, or null if it is not part of the plan.
+     */
+    public Coordinates cellFor(CalendarEvent event) {
+        Location location = event.getEventLocation();
+        if (location == null || location.isUnknown()) {
+            return null;
+        }
+        Coordinates cell = Coordinates.of(location).roundedTo(CELL_DECIMALS);
+        return groups.containsKey(cell) ? cell : null;
+    }
+
+    /**
+     * One upstream fetch: a grid cell and the dates needed for it. The range is padded by a day
+     * on each side because an event's local date can differ from the date at the location.
+     */
+    public static class Group {
+        private final Coordinates cell;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private int eventCount;
+
+        Group(Coordinates cell) {
+            this.cell = cell;
+        }
+
+        private void add(LocalDate date, LocalDate horizon) {
+            LocalDate start = date.minusDays(1);
+            LocalDate end = date.plusDays(1).isAfter(horizon) ? horizon : date.plusDays(1);
+            if (startDate == null || start.isBefore(startDate)) {
+                startDate = start;
+            }
+            if (endDate == null || end.isAfter(endDate)) {
+                endDate = end;
+            }
+            eventCount++;
+        }
+
+        public Coordinates getCell() {
+            return cell;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public int getEventCount() {
+            return eventCount;
+        }
+    }
+}
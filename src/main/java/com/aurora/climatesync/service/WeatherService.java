@@ -1,19 +1,61 @@
 package com.aurora.climatesync.service;
 
+import com.aurora.climatesync.model.Coordinates;
 import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
 import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface WeatherService {
     List<WeatherForecast> getWeeklyForecast(double latitude, double longitude);
     List<WeatherForecast> getWeeklyForecast(Location location);
     List<HourlyForecast> getHourlyForecast(Location location, LocalDate date);
+
+    /**
+     * Retrieves the week's daily forecasts, with today's current temperature, together with their
+     * hourly forecasts in one upstream request.
+     * @return The bundle, or null if it could not be fetched.
+     * @throws com.aurora.climatesync.exception.LocationNotFoundException if the location cannot be resolved.
+     */
+    ForecastBundle getWeeklyBundle(Location location);
+
+    /**
+     * Retrieves hourly forecasts for a date range as a columnar series.
+     * @throws com.aurora.climatesync.exception.LocationNotFoundException if the location cannot be resolved.
+     */
+    HourlySeries getHourlySeries(Location location, LocalDate startDate, LocalDate endDate);
     WeatherForecast getForecastForDate(Location location, LocalDate date);
     EventWeather getForecastForTime(Location location, ZonedDateTime time);
+
+    /**
+     * Geocodes the location in place if it has no coordinates yet.
+     * @return true if the location has usable coordinates afterwards.
+     */
+    boolean resolveLocation(Location location);
+
+    /**
+     * Retrieves forecast bundles for several already-resolved locations over one date range,
+     * batching the upstream requests.
+     * @return Bundles keyed by the given coordinates; locations that could not be fetched are left out.
+     */
+    Map<Coordinates, ForecastBundle> getForecastBundles(Collection<Coordinates> locations, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * @return How many forecast requests have actually been sent upstream so far.
+     */
+    long getForecastRequestCount();
+
+    /**
+     * @return How many geocoding requests have actually been sent upstream so far.
+     */
+    long getGeocodeRequestCount();
 }
 
@@ -1,8 +1,12 @@
 package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.exception.LocationNotFoundException;
+import com.aurora.climatesync.model.Coordinates;
 import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.ForecastWeek;
 import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.HourlySeries;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
 import com.aurora.climatesync.repository.WeatherRepository;
@@ -11,7 +15,10 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class WeatherServiceImpl implements WeatherService {
@@ -30,32 +37,28 @@ public class WeatherServiceImpl implements WeatherService {
 
     @Override
     public List<WeatherForecast> getWeeklyForecast(Location location) {
-        if ((location.getLatitude() == 0.0 && location.getLongitude() == 0.0)
-                && location.getCityName() != null && !location.getCityName().isEmpty()
-                && !location.getCityName().equalsIgnoreCase("Unknown")) {
-            weatherRepository.resolveLocation(location);
-        }
-
-        if (location.getLatitude() == 0.0 && location.getLongitude() == 0.0) {
-            throw new LocationNotFoundException("Could not find location: " + location.getCityName());
-        }
-
+        requireCoordinates(location);
         return getWeeklyForecast(location.getLatitude(), location.getLongitude());
     }
 
     @Override
     public List<HourlyForecast> getHourlyForecast(Location location, LocalDate date) {
-        if ((location.getLatitude() == 0.0 && location.getLongitude() == 0.0)
-                && location.getCityName() != null && !location.getCityName().isEmpty()
-                && !location.getCityName().equalsIgnoreCase("Unknown")) {
-            weatherRepository.resolveLocation(location);
-        }
+        requireCoordinates(location);
+        return weatherRepository.fetchHourlyForecast(location.getLatitude(), location.getLongitude(), date);
+    }
 
-        if (location.getLatitude() == 0.0 && location.getLongitude() == 0.0) {
-            throw new LocationNotFoundException("Could not find location: " + location.getCityName());
-        }
+    @Override
+    public ForecastBundle getWeeklyBundle(Location location) {
+        requireCoordinates(location);
+        // The week starts on the location's date, which is only known once the forecast is back.
+        return ForecastWeek.of(weatherRepository.fetchForecastBundle(location.getLatitude(), location.getLongitude(),
+                ForecastWeek.firstRequestedDate(), ForecastWeek.lastRequestedDate()));
+    }
 
-        return weatherRepository.fetchHourlyForecast(location.getLatitude(), location.getLongitude(), date);
+    @Override
+    public HourlySeries getHourlySeries(Location location, LocalDate startDate, LocalDate endDate) {
+        requireCoordinates(location);
+        return weatherRepository.fetchHourlySeries(location.getLatitude(), location.getLongitude(), startDate, endDate);
     }
 
     @Override
@@ -72,14 +75,18 @@ public class WeatherServiceImpl implements WeatherService {
             return null;
         }
 
+        // The caching repository keeps the week, so lookups for other dates do not refetch it
         List<WeatherForecast> weekly = getWeeklyForecast(location.getLatitude(), location.getLongitude());
+        if (weekly == null) {
+            return null;
+        }
 
         for (WeatherForecast f : weekly) {
             if (f.getDate().equals(date)) {
                 return f;
             }
         }
-        return null; 
+        return null;
     }
 
     @Override
@@ -98,5 +105,50 @@ public class WeatherServiceImpl implements WeatherService {
 
         return weatherRepository.fetchForecastForTime(location.getLatitude(), location.getLongitude(), time);
     }
-}
 
+    @Override
+    public boolean resolveLocation(Location location) {
+        if (location.getLatitude() == 0 && location.getLongitude() == 0) {
+            if (location.getCityName() != null && !location.getCityName().equals("Unknown") && !location.getCityName().isEmpty()) {
+                weatherRepository.resolveLocation(location);
+            } else {
+                return false;
+            }
+        }
+        return !(location.getLatitude() == 0 && location.getLongitude() == 0);
+    }
+
+    @Override
+    public Map<Coordinates, ForecastBundle> getForecastBundles(Collection<Coordinates> locations, LocalDate startDate, LocalDate endDate) {
+        if (locations.isEmpty()) {
+            return new HashMap<>();
+        }
+        return weatherRepository.fetchForecastBundles(locations, startDate, endDate);
+    }
+
+    @Override
+    public long getForecastRequestCount() {
+        return weatherRepository.getForecastRequestCount();
+    }
+
+    @Override
+    public long getGeocodeRequestCount() {
+        return weatherRepository.getGeocodeRequestCount();
+    }
+
+    /**
+     * Geocodes the location if it only has a name.
+     * @throws LocationNotFoundException if it still has no coordinates.
+     */
+    private void requireCoordinates(Location location) {
+        if ((location.getLatitude() == 0.0 && location.getLongitude() == 0.0)
+                && location.getCityName() != null && !location.getCityName().isEmpty()
+                && !location.getCityName().equalsIgnoreCase("Unknown")) {
+            weatherRepository.resolveLocation(location);
+        }
+
+        if (location.getLatitude() == 0.0 && location.getLongitude() == 0.0) {
+            throw new LocationNotFoundException("Could not find location: " + location.getCityName());
+        }
+    }
+}
@@ -1,18 +1,101 @@
 package com.aurora.climatesync.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
 import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Loads weather icons from the classpath and keeps them. Each file is decoded once and each
+ * (file, size) pair is scaled once, so re-rendering a view reuses the same {@link ImageIcon}
+ * instances. Missing files are remembered too, so they are only reported once.
+ */
 public class WeatherIconLoader {
 
+    private static final Logger logger = LoggerFactory.getLogger(WeatherIconLoader.class);
+
+    /** The size every view draws weather icons at; most of the assets are already 48px. Smaller ones stay as they are. */
+    public static final int STANDARD_SIZE = 48;
+
+    private static final String ICON_PATH = "/assets/weather-icons/";
+    private static final ConcurrentMap<String, Optional<BufferedImage>> decoded = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Optional<ImageIcon>> icons = new ConcurrentHashMap<>();
+    private static final AtomicInteger decodeCount = new AtomicInteger();
+
+    /**
+     * @return The icon at its natural size, or null if there is no such file.
+     */
     public static ImageIcon load(String fileName) {
-        String fullpath = "/assets/weather-icons/" + fileName;
-        URL url = WeatherIconLoader.class.getResource(fullpath);
+        return load(fileName, 0);
+    }
+
+    /**
+     * @param size The width and height to scale down to, or 0 to keep the file's own size. Icons
+     *             that already fit keep their own size, since scaling them up only blurs them.
+     * @return The icon, or null if there is no such file.
+     */
+    public static ImageIcon load(String fileName, int size) {
+        return icons.computeIfAbsent(fileName + "@" + size, key -> decode(fileName).map(image -> {
+            if (size <= 0 || (image.getWidth() <= size && image.getHeight() <= size)) {
+                return new ImageIcon(image);
+            }
+            return new ImageIcon(scale(image, size));
+        })).orElse(null);
+    }
+
+    /**
+     * Decodes and scales the given icons on a background thread, so the first render does not
+     * have to. Safe to call more than once.
+     */
+    public static CompletableFuture<Void> warmUp(Collection<String> fileNames, int size) {
+        return CompletableFuture.runAsync(() -> fileNames.forEach(fileName -> load(fileName, size)));
+    }
+
+    /**
+     * @return How many files have been decoded so far; flat once every icon in use is cached.
+     */
+    public static int getDecodeCount() {
+        return decodeCount.get();
+    }
+
+    private static Optional<BufferedImage> decode(String fileName) {
+        return decoded.computeIfAbsent(fileName, name -> {
+            URL url = WeatherIconLoader.class.getResource(ICON_PATH + name);
+            if (url == null) {
+                logger.warn("Couldn't find weather icon {}", name);
+                return Optional.empty();
+            }
+            try {
+                decodeCount.incrementAndGet();
+                return Optional.ofNullable(ImageIO.read(url));
+            } catch (IOException e) {
+                logger.warn("Couldn't decode weather icon {}: {}", name, e.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
 
-        if (url == null) {
-            System.out.println("Couldn't find file: " + fileName);
-            return null;
+    private static BufferedImage scale(BufferedImage image, int size) {
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
         }
-        return new ImageIcon(url);
+        return scaled;
     }
 }
@@ -3,12 +3,11 @@ package com.aurora.climatesync.view;
 import com.aurora.climatesync.model.CalendarEvent;
 import com.aurora.climatesync.presenter.DashboardContract;
 import com.aurora.climatesync.presenter.DashboardPresenter;
-import com.aurora.climatesync.presenter.DashboardViewModel;
+import com.aurora.climatesync.presenter.EventIndex;
 import com.aurora.climatesync.service.CalendarService;
 import com.aurora.climatesync.service.DashboardService;
-import com.aurora.climatesync.util.EventColorUtil;
-import com.aurora.climatesync.util.WeatherIconLoader;
 import com.aurora.climatesync.view.component.DayViewPanel;
+import com.aurora.climatesync.view.component.EventListPanel;
 import com.aurora.climatesync.view.component.MonthViewPanel;
 import com.aurora.climatesync.view.component.WeekViewPanel;
 import com.aurora.climatesync.view.dialog.AddEventDialog;
@@ -21,8 +20,6 @@ import java.awt.*;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.stream.Collectors;
 
 public class DashboardView extends JPanel implements DashboardContract.View {
@@ -38,13 +35,13 @@ public class DashboardView extends JPanel implements DashboardContract.View {
     private final JLabel dateRangeLabel;
 
     // View Containers
-    private final JPanel listViewContainer;
+    private final EventListPanel eventListPanel;
     private final DayViewPanel dayViewPanel;
     private final WeekViewPanel weekViewPanel;
     private final MonthViewPanel monthViewPanel;
 
     // Data State
-    private List<DashboardViewModel> displayedEvents = new ArrayList<>();
+    private EventIndex displayedEvents = EventIndex.empty();
     private LocalDate currentDate = LocalDate.now();
     
     public DashboardView(CalendarService calendarService, DashboardService dashboardService) {
@@ -134,14 +131,13 @@ public class DashboardView extends JPanel implements DashboardContract.View {
         contentPanel = new JPanel(cardLayout);
 
         // Initialize View Containers
-        listViewContainer = new JPanel();
-        listViewContainer.setLayout(new BoxLayout(listViewContainer, BoxLayout.Y_AXIS));
+        eventListPanel = new EventListPanel();
         
         dayViewPanel = new DayViewPanel();
         weekViewPanel = new WeekViewPanel();
         monthViewPanel = new MonthViewPanel();
 
-        contentPanel.add(new JScrollPane(listViewContainer), "List All");
+        contentPanel.add(eventListPanel, "List All");
         contentPanel.add(dayViewPanel, "Day");
         contentPanel.add(weekViewPanel, "Week");
         contentPanel.add(monthViewPanel, "Month");
@@ -204,7 +200,7 @@ public class DashboardView extends JPanel implements DashboardContract.View {
     }
 
     @Override
-    public void showEvents(List<DashboardViewModel> events) {
+    public void showEvents(EventIndex events) {
         this.displayedEvents = events;
         statusLabel.setText("Loaded " + events.size() + " events.");
         updateView();
@@ -232,7 +228,8 @@ public class DashboardView extends JPanel implements DashboardContract.View {
     
 
     private void showConnectionError() {
-        listViewContainer.removeAll();
+        JPanel placeholder = new JPanel();
+        placeholder.setLayout(new BoxLayout(placeholder, BoxLayout.Y_AXIS));
         JLabel notConnectedLabel = new JLabel("Google Calendar is not connected.");
         notConnectedLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
@@ -242,15 +239,14 @@ public class DashboardView extends JPanel implements DashboardContract.View {
             presenter.connectCalendar();
         });
 
-        listViewContainer.add(Box.createVerticalGlue());
-        listViewContainer.add(notConnectedLabel);
-        listViewContainer.add(Box.createRigidArea(new Dimension(0, 10)));
-        listViewContainer.add(connectButton);
-        listViewContainer.add(Box.createVerticalGlue());
+        placeholder.add(Box.createVerticalGlue());
+        placeholder.add(notConnectedLabel);
+        placeholder.add(Box.createRigidArea(new Dimension(0, 10)));
+        placeholder.add(connectButton);
+        placeholder.add(Box.createVerticalGlue());
         
         statusLabel.setText("Please connect to Google Calendar.");
-        listViewContainer.revalidate();
-        listViewContainer.repaint();
+        eventListPanel.showPlaceholder(placeholder);
     }
 
     private void updateView() {
@@ -281,25 +277,10 @@ public class DashboardView extends JPanel implements DashboardContract.View {
         ).setVisible(true);
     }
 
-    private Color getEventColor(String colorId) {
-        return EventColorUtil.getEventColor(colorId);
-    }
-
     // --- Renderers ---
 
     private void renderListView() {
-        listViewContainer.removeAll();
-        List<DashboardViewModel> eventsToRender = displayedEvents;
-        if (eventsToRender.isEmpty()) {
-            listViewContainer.add(new JLabel("No events found."));
-        } else {
-            for (DashboardViewModel de : eventsToRender) {
-                listViewContainer.add(createEventCard(de));
-                listViewContainer.add(Box.createRigidArea(new Dimension(0, 10)));
-            }
-        }
-        listViewContainer.revalidate();
-        listViewContainer.repaint();
+        eventListPanel.render(displayedEvents.getAll(), this::showEditEventDialog);
     }
 
     private void renderDayView() {
@@ -314,124 +295,5 @@ public class DashboardView extends JPanel implements DashboardContract.View {
         monthViewPanel.render(displayedEvents, currentDate, this::showEditEventDialog);
     }
 
-    private JPanel createEventCard(DashboardViewModel de) {
-        JPanel card = new JPanel(new BorderLayout(15, 0));
-        Color eventColor = getEventColor(de.getColorId());
-        
-        // Modern Card Style
-        card.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createMatteBorder(0, 6, 0, 0, eventColor),
-                BorderFactory.createCompoundBorder(
-                        BorderFactory.createLineBorder(new Color(230, 230, 230), 1),
-                        BorderFactory.createEmptyBorder(12, 15, 12, 15)
-                )
-        ));
-        card.setBackground(Color.WHITE);
-        card.setMaximumSize(new Dimension(Integer.MAX_VALUE, 90));
-
-        // Left: Time and Date
-        JPanel timePanel = new JPanel(new GridLayout(2, 1));
-        timePanel.setOpaque(false);
-        timePanel.setPreferredSize(new Dimension(100, 0));
-        
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd");
-        
-        JLabel timeLabel = new JLabel(de.getStartTime().format(timeFormatter));
-        timeLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
-        timeLabel.setForeground(new Color(50, 50, 50));
-        
-        JLabel dateLabel = new JLabel(de.getStartTime().format(dateFormatter));
-        dateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
-        dateLabel.setForeground(Color.GRAY);
-        
-        timePanel.add(timeLabel);
-        timePanel.add(dateLabel);
-        
-        // Center: Title and Location
-        JPanel centerPanel = new JPanel(new GridLayout(0, 1, 0, 4)); // 0 rows means any number of rows
-        centerPanel.setOpaque(false);
-        centerPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 10));
-        
-        JLabel titleLabel = new JLabel(de.getTitle());
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 15));
-        
-        String locStr = de.getLocation() != null ? de.getLocation() : "No Location";
-        JLabel locLabel = new JLabel(locStr);
-        locLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
-        locLabel.setForeground(Color.DARK_GRAY);
-        // Icon removed as per request
-
-        centerPanel.add(titleLabel);
-        centerPanel.add(locLabel);
-        
-        // Add Description if available
-        String desc = de.getDescription();
-        if (desc != null && !desc.isEmpty()) {
-            JLabel descLabel = new JLabel(desc);
-            descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
-            descLabel.setForeground(Color.GRAY);
-            centerPanel.add(descLabel);
-        }
-
-        // Add Weather Message if available
-        if (de.getWeatherMessage() != null) {
-            JLabel weatherMsgLabel = new JLabel(de.getWeatherMessage());
-            weatherMsgLabel.setFont(new Font("Segoe UI", Font.ITALIC, 11));
-            weatherMsgLabel.setForeground(new Color(0, 102, 204)); // A nice blue for info
-            centerPanel.add(weatherMsgLabel);
-        }
-
-        // Right: Weather & Edit
-        JPanel rightPanel = new JPanel(new BorderLayout());
-        rightPanel.setOpaque(false);
-        
-        JPanel weatherPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
-        weatherPanel.setOpaque(false);
-        
-        if (de.getWeatherIcon() != null && de.getTemperatureDisplay() != null) {
-            int code = de.getWeatherCode();
-            String iconName = WeatherClimateMapper.getIcon(code);
-            ImageIcon icon = WeatherIconLoader.load(iconName);
-
-            JLabel iconLabel = new JLabel(icon);
-            weatherPanel.add(iconLabel);
-
-            String tempStr = String.format("%d° / %d°",
-                    Math.round(de.getWeatherForecast().getMinTemperature()),
-                    Math.round(de.getWeatherForecast().getMaxTemperature())
-            );
-
-            JLabel tempLabel = new JLabel(tempStr);
-            tempLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
-
-            weatherPanel.add(tempLabel);
-
-        } else {
-            JLabel noWeather = new JLabel("No Weather");
-            noWeather.setFont(new Font("Segoe UI", Font.ITALIC, 11));
-            noWeather.setForeground(Color.LIGHT_GRAY);
-            weatherPanel.add(noWeather);
-        }
-        
-        JButton editButton = new JButton("Edit");
-        editButton.setFocusPainted(false);
-        editButton.putClientProperty("JButton.buttonType", "roundRect"); // Mac style hint
-        editButton.addActionListener(e -> {
-            if (de.getSourceEvent() instanceof CalendarEvent) {
-                showEditEventDialog((CalendarEvent) de.getSourceEvent());
-            }
-        });
-        
-        rightPanel.add(weatherPanel, BorderLayout.CENTER);
-        rightPanel.add(editButton, BorderLayout.EAST);
-
-        card.add(timePanel, BorderLayout.WEST);
-        card.add(centerPanel, BorderLayout.CENTER);
-        card.add(rightPanel, BorderLayout.EAST);
-
-        return card;
-    }
-    
     // Inner classes removed and extracted to com.aurora.climatesync.view.component
 }
@@ -6,6 +6,7 @@ import com.aurora.climatesync.service.CalendarService;
 import com.aurora.climatesync.service.DashboardService;
 import com.aurora.climatesync.service.WeatherService;
 import com.aurora.climatesync.service.SearchService;
+import com.aurora.climatesync.util.WeatherIconLoader;
 
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -35,6 +36,9 @@ public class Main {
     }
 
     private void launchUI(ConfigurableApplicationContext context) {
+        // Decode the weather icons off the EDT while the first data loads.
+        WeatherIconLoader.warmUp(WeatherClimateMapper.getAllIcons(), WeatherIconLoader.STANDARD_SIZE);
+
         JFrame frame = new JFrame("ClimateSync");
         frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         frame.setSize(800, 600); // Increased size for better calendar view
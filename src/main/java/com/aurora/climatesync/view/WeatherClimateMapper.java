@@ -1,6 +1,8 @@
 package com.aurora.climatesync.view;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class WeatherClimateMapper {
 
@@ -56,4 +58,13 @@ public class WeatherClimateMapper {
     public static String getIcon(int weatherCode) {
         return CODE_TO_ICON.getOrDefault(weatherCode, DEFAULT_ICON);
     }
+
+    /**
+     * @return Every icon file this mapper can return, e.g. for warming the icon cache.
+     */
+    public static Set<String> getAllIcons() {
+        Set<String> icons = new TreeSet<>(CODE_TO_ICON.values());
+        icons.add(DEFAULT_ICON);
+        return icons;
+    }
 }
@@ -1,22 +1,38 @@
 package com.aurora.climatesync.view;
 
 import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.presenter.WeatherContract;
 import com.aurora.climatesync.presenter.WeatherViewModel;
+import com.aurora.climatesync.util.WeatherIconLoader;
+import com.aurora.climatesync.view.component.KeyedReconciler;
+import com.aurora.climatesync.view.component.LocationSuggestionPopup;
 import com.aurora.climatesync.view.component.WeatherChartPanel;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Objects;
 
 public class WeatherView extends JPanel implements WeatherContract.View {
     private WeatherContract.Presenter presenter;
     private final JTextField searchField;
+    private final LocationSuggestionPopup suggestionPopup;
+    private boolean settingSearchText;
     private final JLabel statusLabel;
+    private final JLabel updatedLabel;
     private final JPanel contentPanel;
     private final WeatherChartPanel chartPanel;
+    private final JPanel currentHolder = new JPanel(new BorderLayout());
+    private final JPanel weeklyPanel = new JPanel(new GridLayout(0, 1, 0, 10));
+    private final KeyedReconciler<WeatherViewModel> weeklyRows;
+    private boolean resultsShown;
 
     public WeatherView() {
         this.setLayout(new BorderLayout());
@@ -37,10 +53,45 @@ public class WeatherView extends JPanel implements WeatherContract.View {
                 presenter.onSearch(searchField.getText());
             }
         });
+        searchField.addActionListener(e -> {
+            if (presenter != null) {
+                presenter.onSearch(searchField.getText());
+            }
+        });
+
+        // --- Typeahead ---
+        suggestionPopup = new LocationSuggestionPopup(searchField);
+        suggestionPopup.setOnSelected(location -> {
+            setSearchText(location.toString());
+            if (presenter != null) {
+                presenter.onSuggestionSelected(location);
+            }
+        });
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                queryChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                queryChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                // Attribute changes only; the text is the same.
+            }
+        });
+
+        updatedLabel = new JLabel();
+        updatedLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        updatedLabel.setForeground(Color.GRAY);
 
         headerPanel.add(new JLabel("Location:"));
         headerPanel.add(searchField);
         headerPanel.add(searchButton);
+        headerPanel.add(updatedLabel);
 
         this.add(headerPanel, BorderLayout.NORTH);
 
@@ -54,6 +105,16 @@ public class WeatherView extends JPanel implements WeatherContract.View {
         chartPanel = new WeatherChartPanel();
         chartPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
         chartPanel.setMaximumSize(new Dimension(750, 320));
+
+        currentHolder.setOpaque(false);
+        currentHolder.setAlignmentX(Component.CENTER_ALIGNMENT);
+        weeklyPanel.setOpaque(false);
+        weeklyPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        // Limit width
+        weeklyPanel.setMaximumSize(new Dimension(600, Integer.MAX_VALUE));
+        weeklyRows = new KeyedReconciler<>(weeklyPanel, wf -> String.valueOf(wf.getDate()),
+                wf -> Objects.hash(wf.getDate(), wf.getHighLowDisplay(), wf.getConditionIcon()),
+                this::createForecastRow);
         
         JScrollPane scrollPane = new JScrollPane(contentPanel);
         scrollPane.setBorder(null);
@@ -76,7 +137,9 @@ public class WeatherView extends JPanel implements WeatherContract.View {
     @Override
     public void showLoading(String message) {
         statusLabel.setText(message);
+        updatedLabel.setText("");
         contentPanel.removeAll();
+        resultsShown = false;
         contentPanel.revalidate();
         contentPanel.repaint();
     }
@@ -94,10 +157,11 @@ public class WeatherView extends JPanel implements WeatherContract.View {
 
     @Override
     public void showWeather(String city, List<WeatherViewModel> forecasts) {
-        contentPanel.removeAll();
         statusLabel.setText("Weather updated for " + city);
 
         if (forecasts == null || forecasts.isEmpty()) {
+            contentPanel.removeAll();
+            resultsShown = false;
             JLabel errorLabel = new JLabel("No weather data found for " + city);
             errorLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
             errorLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -109,8 +173,50 @@ public class WeatherView extends JPanel implements WeatherContract.View {
             return;
         }
 
+        if (!resultsShown) {
+            addResultSections();
+            resultsShown = true;
+        }
+
         // 1. Current Weather (Today)
-        WeatherViewModel today = forecasts.get(0);
+        currentHolder.removeAll();
+        currentHolder.add(createCurrentPanel(city, forecasts.get(0)));
+
+        // 3. Weekly Forecast: only rows whose day or values changed are rebuilt.
+        weeklyRows.reconcile(forecasts);
+
+        contentPanel.revalidate();
+        contentPanel.repaint();
+    }
+
+    /**
+     * Lays out the current-weather, chart and weekly sections. They stay in place across updates;
+     * only their contents change.
+     */
+    private void addResultSections() {
+        contentPanel.removeAll();
+        weeklyRows.clear();
+        contentPanel.add(currentHolder);
+        contentPanel.add(Box.createVerticalStrut(30));
+
+        // 2. Today's Hourly Chart (will be populated by updateChart)
+        JLabel chartLabel = new JLabel("Today's Temperature");
+        chartLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        chartLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        contentPanel.add(chartLabel);
+        contentPanel.add(Box.createVerticalStrut(10));
+        contentPanel.add(chartPanel);
+        contentPanel.add(Box.createVerticalStrut(30));
+
+        JLabel weeklyLabel = new JLabel("7-Day Forecast");
+        weeklyLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        weeklyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        contentPanel.add(weeklyLabel);
+        contentPanel.add(Box.createVerticalStrut(15));
+        contentPanel.add(weeklyPanel);
+    }
+
+    private JPanel createCurrentPanel(String city, WeatherViewModel today) {
         JPanel currentPanel = new JPanel(new GridBagLayout());
         currentPanel.setBackground(Color.WHITE);
         currentPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -141,8 +247,7 @@ public class WeatherView extends JPanel implements WeatherContract.View {
         JPanel tempPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0));
         tempPanel.setOpaque(false);
 
-        String iconPath = "/assets/weather-icons/" + today.getConditionIcon();
-        ImageIcon icon = new ImageIcon(getClass().getResource(iconPath));
+        ImageIcon icon = WeatherIconLoader.load(today.getConditionIcon(), WeatherIconLoader.STANDARD_SIZE);
         JLabel iconLabel = new JLabel(icon);
         iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 64));
         
@@ -174,39 +279,34 @@ public class WeatherView extends JPanel implements WeatherContract.View {
         detailsPanel.add(createDetailLabel("Precip", today.getPrecipitationDisplay()));
         currentPanel.add(detailsPanel, gbc);
 
-        contentPanel.add(currentPanel);
-        contentPanel.add(Box.createVerticalStrut(30));
-
-        // 2. Today's Hourly Chart (will be populated by updateChart)
-        JLabel chartLabel = new JLabel("Today's Temperature");
-        chartLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
-        chartLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        contentPanel.add(chartLabel);
-        contentPanel.add(Box.createVerticalStrut(10));
-        contentPanel.add(chartPanel);
-        contentPanel.add(Box.createVerticalStrut(30));
+        return currentPanel;
+    }
 
-        // 3. Weekly Forecast
-        JLabel weeklyLabel = new JLabel("7-Day Forecast");
-        weeklyLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
-        weeklyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        contentPanel.add(weeklyLabel);
-        contentPanel.add(Box.createVerticalStrut(15));
+    @Override
+    public void showUpdatedAt(Instant fetchedAt, boolean refreshing) {
+        String time = DateTimeFormatter.ofPattern("HH:mm").format(fetchedAt.atZone(ZoneId.systemDefault()));
+        updatedLabel.setText("Updated " + time + (refreshing ? " · refreshing…" : ""));
+    }
 
-        JPanel weeklyPanel = new JPanel(new GridLayout(0, 1, 0, 10));
-        weeklyPanel.setOpaque(false);
-        weeklyPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        // Limit width
-        weeklyPanel.setMaximumSize(new Dimension(600, Integer.MAX_VALUE));
+    @Override
+    public void showSuggestions(List<Location> suggestions) {
+        suggestionPopup.show(suggestions);
+    }
 
-        for (WeatherViewModel wf : forecasts) {
-            weeklyPanel.add(createForecastRow(wf));
+    private void queryChanged() {
+        if (presenter != null && !settingSearchText) {
+            presenter.onQueryChanged(searchField.getText());
         }
+    }
 
-        contentPanel.add(weeklyPanel);
-        
-        contentPanel.revalidate();
-        contentPanel.repaint();
+    /** Replaces the search text without asking for suggestions for it. */
+    private void setSearchText(String text) {
+        settingSearchText = true;
+        try {
+            searchField.setText(text);
+        } finally {
+            settingSearchText = false;
+        }
     }
 
     @Override
@@ -248,7 +348,7 @@ public class WeatherView extends JPanel implements WeatherContract.View {
         dayLabel.setPreferredSize(new Dimension(100, 20));
         
         // Icon
-        ImageIcon icon = new ImageIcon(getClass().getResource("/assets/weather-icons/" + wf.getConditionIcon()));
+        ImageIcon icon = WeatherIconLoader.load(wf.getConditionIcon(), WeatherIconLoader.STANDARD_SIZE);
         JLabel iconLabel = new JLabel(icon);
         iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
         iconLabel.setPreferredSize(new Dimension(50, 50));
@@ -1,42 +1,53 @@
 package com.aurora.climatesync.view.component;
 
 import com.aurora.climatesync.presenter.DashboardViewModel;
+import com.aurora.climatesync.presenter.EventIndex;
 import com.aurora.climatesync.model.CalendarEvent;
 
 import javax.swing.*;
 import java.awt.*;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 public class DayViewPanel extends JPanel {
     private final JPanel contentPanel;
+    private final JLabel emptyLabel = new JLabel();
+    private final TimeBlockPanel timePanel = new TimeBlockPanel(Collections.emptyList(), true, null);
+    private Boolean showingEvents;
 
     public DayViewPanel() {
         setLayout(new BorderLayout());
         contentPanel = new JPanel();
         contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
+        emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         add(new JScrollPane(contentPanel), BorderLayout.CENTER);
     }
 
-    public void render(List<DashboardViewModel> events, LocalDate date, Consumer<CalendarEvent> onEventClick) {
-        contentPanel.removeAll();
-        List<DashboardViewModel> dayEvents = events.stream()
-                .filter(e -> e.getStartTime().toLocalDate().equals(date))
-                .collect(Collectors.toList());
+    /**
+     * Shows the events of {@code date}. Cards for events that did not change since the last call
+     * are kept as they are.
+     */
+    public void render(EventIndex events, LocalDate date, Consumer<CalendarEvent> onEventClick) {
+        List<DashboardViewModel> dayEvents = events.onDay(date);
+        timePanel.setEvents(dayEvents, onEventClick);
+        emptyLabel.setText("No events for " + date);
 
-        if (dayEvents.isEmpty()) {
-            JLabel empty = new JLabel("No events for " + date);
-            empty.setAlignmentX(Component.CENTER_ALIGNMENT);
-            contentPanel.add(Box.createVerticalGlue());
-            contentPanel.add(empty);
-            contentPanel.add(Box.createVerticalGlue());
-        } else {
-            TimeBlockPanel timePanel = new TimeBlockPanel(dayEvents, true, onEventClick);
-            contentPanel.add(timePanel);
+        boolean hasEvents = !dayEvents.isEmpty();
+        if (showingEvents == null || showingEvents != hasEvents) {
+            // Only switch between the placeholder and the time grid when that actually changes.
+            contentPanel.removeAll();
+            if (hasEvents) {
+                contentPanel.add(timePanel);
+            } else {
+                contentPanel.add(Box.createVerticalGlue());
+                contentPanel.add(emptyLabel);
+                contentPanel.add(Box.createVerticalGlue());
+            }
+            showingEvents = hasEvents;
+            contentPanel.revalidate();
+            contentPanel.repaint();
         }
-        contentPanel.revalidate();
-        contentPanel.repaint();
     }
 }
@@ -0,0 +1,151 @@
+package com.aurora.climatesync.view.component;
+
+import com.aurora.climatesync.presenter.DashboardViewModel;
+import com.aurora.climatesync.util.EventColorUtil;
+import com.aurora.climatesync.util.WeatherIconLoader;
+import com.aurora.climatesync.view.WeatherClimateMapper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Draws one event card for {@link EventListPanel}. A single instance is reused for every row, so
+ * painting a list of thousands of events only ever uses this one set of components.
+ */
+class EventCardRenderer extends JPanel implements ListCellRenderer<DashboardViewModel> {
+
+    /** Card height plus the gap below it. */
+    static final int CELL_HEIGHT = 100;
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd");
+    private static final Color SELECTED_BACKGROUND = new Color(242, 246, 252);
+
+    private final JPanel card = new JPanel(new BorderLayout(15, 0));
+    private final JLabel timeLabel = new JLabel();
+    private final JLabel dateLabel = new JLabel();
+    private final JPanel centerPanel = new JPanel(new GridLayout(0, 1, 0, 4));
+    private final JLabel titleLabel = new JLabel();
+    private final JLabel locLabel = new JLabel();
+    private final JLabel descLabel = new JLabel();
+    private final JLabel weatherMsgLabel = new JLabel();
+    private final JLabel iconLabel = new JLabel();
+    private final JLabel tempLabel = new JLabel();
+    private final JLabel noWeather = new JLabel("No Weather");
+    private final JButton editButton = new JButton("Edit");
+
+    EventCardRenderer() {
+        super(new BorderLayout());
+        setOpaque(false);
+        setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
+
+        // Left: Time and Date
+        JPanel timePanel = new JPanel(new GridLayout(2, 1));
+        timePanel.setOpaque(false);
+        timePanel.setPreferredSize(new Dimension(100, 0));
+        timeLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        timeLabel.setForeground(new Color(50, 50, 50));
+        dateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        dateLabel.setForeground(Color.GRAY);
+        timePanel.add(timeLabel);
+        timePanel.add(dateLabel);
+
+        // Center: Title, Location, Description, Weather Message
+        centerPanel.setOpaque(false);
+        centerPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 10));
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 15));
+        locLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        locLabel.setForeground(Color.DARK_GRAY);
+        descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
+        descLabel.setForeground(Color.GRAY);
+        weatherMsgLabel.setFont(new Font("Segoe UI", Font.ITALIC, 11));
+        weatherMsgLabel.setForeground(new Color(0, 102, 204));
+
+        // Right: Weather & Edit
+        JPanel rightPanel = new JPanel(new BorderLayout());
+        rightPanel.setOpaque(false);
+        JPanel weatherPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        weatherPanel.setOpaque(false);
+        tempLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        noWeather.setFont(new Font("Segoe UI", Font.ITALIC, 11));
+        noWeather.setForeground(Color.LIGHT_GRAY);
+        weatherPanel.add(iconLabel);
+        weatherPanel.add(tempLabel);
+        weatherPanel.add(noWeather);
+        editButton.setFocusPainted(false);
+        editButton.putClientProperty("JButton.buttonType", "roundRect");
+        rightPanel.add(weatherPanel, BorderLayout.CENTER);
+        rightPanel.add(editButton, BorderLayout.EAST);
+
+        card.add(timePanel, BorderLayout.WEST);
+        card.add(centerPanel, BorderLayout.CENTER);
+        card.add(rightPanel, BorderLayout.EAST);
+        add(card, BorderLayout.CENTER);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends DashboardViewModel> list, DashboardViewModel de,
+                                                  int index, boolean isSelected, boolean cellHasFocus) {
+        Color eventColor = EventColorUtil.getEventColor(de.getColorId());
+        card.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createMatteBorder(0, 6, 0, 0, eventColor),
+                BorderFactory.createCompoundBorder(
+                        BorderFactory.createLineBorder(new Color(230, 230, 230), 1),
+                        BorderFactory.createEmptyBorder(12, 15, 12, 15)
+                )
+        ));
+        card.setBackground(isSelected ? SELECTED_BACKGROUND : Color.WHITE);
+
+        timeLabel.setText(de.getStartTime().format(TIME_FORMAT));
+        dateLabel.setText(de.getStartTime().format(DATE_FORMAT));
+
+        centerPanel.removeAll();
+        titleLabel.setText(de.getTitle());
+        locLabel.setText(de.getLocation() != null ? de.getLocation() : "No Location");
+        centerPanel.add(titleLabel);
+        centerPanel.add(locLabel);
+        String desc = de.getDescription();
+        if (desc != null && !desc.isEmpty()) {
+            descLabel.setText(desc);
+            centerPanel.add(descLabel);
+        }
+        if (de.getWeatherMessage() != null) {
+            weatherMsgLabel.setText(de.getWeatherMessage());
+            centerPanel.add(weatherMsgLabel);
+        }
+
+        boolean hasWeather = de.getWeatherIcon() != null && de.getTemperatureDisplay() != null;
+        iconLabel.setVisible(hasWeather);
+        tempLabel.setVisible(hasWeather);
+        noWeather.setVisible(!hasWeather);
+        if (hasWeather) {
+            iconLabel.setIcon(WeatherIconLoader.load(WeatherClimateMapper.getIcon(de.getWeatherCode()),
+                    WeatherIconLoader.STANDARD_SIZE));
+            tempLabel.setText(String.format("%d° / %d°",
+                    Math.round(de.getWeatherForecast().getMinTemperature()),
+                    Math.round(de.getWeatherForecast().getMaxTemperature())));
+        }
+        return this;
+    }
+
+    /**
+     * @return Whether {@code point}, relative to a cell of the given size showing {@code de}, is on
+     *         the Edit button.
+     */
+    boolean isOnEditButton(JList<? extends DashboardViewModel> list, DashboardViewModel de, Dimension cellSize, Point point) {
+        getListCellRendererComponent(list, de, -1, false, false);
+        setSize(cellSize);
+        layoutTree(this);
+        return SwingUtilities.getDeepestComponentAt(this, point.x, point.y) == editButton;
+    }
+
+    private static void layoutTree(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layoutTree((Container) child);
+            }
+        }
+    }
+}
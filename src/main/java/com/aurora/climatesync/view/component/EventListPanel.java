@@ -0,0 +1,134 @@
+package com.aurora.climatesync.view.component;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.presenter.DashboardViewModel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The "List All" view. Events are shown in a {@link JList} with a shared card renderer and a
+ * fixed row height, so only the rows in the viewport are painted and the number of components
+ * stays the same however many events are loaded.
+ */
+public class EventListPanel extends JPanel {
+    private static final String LIST_CARD = "list";
+    private static final String PLACEHOLDER_CARD = "placeholder";
+
+    private final CardLayout cardLayout = new CardLayout();
+    private final EventListModel model = new EventListModel();
+    private final JList<DashboardViewModel> list = new JList<>(model);
+    private final EventCardRenderer renderer = new EventCardRenderer();
+    private final JPanel placeholderPanel = new JPanel(new BorderLayout());
+    private Consumer<CalendarEvent> onEventClick = event -> { };
+
+    public EventListPanel() {
+        setLayout(cardLayout);
+        list.setCellRenderer(renderer);
+        list.setFixedCellHeight(EventCardRenderer.CELL_HEIGHT);
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setBorder(BorderFactory.createEmptyBorder(10, 10, 0, 10));
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = list.locationToIndex(e.getPoint());
+                Rectangle bounds = index >= 0 ? list.getCellBounds(index, index) : null;
+                if (bounds == null || !bounds.contains(e.getPoint())) {
+                    return;
+                }
+                DashboardViewModel de = model.getElementAt(index);
+                Point inCell = new Point(e.getX() - bounds.x, e.getY() - bounds.y);
+                boolean edit = e.getClickCount() == 2 || renderer.isOnEditButton(list, de, bounds.getSize(), inCell);
+                if (edit && de.getSourceEvent() instanceof CalendarEvent) {
+                    onEventClick.accept((CalendarEvent) de.getSourceEvent());
+                }
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(20);
+        add(scrollPane, LIST_CARD);
+        add(placeholderPanel, PLACEHOLDER_CARD);
+    }
+
+    public void render(List<DashboardViewModel> events, Consumer<CalendarEvent> onEventClick) {
+        this.onEventClick = onEventClick;
+        if (events.isEmpty()) {
+            JPanel empty = new JPanel();
+            empty.setLayout(new BoxLayout(empty, BoxLayout.Y_AXIS));
+            empty.add(new JLabel("No events found."));
+            showPlaceholder(empty);
+            return;
+        }
+        model.setEvents(events);
+        cardLayout.show(this, LIST_CARD);
+    }
+
+    /**
+     * Replaces the list with {@code placeholder}, e.g. to ask the user to connect a calendar.
+     */
+    public void showPlaceholder(JComponent placeholder) {
+        model.setEvents(Collections.emptyList());
+        placeholderPanel.removeAll();
+        placeholderPanel.add(placeholder, BorderLayout.CENTER);
+        placeholderPanel.revalidate();
+        placeholderPanel.repaint();
+        cardLayout.show(this, PLACEHOLDER_CARD);
+    }
+
+    /**
+     * Backs the list with the caller's list directly. If the new list holds the same events in the
+     * same order, only the rows whose content changed are announced, so an edit repaints one row.
+     */
+    static class EventListModel extends AbstractListModel<DashboardViewModel> {
+        private List<DashboardViewModel> events = Collections.emptyList();
+
+        void setEvents(List<DashboardViewModel> events) {
+            if (sameKeys(this.events, events)) {
+                List<DashboardViewModel> previous = this.events;
+                this.events = events;
+                for (int i = 0; i < events.size(); i++) {
+                    if (previous.get(i).contentHash() != events.get(i).contentHash()) {
+                        fireContentsChanged(this, i, i);
+                    }
+                }
+                return;
+            }
+            int oldSize = this.events.size();
+            this.events = events;
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            if (!events.isEmpty()) {
+                fireIntervalAdded(this, 0, events.size() - 1);
+            }
+        }
+
+        private static boolean sameKeys(List<DashboardViewModel> a, List<DashboardViewModel> b) {
+            if (a.size() != b.size() || a.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < a.size(); i++) {
+                if (!a.get(i).getKey().equals(b.get(i).getKey())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int getSize() {
+            return events.size();
+        }
+
+        @Override
+        public DashboardViewModel getElementAt(int index) {
+            return events.get(index);
+        }
+    }
+}
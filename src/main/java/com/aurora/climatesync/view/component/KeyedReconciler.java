@@ -0,0 +1,123 @@
+package com.aurora.climatesync.view.component;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps the children of a container in step with a list of items without rebuilding them all.
+ * Each item has a key (e.g. the event ID) and a content hash; on {@link #reconcile(List)} only
+ * items that are new or whose hash changed get a freshly built component, components for items
+ * that disappeared are removed, and the rest are left alone (moved if the order changed).
+ *
+ * <p>The reconciler must own every child of its container.
+ */
+public class KeyedReconciler<T> {
+
+    private final Container container;
+    private final Function<T, String> keyOf;
+    private final ToIntFunction<T> contentHashOf;
+    private final Function<T, ? extends Component> create;
+    private Map<String, Rendered> rendered = new LinkedHashMap<>();
+    private int added;
+    private int updated;
+    private int removed;
+
+    public KeyedReconciler(Container container, Function<T, String> keyOf, ToIntFunction<T> contentHashOf,
+                           Function<T, ? extends Component> create) {
+        this.container = container;
+        this.keyOf = keyOf;
+        this.contentHashOf = contentHashOf;
+        this.create = create;
+    }
+
+    /**
+     * Makes the container show exactly {@code items}, in order.
+     * @return Whether any component was added, replaced, removed or moved.
+     */
+    public boolean reconcile(List<T> items) {
+        added = updated = removed = 0;
+        Map<String, Rendered> next = new LinkedHashMap<>();
+        Map<String, Integer> seen = new HashMap<>();
+        for (T item : items) {
+            String key = keyOf.apply(item);
+            int occurrence = seen.merge(key, 1, Integer::sum);
+            if (occurrence > 1) {
+                key = key + "#" + occurrence;
+            }
+            int hash = contentHashOf.applyAsInt(item);
+            Rendered existing = rendered.remove(key);
+            if (existing != null && existing.hash == hash) {
+                next.put(key, existing);
+                continue;
+            }
+            if (existing != null) {
+                container.remove(existing.component);
+                updated++;
+            } else {
+                added++;
+            }
+            next.put(key, new Rendered(hash, create.apply(item)));
+        }
+        for (Rendered stale : rendered.values()) {
+            container.remove(stale.component);
+            removed++;
+        }
+
+        boolean moved = false;
+        int index = 0;
+        for (Rendered r : next.values()) {
+            if (index >= container.getComponentCount() || container.getComponent(index) != r.component) {
+                if (r.component.getParent() == container) {
+                    container.remove(r.component);
+                }
+                container.add(r.component, index);
+                moved = true;
+            }
+            index++;
+        }
+        rendered = next;
+
+        boolean changed = moved || added + updated + removed > 0;
+        if (changed) {
+            container.revalidate();
+            container.repaint();
+        }
+        return changed;
+    }
+
+    /** Drops every component, e.g. before the container is reused for something else. */
+    public void clear() {
+        rendered.values().forEach(r -> container.remove(r.component));
+        rendered.clear();
+    }
+
+    /** @return Items that got a new component in the last reconcile because they were not shown before. */
+    public int getAdded() {
+        return added;
+    }
+
+    /** @return Items whose component was rebuilt in the last reconcile because their content changed. */
+    public int getUpdated() {
+        return updated;
+    }
+
+    /** @return Components removed in the last reconcile. */
+    public int getRemoved() {
+        return removed;
+    }
+
+    private static final class Rendered {
+        private final int hash;
+        private final Component component;
+
+        private Rendered(int hash, Component component) {
+            this.hash = hash;
+            this.component = component;
+        }
+    }
+}
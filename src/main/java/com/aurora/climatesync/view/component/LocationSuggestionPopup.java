@@ -0,0 +1,137 @@
+package com.aurora.climatesync.view.component;
+
+import com.aurora.climatesync.model.Location;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A dropdown of location suggestions under a text field. The field keeps the keyboard focus:
+ * Up and Down move through the list, Enter picks the highlighted entry (or submits the field as
+ * usual when nothing is highlighted) and Escape closes the list.
+ */
+public class LocationSuggestionPopup {
+    private static final int VISIBLE_ROWS = 8;
+    private static final int ROW_HEIGHT = 26;
+
+    private final JTextField field;
+    private final DefaultListModel<Location> model = new DefaultListModel<>();
+    private final JList<Location> list = new JList<>(model);
+    private final JPopupMenu popup = new JPopupMenu();
+    private Consumer<Location> onSelected = location -> { };
+
+    public LocationSuggestionPopup(JTextField field) {
+        this.field = field;
+
+        list.setFocusable(false);
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setFixedCellHeight(ROW_HEIGHT);
+        list.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = list.locationToIndex(e.getPoint());
+                if (index >= 0) {
+                    choose(index);
+                }
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setBorder(null);
+        popup.setFocusable(false);
+        popup.setBorder(BorderFactory.createLineBorder(new Color(220, 220, 220)));
+        popup.add(scrollPane);
+
+        bindKeys();
+    }
+
+    public void setOnSelected(Consumer<Location> onSelected) {
+        this.onSelected = onSelected;
+    }
+
+    /**
+     * Replaces the suggestions; an empty list (or a field that is not on screen) hides the dropdown.
+     */
+    public void show(List<Location> suggestions) {
+        model.clear();
+        suggestions.forEach(model::addElement);
+        if (model.isEmpty() || !field.isShowing()) {
+            popup.setVisible(false);
+            return;
+        }
+        list.clearSelection();
+        int rows = Math.min(VISIBLE_ROWS, model.size());
+        popup.setPopupSize(field.getWidth(), rows * ROW_HEIGHT + 4);
+        popup.show(field, 0, field.getHeight());
+        field.requestFocusInWindow();
+    }
+
+    public void hide() {
+        popup.setVisible(false);
+    }
+
+    private void choose(int index) {
+        Location location = model.getElementAt(index);
+        hide();
+        onSelected.accept(location);
+    }
+
+    private void bindKeys() {
+        InputMap inputs = field.getInputMap(JComponent.WHEN_FOCUSED);
+        ActionMap actions = field.getActionMap();
+
+        inputs.put(KeyStroke.getKeyStroke(KeyEvent.VK_DOWN, 0), "suggestion-next");
+        actions.put("suggestion-next", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                move(1);
+            }
+        });
+        inputs.put(KeyStroke.getKeyStroke(KeyEvent.VK_UP, 0), "suggestion-previous");
+        actions.put("suggestion-previous", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                move(-1);
+            }
+        });
+        inputs.put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "suggestion-close");
+        actions.put("suggestion-close", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                hide();
+            }
+        });
+
+        // Enter keeps its usual meaning unless a suggestion is highlighted.
+        KeyStroke enter = KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0);
+        Action accept = actions.get(inputs.get(enter));
+        inputs.put(enter, "suggestion-accept");
+        actions.put("suggestion-accept", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (popup.isVisible() && list.getSelectedIndex() >= 0) {
+                    choose(list.getSelectedIndex());
+                } else if (accept != null) {
+                    hide();
+                    accept.actionPerformed(e);
+                }
+            }
+        });
+    }
+
+    private void move(int step) {
+        if (!popup.isVisible() || model.isEmpty()) {
+            return;
+        }
+        int index = Math.floorMod(list.getSelectedIndex() + step, model.size());
+        list.setSelectedIndex(index);
+        list.ensureIndexIsVisible(index);
+    }
+}
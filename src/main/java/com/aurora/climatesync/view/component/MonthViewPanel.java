@@ -2,6 +2,7 @@ package com.aurora.climatesync.view.component;
 
 import com.aurora.climatesync.model.WeatherForecast;
 import com.aurora.climatesync.presenter.DashboardViewModel;
+import com.aurora.climatesync.presenter.EventIndex;
 import com.aurora.climatesync.model.CalendarEvent;
 import com.aurora.climatesync.util.EventColorUtil;
 import com.aurora.climatesync.util.WeatherIconLoader;
@@ -14,22 +15,23 @@ import java.awt.event.MouseEvent;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 public class MonthViewPanel extends JPanel {
     private final JPanel contentPanel;
+    private final JPanel gridPanel = new JPanel(new GridLayout(0, 7));
+    private final KeyedReconciler<DayCell> cells =
+            new KeyedReconciler<>(gridPanel, DayCell::key, DayCell::contentHash, this::createCell);
+    private Consumer<CalendarEvent> onEventClick = event -> { };
 
     public MonthViewPanel() {
         setLayout(new BorderLayout());
         contentPanel = new JPanel(new BorderLayout());
         add(new JScrollPane(contentPanel), BorderLayout.CENTER);
-    }
 
-    public void render(List<DashboardViewModel> events, LocalDate currentDate, Consumer<CalendarEvent> onEventClick) {
-        contentPanel.removeAll();
-        
         // Header Row (Mon, Tue, ...)
         JPanel headerPanel = new JPanel(new GridLayout(1, 7));
         String[] days = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
@@ -39,95 +41,131 @@ public class MonthViewPanel extends JPanel {
             headerPanel.add(l);
         }
         contentPanel.add(headerPanel, BorderLayout.NORTH);
-        
-        // Grid
-        JPanel gridPanel = new JPanel(new GridLayout(0, 7));
+        contentPanel.add(gridPanel, BorderLayout.CENTER);
+    }
+
+    /**
+     * Shows the month containing {@code currentDate}. Each day cell is keyed by its date, so after
+     * an edit only the cells whose events changed are rebuilt.
+     */
+    public void render(EventIndex events, LocalDate currentDate, Consumer<CalendarEvent> onEventClick) {
+        this.onEventClick = onEventClick;
         YearMonth yearMonth = YearMonth.from(currentDate);
         LocalDate firstOfMonth = yearMonth.atDay(1);
-        int daysInMonth = yearMonth.lengthOfMonth();
         int dayOfWeek = firstOfMonth.getDayOfWeek().getValue(); // 1=Mon, 7=Sun
-        
+
+        List<DayCell> slots = new ArrayList<>();
         // Empty cells before 1st
         for (int i = 1; i < dayOfWeek; i++) {
-            gridPanel.add(new JLabel(""));
+            slots.add(new DayCell(null, i, Collections.emptyList()));
         }
-        
-        // Days
-        for (int day = 1; day <= daysInMonth; day++) {
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
             LocalDate date = yearMonth.atDay(day);
-            JPanel cell = new JPanel(new BorderLayout());
-            cell.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
-            cell.setBackground(Color.WHITE);
-            
-            // Date Number
-            JLabel num = new JLabel(" " + day);
-            cell.add(num, BorderLayout.NORTH);
-            
-            // Events Container
-            JPanel eventsList = new JPanel();
-            eventsList.setLayout(new BoxLayout(eventsList, BoxLayout.Y_AXIS));
-            eventsList.setOpaque(false);
-            
-            List<DashboardViewModel> dayEvents = events.stream()
-                    .filter(e -> e.getStartTime().toLocalDate().equals(date))
-                    .collect(Collectors.toList());
-            
-            // Show max 3 events to fit
-            for (int k = 0; k < Math.min(dayEvents.size(), 3); k++) {
-                DashboardViewModel de = dayEvents.get(k);
-                String timeStr = de.getStartTime().format(DateTimeFormatter.ofPattern("ha")).toLowerCase();
-                
-                String weatherIcon = "";
-                if (de.getWeatherIcon() != null) {
-                    weatherIcon = " " + de.getWeatherIcon();
-                }
+            slots.add(new DayCell(date, day, events.onDay(date)));
+        }
+        cells.reconcile(slots);
+    }
 
-                JLabel evLabel = new JLabel("• " + timeStr + " " + de.getTitle() + weatherIcon);
-                evLabel.setFont(new Font("Arial", Font.PLAIN, 10));
-                evLabel.setForeground(EventColorUtil.getEventColor(de.getColorId()));
-                
-                evLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-                evLabel.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        if (de.getSourceEvent() instanceof CalendarEvent) {
-                            onEventClick.accept((CalendarEvent) de.getSourceEvent());
-                        }
-                    }
-                });
-                
-                eventsList.add(evLabel);
-            }
-            if (dayEvents.size() > 3) {
-                eventsList.add(new JLabel(" + " + (dayEvents.size() - 3) + " more"));
-            }
-            
-            cell.add(eventsList, BorderLayout.CENTER);
+    KeyedReconciler<DayCell> getCells() {
+        return cells;
+    }
+
+    private Component createCell(DayCell slot) {
+        if (slot.date == null) {
+            return new JLabel("");
+        }
+        int day = slot.day;
+        List<DashboardViewModel> dayEvents = slot.events;
+        JPanel cell = new JPanel(new BorderLayout());
+        cell.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
+        cell.setBackground(Color.WHITE);
+        
+        // Date Number
+        JLabel num = new JLabel(" " + day);
+        cell.add(num, BorderLayout.NORTH);
+        
+        // Events Container
+        JPanel eventsList = new JPanel();
+        eventsList.setLayout(new BoxLayout(eventsList, BoxLayout.Y_AXIS));
+        eventsList.setOpaque(false);
+        
+        
+        // Show max 3 events to fit
+        for (int k = 0; k < Math.min(dayEvents.size(), 3); k++) {
+            DashboardViewModel de = dayEvents.get(k);
+            String timeStr = de.getStartTime().format(DateTimeFormatter.ofPattern("ha")).toLowerCase();
             
-            // Weather (Bottom Right)
-            DashboardViewModel weatherEvent = dayEvents.stream()
-                    .filter(e -> e.getWeatherIcon() != null && !e.getWeatherIcon().isEmpty())
-                    .findFirst()
-                    .orElse(null);
-
-            // Originally it produces Emoji, now it shall produce png for month option!
-            if (weatherEvent != null) {
-                int code = weatherEvent.getWeatherCode();
-                // Find the corresponding png name!
-                String iconName = WeatherClimateMapper.getIcon(code);
-                // Upload the icon png.
-                ImageIcon icon = WeatherIconLoader.load(iconName);
-
-                JLabel w = new JLabel(icon);
-                w.setHorizontalAlignment(SwingConstants.RIGHT);
-                cell.add(w, BorderLayout.SOUTH);
+            String weatherIcon = "";
+            if (de.getWeatherIcon() != null) {
+                weatherIcon = " " + de.getWeatherIcon();
             }
+
+            JLabel evLabel = new JLabel("• " + timeStr + " " + de.getTitle() + weatherIcon);
+            evLabel.setFont(new Font("Arial", Font.PLAIN, 10));
+            evLabel.setForeground(EventColorUtil.getEventColor(de.getColorId()));
+            
+            evLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+            evLabel.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    if (de.getSourceEvent() instanceof CalendarEvent) {
+                        onEventClick.accept((CalendarEvent) de.getSourceEvent());
+                    }
+                }
+            });
             
-            gridPanel.add(cell);
+            eventsList.add(evLabel);
+        }
+        if (dayEvents.size() > 3) {
+            eventsList.add(new JLabel(" + " + (dayEvents.size() - 3) + " more"));
         }
         
-        contentPanel.add(gridPanel, BorderLayout.CENTER);
-        contentPanel.revalidate();
-        contentPanel.repaint();
+        cell.add(eventsList, BorderLayout.CENTER);
+        
+        // Weather (Bottom Right)
+        DashboardViewModel weatherEvent = dayEvents.stream()
+                .filter(e -> e.getWeatherIcon() != null && !e.getWeatherIcon().isEmpty())
+                .findFirst()
+                .orElse(null);
+
+        // Originally it produces Emoji, now it shall produce png for month option!
+        if (weatherEvent != null) {
+            int code = weatherEvent.getWeatherCode();
+            // Find the corresponding png name!
+            String iconName = WeatherClimateMapper.getIcon(code);
+            // Upload the icon png.
+            ImageIcon icon = WeatherIconLoader.load(iconName, WeatherIconLoader.STANDARD_SIZE);
+
+            JLabel w = new JLabel(icon);
+            w.setHorizontalAlignment(SwingConstants.RIGHT);
+            cell.add(w, BorderLayout.SOUTH);
+        }
+        
+        return cell;
+    }
+
+    /** One slot of the month grid: a day with its events, or a blank before the 1st. */
+    static final class DayCell {
+        private final LocalDate date;
+        private final int day;
+        private final List<DashboardViewModel> events;
+
+        DayCell(LocalDate date, int day, List<DashboardViewModel> events) {
+            this.date = date;
+            this.day = day;
+            this.events = events;
+        }
+
+        String key() {
+            return date != null ? date.toString() : "blank-" + day;
+        }
+
+        int contentHash() {
+            int hash = 0;
+            for (DashboardViewModel event : events) {
+                hash = 31 * hash + event.contentHash();
+            }
+            return hash;
+        }
     }
 }
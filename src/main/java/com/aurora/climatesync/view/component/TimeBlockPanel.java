@@ -17,20 +17,32 @@ public class TimeBlockPanel extends JPanel {
     private final int HOUR_HEIGHT = 60;
     private final int TIME_COLUMN_WIDTH = 40;
     private final boolean showTimeLabels;
-    private final Consumer<CalendarEvent> onEventClick;
+    private final KeyedReconciler<DashboardViewModel> cards;
+    private Consumer<CalendarEvent> onEventClick;
 
     public TimeBlockPanel(List<DashboardViewModel> events, boolean showTimeLabels, Consumer<CalendarEvent> onEventClick) {
         this.showTimeLabels = showTimeLabels;
         this.onEventClick = onEventClick;
+        this.cards = new KeyedReconciler<>(this, DashboardViewModel::getKey, DashboardViewModel::contentHash, this::createEventCard);
         this.setLayout(null);
         this.setBackground(Color.WHITE);
         // Ensure width is sufficient, though layout manager usually handles it. 
         // 24 * HOUR_HEIGHT + padding
         this.setPreferredSize(new Dimension(0, 24 * HOUR_HEIGHT + 20));
 
-        for (DashboardViewModel de : events) {
-            addEventCard(de);
-        }
+        cards.reconcile(events);
+    }
+
+    /**
+     * Shows {@code events}, rebuilding only the cards for events that were added or changed.
+     */
+    public void setEvents(List<DashboardViewModel> events, Consumer<CalendarEvent> onEventClick) {
+        this.onEventClick = onEventClick;
+        cards.reconcile(events);
+    }
+
+    KeyedReconciler<DashboardViewModel> getCards() {
+        return cards;
     }
 
     @Override
@@ -78,7 +90,7 @@ public class TimeBlockPanel extends JPanel {
         return (hour - 12) + " PM";
     }
 
-    private void addEventCard(DashboardViewModel de) {
+    private JPanel createEventCard(DashboardViewModel de) {
         LocalTime start = de.getStartTime().toLocalTime();
         LocalTime end = de.getEndTime().toLocalTime();
 
@@ -147,7 +159,7 @@ public class TimeBlockPanel extends JPanel {
         card.putClientProperty("startY", startY);
         card.putClientProperty("height", height);
 
-        this.add(card);
+        return card;
     }
 
     @Override
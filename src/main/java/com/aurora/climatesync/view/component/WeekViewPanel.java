@@ -1,6 +1,6 @@
 package com.aurora.climatesync.view.component;
 
-import com.aurora.climatesync.presenter.DashboardViewModel;
+import com.aurora.climatesync.presenter.EventIndex;
 import com.aurora.climatesync.model.CalendarEvent;
 
 import javax.swing.*;
@@ -9,45 +9,44 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
-import java.util.List;
+import java.util.Collections;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 public class WeekViewPanel extends JPanel {
     private final JPanel contentPanel;
+    private final JLabel[] headers = new JLabel[7];
+    private final TimeBlockPanel[] dayPanels = new TimeBlockPanel[7];
 
     public WeekViewPanel() {
         setLayout(new BorderLayout());
         contentPanel = new ScrollablePanel(new GridLayout(1, 7));
         add(new JScrollPane(contentPanel), BorderLayout.CENTER);
-    }
 
-    public void render(List<DashboardViewModel> events, LocalDate currentDate, Consumer<CalendarEvent> onEventClick) {
-        contentPanel.removeAll();
-        LocalDate startOfWeek = currentDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        
+        // The seven columns are built once; render only updates their headers and cards.
         for (int i = 0; i < 7; i++) {
-            LocalDate day = startOfWeek.plusDays(i);
             JPanel dayCol = new JPanel(new BorderLayout());
             dayCol.setBorder(BorderFactory.createMatteBorder(0, 0, 0, 1, Color.LIGHT_GRAY));
-            
+
             // Header
-            JLabel header = new JLabel(day.format(DateTimeFormatter.ofPattern("EEE dd")), SwingConstants.CENTER);
-            header.setFont(new Font("Arial", Font.BOLD, 12));
-            header.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
-            dayCol.add(header, BorderLayout.NORTH);
-            
+            headers[i] = new JLabel("", SwingConstants.CENTER);
+            headers[i].setFont(new Font("Arial", Font.BOLD, 12));
+            headers[i].setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
+            dayCol.add(headers[i], BorderLayout.NORTH);
+
             // Events
-            List<DashboardViewModel> dayEvents = events.stream()
-                    .filter(e -> e.getStartTime().toLocalDate().equals(day))
-                    .collect(Collectors.toList());
-            
-            TimeBlockPanel timePanel = new TimeBlockPanel(dayEvents, i == 0, onEventClick);
-            
-            dayCol.add(timePanel, BorderLayout.CENTER);
+            dayPanels[i] = new TimeBlockPanel(Collections.emptyList(), i == 0, null);
+            dayCol.add(dayPanels[i], BorderLayout.CENTER);
             contentPanel.add(dayCol);
         }
-        contentPanel.revalidate();
-        contentPanel.repaint();
+    }
+
+    public void render(EventIndex events, LocalDate currentDate, Consumer<CalendarEvent> onEventClick) {
+        LocalDate startOfWeek = currentDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        for (int i = 0; i < 7; i++) {
+            LocalDate day = startOfWeek.plusDays(i);
+            headers[i].setText(day.format(DateTimeFormatter.ofPattern("EEE dd")));
+            dayPanels[i].setEvents(events.onDay(day), onEventClick);
+        }
     }
 }
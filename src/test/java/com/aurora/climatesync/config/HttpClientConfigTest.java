@@ -0,0 +1,102 @@
+package com.aurora.climatesync.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(compressed.toByteArray());
+            }
+        });
+        server.createContext("/hang", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        HttpClientConfig config = new HttpClientConfig();
+        connectionManager = config.httpConnectionManager(4, 2, 1000, 300, 60);
+        httpClient = config.httpClient(connectionManager, 300, 500, 60);
+        restTemplate = config.restTemplate(httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void gzipResponses_ShouldBeDecompressed() {
+        // Act
+        String body = restTemplate.getForObject(baseUrl + "/gzip", String.class);
+
+        // Assert
+        assertEquals("{\"ok\":true}", body);
+    }
+
+    @Test
+    void hungUpstream_ShouldFailWithinReadTimeout() {
+        // Act
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/hang", String.class));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(elapsedMillis < 1500, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void poolMonitor_ShouldReportConnectionsPerHost() {
+        // Arrange
+        HttpPoolMonitor monitor = new HttpPoolMonitor(connectionManager);
+
+        // Act
+        restTemplate.getForObject(baseUrl + "/gzip", String.class);
+        restTemplate.getForObject(baseUrl + "/gzip", String.class);
+
+        // Assert
+        assertEquals(1, monitor.getStatsPerHost().size());
+        assertEquals(0, monitor.getTotalStats().getLeased());
+        // The connection was returned to the pool for reuse rather than closed
+        assertEquals(1, monitor.getTotalStats().getAvailable());
+        assertEquals(2, monitor.getStatsPerHost().values().iterator().next().getMax());
+    }
+}
@@ -0,0 +1,113 @@
+package com.aurora.climatesync.infrastructure.gazetteer;
+
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.repository.LocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class GazetteerLocationRepositoryTest {
+
+    private LocationRepository remote;
+    private GazetteerLocationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String cities = "Toronto\tToronto\t\t43.6532\t-79.3832\tCanada\t2731571\n";
+        Gazetteer gazetteer = Gazetteer.load(new ByteArrayInputStream(cities.getBytes(StandardCharsets.UTF_8)));
+        remote = mock(LocationRepository.class);
+        repository = new GazetteerLocationRepository(gazetteer, remote);
+    }
+
+    @Test
+    void searchLocations_ShouldAnswerExactNamesLocally_WithoutCallingRemote() {
+        // Act
+        List<Location> result = repository.searchLocations("Toronto", 1);
+
+        // Assert
+        assertEquals("Toronto", result.get(0).getCityName());
+        verifyNoInteractions(remote);
+    }
+
+    @Test
+    void searchLocations_ShouldAskRemote_ForAPartialName_AndFillUpWithLocalMatches() {
+        // Arrange
+        Location torino = new Location("Torino", "Italy", 45.07, 7.69);
+        when(remote.searchLocations("tor", 5)).thenReturn(List.of(torino, new Location("Toronto", "Canada", 43.7, -79.4)));
+
+        // Act
+        List<Location> result = repository.searchLocations("tor", 5);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(torino, result.get(0));
+        assertEquals("Toronto", result.get(1).getCityName());
+    }
+
+    @Test
+    void searchLocations_ShouldUseLocalPrefixMatches_WhenRemoteFails() {
+        // Arrange
+        when(remote.searchLocations(anyString(), anyInt())).thenThrow(new RuntimeException("offline"));
+
+        // Act
+        List<Location> result = repository.searchLocations("toron", 1);
+
+        // Assert
+        assertEquals("Toronto", result.get(0).getCityName());
+    }
+
+    @Test
+    void searchLocations_ShouldUseRemote_OnLocalMiss() {
+        // Arrange
+        Location oslo = new Location("Oslo", "Norway", 59.91, 10.75);
+        when(remote.searchLocations("oslo", 1)).thenReturn(List.of(oslo));
+
+        // Act & Assert
+        assertEquals(List.of(oslo), repository.searchLocations("oslo", 1));
+    }
+
+    @Test
+    void searchLocations_ShouldFallBackToFuzzyMatch_WhenRemoteFails() {
+        // Arrange
+        when(remote.searchLocations(anyString(), anyInt())).thenThrow(new RuntimeException("offline"));
+
+        // Act
+        List<Location> result = repository.searchLocations("Tornoto", 1);
+
+        // Assert
+        assertEquals("Toronto", result.get(0).getCityName());
+    }
+
+    @Test
+    void suggestLocations_ShouldListLocalMatchesFirst_AndAskRemoteOnce() {
+        // Arrange
+        Location torino = new Location("Torino", "Italy", 45.07, 7.69);
+        when(remote.suggestLocations("tor", 8)).thenReturn(List.of(new Location("Toronto", "Canada", 43.7, -79.4), torino));
+
+        // Act
+        List<Location> result = repository.suggestLocations("tor", 8);
+
+        // Assert
+        assertEquals(List.of("Toronto", "Torino"), result.stream().map(Location::getCityName).toList());
+        verify(remote, times(1)).suggestLocations("tor", 8);
+        verify(remote, never()).searchLocations(anyString(), anyInt());
+    }
+
+    @Test
+    void suggestLocations_ShouldSkipRemote_WhenLocalMatchesFillTheList() {
+        // Act
+        List<Location> result = repository.suggestLocations("tor", 1);
+
+        // Assert
+        assertEquals("Toronto", result.get(0).getCityName());
+        verifyNoInteractions(remote);
+    }
+}
@@ -0,0 +1,83 @@
+package com.aurora.climatesync.infrastructure.gazetteer;
+
+import com.aurora.climatesync.model.Location;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GazetteerTest {
+
+    private static final String CITIES = String.join("\n",
+            "# name\tasciiname\talternatenames\tlatitude\tlongitude\tcountry\tpopulation",
+            "Paris\tParis\t\t48.8566\t2.3522\tFrance\t2148271",
+            "Parma\tParma\t\t44.8015\t10.3279\tItaly\t198292",
+            "Paris\tParis\t\t33.6609\t-95.5555\tUnited States\t24171",
+            "Montréal\tMontreal\tMontreal\t45.5017\t-73.5673\tCanada\t1762949",
+            "Munich\tMunich\tMünchen,Muenchen\t48.1351\t11.5820\tGermany\t1488202");
+
+    private static Gazetteer gazetteer() {
+        return Gazetteer.load(new ByteArrayInputStream(CITIES.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> names(List<Location> locations) {
+        return locations.stream().map(l -> l.getCityName() + ", " + l.getCountry()).toList();
+    }
+
+    @Test
+    void searchPrefix_ShouldRankExactNamesFirst_ThenByPopulation() {
+        // Arrange
+        Gazetteer gazetteer = gazetteer();
+
+        // Act
+        List<Location> exact = gazetteer.searchPrefix("paris", 5);
+        List<Location> prefix = gazetteer.searchPrefix("Par", 5);
+
+        // Assert
+        assertEquals(List.of("Paris, France", "Paris, United States"), names(exact));
+        assertEquals(List.of("Paris, France", "Parma, Italy", "Paris, United States"), names(prefix));
+        assertEquals(1, gazetteer.searchPrefix("par", 1).size());
+        assertTrue(gazetteer.searchPrefix("Toronto", 5).isEmpty());
+    }
+
+    @Test
+    void searchPrefix_ShouldMatchAccentsAndAlternateNames() {
+        // Arrange
+        Gazetteer gazetteer = gazetteer();
+
+        // Act & Assert
+        assertEquals("Montréal", gazetteer.searchPrefix("montreal", 1).get(0).getCityName());
+        assertEquals("Montréal", gazetteer.searchPrefix("MONTRÉ", 1).get(0).getCityName());
+        assertEquals("Munich", gazetteer.searchPrefix("münchen", 1).get(0).getCityName());
+        assertEquals(45.5017, gazetteer.searchPrefix("montreal", 1).get(0).getLatitude(), 1e-9);
+    }
+
+    @Test
+    void searchFuzzy_ShouldFindMisspelledNames_ButNotUnrelatedOnes() {
+        // Arrange
+        Gazetteer gazetteer = gazetteer();
+
+        // Act & Assert
+        assertEquals("Montréal", gazetteer.searchFuzzy("Montreel", 1).get(0).getCityName());
+        assertEquals("Munich", gazetteer.searchFuzzy("Munnich", 1).get(0).getCityName());
+        assertTrue(gazetteer.searchFuzzy("Vancouver", 5).isEmpty());
+    }
+
+    @Test
+    void load_ShouldReadBundledCities() throws Exception {
+        // Act
+        Gazetteer gazetteer;
+        try (InputStream in = getClass().getResourceAsStream("/gazetteer/cities.tsv")) {
+            gazetteer = Gazetteer.load(in);
+        }
+
+        // Assert
+        assertTrue(gazetteer.size() > 100);
+        assertEquals("Toronto", gazetteer.searchPrefix("toronto", 1).get(0).getCityName());
+        assertEquals("United Kingdom", gazetteer.searchPrefix("london", 1).get(0).getCountry());
+    }
+}
@@ -0,0 +1,173 @@
+package com.aurora.climatesync.infrastructure.google;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.google.api.services.calendar.model.Events;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CalendarSyncTest {
+
+    @Mock
+    private Calendar client;
+
+    @Mock
+    private Calendar.Events eventsResource;
+
+    @Mock
+    private Calendar.Events.List listRequest;
+
+    private CalendarSync sync;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        when(client.events()).thenReturn(eventsResource);
+        when(eventsResource.list(anyString())).thenReturn(listRequest);
+        sync = new CalendarSync(new GoogleEventMapper());
+    }
+
+    private static Event event(String id, String summary, int startsInHours) {
+        long start = System.currentTimeMillis() + startsInHours * 3_600_000L;
+        return new Event().setId(id).setSummary(summary).setStatus("confirmed")
+                .setStart(new EventDateTime().setDateTime(new DateTime(start)))
+                .setEnd(new EventDateTime().setDateTime(new DateTime(start + 3_600_000L)));
+    }
+
+    private static Event cancelled(String id) {
+        return new Event().setId(id).setStatus("cancelled");
+    }
+
+    private static List<String> summaries(List<CalendarEvent> events) {
+        return events.stream().map(CalendarEvent::getSummary).toList();
+    }
+
+    @Test
+    void refresh_ShouldReadAllPagesOnFullSync_ThenApplyOnlyDeltas() throws IOException {
+        // Arrange
+        when(listRequest.execute()).thenReturn(
+                new Events().setItems(List.of(event("a", "Standup", 2), event("b", "Review", 5))).setNextPageToken("page-2"),
+                new Events().setItems(List.of(event("c", "Lunch", 3))).setNextSyncToken("sync-1"),
+                new Events().setItems(List.of(event("b", "Review (moved)", 1), cancelled("c"), event("d", "Demo", 4)))
+                        .setNextSyncToken("sync-2"));
+
+        // Act
+        sync.refresh(client);
+        List<CalendarEvent> afterFull = sync.upcoming(10, ZonedDateTime.now());
+        sync.refresh(client);
+        List<CalendarEvent> afterDelta = sync.upcoming(10, ZonedDateTime.now());
+
+        // Assert
+        assertEquals(List.of("Standup", "Lunch", "Review"), summaries(afterFull));
+        assertEquals(List.of("Review (moved)", "Standup", "Demo"), summaries(afterDelta));
+        assertEquals(3, sync.getLastChangeCount());
+        verify(listRequest).setPageToken("page-2");
+        verify(listRequest).setSyncToken("sync-1");
+        verify(listRequest, times(2)).setTimeMin(any());
+        verify(listRequest, times(2)).setTimeMax(any());
+    }
+
+    @Test
+    void refresh_ShouldFallBackToFullSync_WhenSyncTokenIsGone() throws IOException {
+        // Arrange
+        GoogleJsonResponseException gone = new GoogleJsonResponseException(
+                new HttpResponseException.Builder(410, "Gone", new HttpHeaders()), null);
+        when(listRequest.execute())
+                .thenReturn(new Events().setItems(List.of(event("a", "Old", 2))).setNextSyncToken("sync-1"))
+                .thenThrow(gone)
+                .thenReturn(new Events().setItems(List.of(event("b", "Fresh", 2))).setNextSyncToken("sync-2"));
+
+        // Act
+        sync.refresh(client);
+        sync.refresh(client);
+
+        // Assert
+        assertEquals(List.of("Fresh"), summaries(sync.upcoming(10, ZonedDateTime.now())));
+        assertTrue(sync.hasSyncToken());
+    }
+
+    @Test
+    void refresh_ShouldKeepPreviousEvents_WhenDeltaFails() throws IOException {
+        // Arrange
+        when(listRequest.execute())
+                .thenReturn(new Events().setItems(List.of(event("a", "Kept", 2))).setNextSyncToken("sync-1"))
+                .thenThrow(new IOException("offline"));
+
+        // Act
+        sync.refresh(client);
+        assertThrows(IOException.class, () -> sync.refresh(client));
+
+        // Assert
+        assertEquals(List.of("Kept"), summaries(sync.upcoming(10, ZonedDateTime.now())));
+        assertEquals(1, sync.upcoming(1, ZonedDateTime.now()).size());
+    }
+
+    @Test
+    void refresh_ShouldDropDeltaEvents_MovedBeyondTheWindow() throws IOException {
+        // Arrange
+        sync = new CalendarSync(new GoogleEventMapper(), Duration.ofDays(2));
+        when(listRequest.execute())
+                .thenReturn(new Events().setItems(List.of(event("a", "Soon", 2), event("b", "Later", 5))).setNextSyncToken("sync-1"))
+                .thenReturn(new Events().setItems(List.of(event("b", "Later (moved)", 24 * 10))).setNextSyncToken("sync-2"));
+
+        // Act
+        sync.refresh(client);
+        sync.refresh(client);
+
+        // Assert
+        assertEquals(List.of("Soon"), summaries(sync.upcoming(10, ZonedDateTime.now())));
+    }
+
+    @Test
+    void refresh_ShouldNotBlockReadsOrLocalWrites_WhileListing() throws Exception {
+        // Arrange
+        CountDownLatch listing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(listRequest.execute()).thenAnswer(invocation -> {
+            listing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new Events().setItems(List.of(event("a", "Synced", 2))).setNextSyncToken("sync-1");
+        });
+        CompletableFuture<Void> refresh = CompletableFuture.runAsync(() -> {
+            try {
+                sync.refresh(client);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(listing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<Integer> reads = CompletableFuture.supplyAsync(() -> {
+            sync.put(new GoogleEventMapper().mapToCalendarEvent(event("local", "Local", 1)));
+            return sync.upcoming(10, ZonedDateTime.now()).size();
+        });
+
+        // Assert
+        assertEquals(1, reads.get(1, TimeUnit.SECONDS));
+        release.countDown();
+        refresh.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("Synced"), summaries(sync.upcoming(10, ZonedDateTime.now())));
+    }
+}
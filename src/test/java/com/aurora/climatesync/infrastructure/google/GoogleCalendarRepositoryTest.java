@@ -1,17 +1,31 @@
 package com.aurora.climatesync.infrastructure.google;
 
 import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.CalendarMutation;
+import com.aurora.climatesync.model.CalendarMutationResult;
 import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.repository.EventPages;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
 import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
 import com.google.api.services.calendar.Calendar;
+import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
 import com.google.api.services.calendar.model.Events;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -42,10 +56,7 @@ class GoogleCalendarRepositoryTest {
     private Calendar.Events.Insert insertRequest;
 
     @Mock
-    private Calendar.Events.Update updateRequest;
-    
-    @Mock
-    private Calendar.Events.Get getRequest;
+    private Calendar.Events.Patch patchRequest;
     
     @Mock
     private Calendar.Events.Delete deleteRequest;
@@ -155,6 +166,246 @@ class GoogleCalendarRepositoryTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void listEvents_ShouldFetchPagesLazily_ForAWindowOutsideTheSyncedCopy() throws IOException {
+        // Arrange
+        when(client.events()).thenReturn(eventsResource);
+        when(eventsResource.list(anyString())).thenReturn(listRequest);
+        Event first = new Event().setId("a");
+        Event cancelled = new Event().setId("b").setStatus("cancelled");
+        Event second = new Event().setId("c");
+        when(listRequest.execute()).thenReturn(
+                new Events().setItems(List.of(first, cancelled)).setNextPageToken("page-2"),
+                new Events().setItems(List.of(second)));
+
+        CalendarEvent mappedFirst = new CalendarEvent("a", "First", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "1");
+        CalendarEvent mappedSecond = new CalendarEvent("c", "Second", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "1");
+        when(eventMapper.mapToCalendarEvent(first)).thenReturn(mappedFirst);
+        when(eventMapper.mapToCalendarEvent(second)).thenReturn(mappedSecond);
+        ZonedDateTime from = ZonedDateTime.now().minusDays(30);
+        ZonedDateTime to = from.plusDays(30);
+
+        // Act
+        List<CalendarEvent> firstPage;
+        List<CalendarEvent> secondPage;
+        boolean more;
+        try (EventPages pages = repository.listEvents(from, to)) {
+            firstPage = pages.next();
+            secondPage = pages.next();
+            more = pages.hasNext();
+        }
+
+        // Assert
+        assertEquals(List.of(mappedFirst), firstPage);
+        assertEquals(List.of(mappedSecond), secondPage);
+        assertFalse(more);
+        verify(listRequest).setPageToken("page-2");
+        verify(listRequest, times(2)).setTimeMin(new com.google.api.client.util.DateTime(from.toInstant().toEpochMilli()));
+        verify(listRequest, times(2)).setTimeMax(new com.google.api.client.util.DateTime(to.toInstant().toEpochMilli()));
+        verify(listRequest, times(2)).setMaxResults(GoogleCalendarRepository.LIST_PAGE_SIZE);
+    }
+
+    @Test
+    void listEvents_ShouldStreamTheFullSync_ThenServeTheWindowFromTheCopy() throws IOException {
+        // Arrange
+        repository = new TestableGoogleCalendarRepository(credentialManager, new GoogleEventMapper());
+        repository.setCalendarClient(client);
+        when(client.events()).thenReturn(eventsResource);
+        when(eventsResource.list(anyString())).thenReturn(listRequest);
+        when(listRequest.execute()).thenReturn(
+                new Events().setItems(List.of(timed("a", "Standup", 2))).setNextPageToken("page-2"),
+                new Events().setItems(List.of(timed("b", "Review", 24 * 20), timed("c", "Offsite", 24 * 50)))
+                        .setNextSyncToken("sync-1"),
+                new Events().setItems(List.of(timed("d", "Demo", 5))).setNextSyncToken("sync-2"));
+        ZonedDateTime from = ZonedDateTime.now();
+        ZonedDateTime to = from.plusDays(30);
+
+        // Act
+        List<List<String>> cold = new ArrayList<>();
+        try (EventPages pages = repository.listEvents(from, to)) {
+            pages.forEachRemaining(page -> cold.add(page.stream().map(CalendarEvent::getSummary).toList()));
+        }
+        List<List<String>> warm = new ArrayList<>();
+        try (EventPages pages = repository.listEvents(from, to)) {
+            pages.forEachRemaining(page -> warm.add(page.stream().map(CalendarEvent::getSummary).toList()));
+        }
+
+        // Assert
+        assertEquals(List.of(List.of("Standup"), List.of("Review")), cold);
+        assertEquals(List.of(List.of("Standup", "Demo", "Review")), warm);
+        verify(listRequest, times(3)).execute();
+        verify(listRequest).setSyncToken("sync-1");
+    }
+
+    @Test
+    void listEvents_ShouldListEventsPastTheCopysEnd_FromGoogle() throws Exception {
+        // Arrange
+        repository = new TestableGoogleCalendarRepository(credentialManager, new GoogleEventMapper());
+        repository.setCalendarClient(client);
+        when(client.events()).thenReturn(eventsResource);
+        when(eventsResource.list(anyString())).thenReturn(listRequest);
+        ZonedDateTime coldFrom = ZonedDateTime.now();
+        List<Event> lastDay = new ArrayList<>();
+        when(listRequest.execute()).thenReturn(
+                new Events().setItems(List.of(timed("a", "Standup", 2), timed("b", "Straddles", 0))).setNextSyncToken("sync-1"),
+                new Events().setNextSyncToken("sync-2"))
+                .thenAnswer(invocation -> new Events().setItems(lastDay));
+        try (EventPages pages = repository.listEvents(coldFrom, coldFrom.plusDays(60))) {
+            pages.forEachRemaining(page -> { });
+        }
+        Thread.sleep(50);
+        ZonedDateTime from = ZonedDateTime.now();
+        ZonedDateTime to = from.plusDays(60);
+        // Google lists what overlaps the gap, including an event the copy already holds.
+        lastDay.add(timed("b", "Straddles", 0));
+        lastDay.add(new Event().setId("z").setSummary("Last day").setStatus("confirmed")
+                .setStart(new EventDateTime().setDateTime(new DateTime(to.toInstant().toEpochMilli() - 10))));
+        lastDay.get(1).setEnd(new EventDateTime().setDateTime(new DateTime(to.toInstant().toEpochMilli() + 3_600_000L)));
+
+        // Act
+        List<List<String>> warm = new ArrayList<>();
+        try (EventPages pages = repository.listEvents(from, to)) {
+            pages.forEachRemaining(page -> warm.add(page.stream().map(CalendarEvent::getSummary).toList()));
+        }
+
+        // Assert
+        assertEquals(List.of(List.of("Straddles", "Standup"), List.of("Last day")), warm);
+        verify(listRequest, times(3)).execute();
+        verify(listRequest).setTimeMax(new DateTime(to.toInstant().toEpochMilli()));
+    }
+
+    private static Event timed(String id, String summary, int startsInHours) {
+        long start = System.currentTimeMillis() + startsInHours * 3_600_000L;
+        return new Event().setId(id).setSummary(summary).setStatus("confirmed")
+                .setStart(new EventDateTime().setDateTime(new DateTime(start)))
+                .setEnd(new EventDateTime().setDateTime(new DateTime(start + 3_600_000L)));
+    }
+
+    @Test
+    void listEvents_ShouldHaveNoPages_WhenClientIsNull() {
+        // Arrange
+        repository.setCalendarClient(null);
+
+        // Act
+        EventPages pages = repository.listEvents(ZonedDateTime.now(), ZonedDateTime.now().plusDays(1));
+
+        // Assert
+        assertFalse(pages.hasNext());
+    }
+
+    /** Answers every batch call with the given parts, recording each request body. */
+    private static Calendar batchClient(List<String> requestBodies, String... responseParts) {
+        String boundary = "batch_test";
+        StringBuilder body = new StringBuilder();
+        for (String part : responseParts) {
+            body.append("--").append(boundary).append("\r\n")
+                    .append("Content-Type: application/http\r\n\r\n")
+                    .append(part).append("\r\n");
+        }
+        body.append("--").append(boundary).append("--\r\n");
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() throws IOException {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        getStreamingContent().writeTo(out);
+                        requestBodies.add(out.toString(StandardCharsets.UTF_8));
+                        return new MockLowLevelHttpResponse()
+                                .setContentType("multipart/mixed; boundary=" + boundary)
+                                .setContent(body.toString());
+                    }
+                };
+            }
+        };
+        return new Calendar.Builder(transport, GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("test").build();
+    }
+
+    private static String httpPart(int status, String reason, String json) {
+        return "HTTP/1.1 " + status + " " + reason + "\r\nContent-Type: application/json\r\n\r\n" + json;
+    }
+
+    @Test
+    void applyMutations_ShouldSendOneBatch_AndReportEachResult() {
+        // Arrange
+        List<String> requestBodies = new ArrayList<>();
+        repository.setCalendarClient(batchClient(requestBodies,
+                httpPart(200, "OK", "{\"id\":\"new-1\"}"),
+                httpPart(200, "OK", "{\"id\":\"2\"}"),
+                httpPart(404, "Not Found", "{\"error\":{\"code\":404,\"message\":\"Not Found\"}}")));
+        CalendarEvent added = new CalendarEvent(null, "New", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "1");
+        CalendarEvent recolored = new CalendarEvent("2", "Old", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "5");
+        CalendarEvent storedNew = new CalendarEvent("new-1", "New", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "1");
+        CalendarEvent storedRecolored = new CalendarEvent("2", "Old", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "5");
+        when(eventMapper.mapToGoogleEvent(any())).thenAnswer(invocation -> new Event());
+        when(eventMapper.mapToGooglePatch(any())).thenAnswer(invocation -> new Event());
+        when(eventMapper.mapToCalendarEvent(any())).thenAnswer(invocation ->
+                "new-1".equals(((Event) invocation.getArgument(0)).getId()) ? storedNew : storedRecolored);
+        List<CalendarMutation> mutations = List.of(
+                CalendarMutation.add(added), CalendarMutation.update(recolored), CalendarMutation.delete("missing"));
+
+        // Act
+        List<CalendarMutationResult> results = repository.applyMutations(mutations);
+
+        // Assert
+        assertEquals(1, requestBodies.size());
+        assertTrue(requestBodies.get(0).contains("POST "));
+        assertTrue(requestBodies.get(0).contains("PATCH "));
+        assertTrue(requestBodies.get(0).contains("DELETE "));
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(storedNew, results.get(0).getEvent());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(storedRecolored, results.get(1).getEvent());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("Not Found", results.get(2).getError());
+        assertSame(mutations.get(2), results.get(2).getMutation());
+    }
+
+    @Test
+    void applyMutations_ShouldSendAClearedDescriptionAsNull() {
+        // Arrange
+        List<String> requestBodies = new ArrayList<>();
+        GoogleCalendarRepository realMapping = new GoogleCalendarRepository(credentialManager, new GoogleEventMapper());
+        realMapping.setCalendarClient(batchClient(requestBodies, httpPart(200, "OK", "{\"id\":\"2\","
+                + "\"start\":{\"dateTime\":\"2026-10-19T09:00:00Z\"},\"end\":{\"dateTime\":\"2026-10-19T10:00:00Z\"}}")));
+        CalendarEvent cleared = new CalendarEvent("2", "Standup", null, ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "5");
+
+        // Act
+        List<CalendarMutationResult> results = realMapping.applyMutations(List.of(CalendarMutation.update(cleared)));
+
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(requestBodies.get(0).contains("PATCH "));
+        assertTrue(requestBodies.get(0).contains("\"description\":null"), requestBodies.get(0));
+    }
+
+    @Test
+    void applyMutations_ShouldReportWhyTheBatchFailed_ForEachMutationInIt() {
+        // Arrange
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        repository.setCalendarClient(new Calendar.Builder(transport, GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("test").build());
+        List<CalendarMutation> mutations = List.of(CalendarMutation.delete("1"), CalendarMutation.delete("2"));
+
+        // Act
+        List<CalendarMutationResult> results = repository.applyMutations(mutations);
+
+        // Assert
+        assertEquals(2, results.size());
+        for (CalendarMutationResult result : results) {
+            assertFalse(result.isSuccess());
+            assertEquals("Connection reset", result.getError());
+        }
+    }
+
     @Test
     void addEvent_ShouldCallInsert_WhenClientIsConnected() throws IOException {
         // Arrange
@@ -175,26 +426,23 @@ class GoogleCalendarRepositoryTest {
     }
 
     @Test
-    void updateEvent_ShouldCallUpdate_WhenClientIsConnected() throws IOException {
+    void updateEvent_ShouldPatchWithoutFetching_WhenClientIsConnected() throws IOException {
         // Arrange
         CalendarEvent calendarEvent = new CalendarEvent("1", "Test", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "1");
         Event googleEvent = new Event();
-        googleEvent.setId("1");
 
+        when(eventMapper.mapToGooglePatch(calendarEvent)).thenReturn(googleEvent);
         when(client.events()).thenReturn(eventsResource);
-        when(eventsResource.get(anyString(), anyString())).thenReturn(getRequest);
-        when(getRequest.execute()).thenReturn(googleEvent);
-        
-        when(eventsResource.update(anyString(), anyString(), any(Event.class))).thenReturn(updateRequest);
-        when(updateRequest.execute()).thenReturn(googleEvent);
+        when(eventsResource.patch(anyString(), anyString(), any(Event.class))).thenReturn(patchRequest);
+        when(patchRequest.execute()).thenReturn(googleEvent);
 
         // Act
         repository.updateEvent(calendarEvent);
 
         // Assert
-        verify(eventMapper).updateGoogleEvent(googleEvent, calendarEvent);
-        verify(client.events()).update("primary", googleEvent.getId(), googleEvent);
-        verify(updateRequest).execute();
+        verify(client.events()).patch("primary", "1", googleEvent);
+        verify(patchRequest).execute();
+        verify(eventsResource, never()).get(anyString(), anyString());
     }
     
     @Test
@@ -253,8 +501,8 @@ class GoogleCalendarRepositoryTest {
         CalendarEvent calendarEvent = new CalendarEvent("1", "Test", "Desc", ZonedDateTime.now(), ZonedDateTime.now().plusHours(1), new Location(), "1");
         
         when(client.events()).thenReturn(eventsResource);
-        when(eventsResource.get(anyString(), anyString())).thenReturn(getRequest);
-        when(getRequest.execute()).thenThrow(new IOException("API Error"));
+        when(eventsResource.patch(anyString(), anyString(), any())).thenReturn(patchRequest);
+        when(patchRequest.execute()).thenThrow(new IOException("API Error"));
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> repository.updateEvent(calendarEvent));
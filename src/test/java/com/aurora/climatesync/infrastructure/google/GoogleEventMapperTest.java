@@ -2,6 +2,7 @@ package com.aurora.climatesync.infrastructure.google;
 
 import com.aurora.climatesync.model.CalendarEvent;
 import com.aurora.climatesync.model.Location;
+import com.google.api.client.util.Data;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
@@ -95,6 +96,20 @@ class GoogleEventMapperTest {
         assertNotNull(result.getEnd());
     }
 
+    @Test
+    void mapToGooglePatch_ShouldSendAClearedDescriptionAsNull() {
+        // Arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        CalendarEvent calendarEvent = new CalendarEvent("1", "Meeting", null, now, now.plusHours(1), null, null);
+
+        // Act
+        Event patch = mapper.mapToGooglePatch(calendarEvent);
+
+        // Assert
+        assertEquals("Meeting", patch.getSummary());
+        assertTrue(Data.isNull(patch.getDescription()));
+    }
+
     @Test
     void updateGoogleEvent_ShouldUpdateCorrectly() {
         // Arrange
@@ -0,0 +1,194 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.ForecastWeek;
+import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.WeatherForecast;
+import com.aurora.climatesync.repository.WeatherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CachingWeatherRepositoryTest {
+
+    @Mock
+    private WeatherRepository delegate;
+
+    private MutableClock clock;
+    private CachingWeatherRepository repository;
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-11-24T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        clock = new MutableClock();
+        repository = new CachingWeatherRepository(delegate, 2, Duration.ofMinutes(30), Duration.ofMinutes(60), clock);
+    }
+
+    private static List<WeatherForecast> weekly() {
+        return List.of(new WeatherForecast(LocalDate.now(), 10.0, 5.0, "Sunny", 0.0, 10.0, 1));
+    }
+
+    @Test
+    void fetchWeeklyForecast_ShouldHitCache_WithinTtl() {
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble())).thenReturn(weekly());
+
+        repository.fetchWeeklyForecast(43.6532, -79.3832);
+        clock.advance(Duration.ofMinutes(10));
+        // Same ~1 km cell
+        List<WeatherForecast> second = repository.fetchWeeklyForecast(43.6534, -79.3829);
+
+        assertEquals(1, second.size());
+        verify(delegate, times(1)).fetchWeeklyForecast(anyDouble(), anyDouble());
+        assertEquals(1, repository.getHitCount());
+        assertEquals(1, repository.getMissCount());
+    }
+
+    @Test
+    void fetchWeeklyForecast_ShouldRefetch_AfterTtl() {
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble())).thenReturn(weekly());
+
+        repository.fetchWeeklyForecast(43.65, -79.38);
+        clock.advance(Duration.ofMinutes(31));
+        repository.fetchWeeklyForecast(43.65, -79.38);
+
+        verify(delegate, times(2)).fetchWeeklyForecast(43.65, -79.38);
+        assertEquals(1, repository.getExpirationCount());
+    }
+
+    @Test
+    void fetchWeeklyForecast_ShouldNotCacheEmptyResults() {
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble())).thenReturn(Collections.emptyList());
+
+        repository.fetchWeeklyForecast(43.65, -79.38);
+        repository.fetchWeeklyForecast(43.65, -79.38);
+
+        verify(delegate, times(2)).fetchWeeklyForecast(43.65, -79.38);
+    }
+
+    @Test
+    void cache_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble())).thenReturn(weekly());
+
+        repository.fetchWeeklyForecast(1.0, 1.0);
+        repository.fetchWeeklyForecast(2.0, 2.0);
+        repository.fetchWeeklyForecast(1.0, 1.0); // touch 1 so 2 is eldest
+        repository.fetchWeeklyForecast(3.0, 3.0); // evicts 2
+        repository.fetchWeeklyForecast(1.0, 1.0);
+        repository.fetchWeeklyForecast(2.0, 2.0);
+
+        verify(delegate, times(1)).fetchWeeklyForecast(1.0, 1.0);
+        verify(delegate, times(2)).fetchWeeklyForecast(2.0, 2.0);
+        assertTrue(repository.getEvictionCount() >= 1);
+    }
+
+    @Test
+    void fetchForecastForTime_ShouldPassThrough_ToTheDelegatesSeriesStore() {
+        EventWeather weather = new EventWeather(12.0, "Cloudy", 0.1, 8.0);
+        when(delegate.fetchForecastForTime(anyDouble(), anyDouble(), any())).thenReturn(weather);
+        ZonedDateTime time = ZonedDateTime.parse("2025-11-24T14:05:00Z");
+
+        EventWeather first = repository.fetchForecastForTime(43.65, -79.38, time);
+        repository.fetchForecastForTime(43.65, -79.38, time.plusMinutes(20));
+
+        assertSame(weather, first);
+        verify(delegate, times(2)).fetchForecastForTime(anyDouble(), anyDouble(), any());
+        assertEquals(0, repository.getMissCount());
+    }
+
+    @Test
+    void resolveLocation_ShouldPassThrough() {
+        repository.resolveLocation(null);
+        repository.resolveLocation(null);
+        verify(delegate, times(2)).resolveLocation(null);
+    }
+
+    @Test
+    void fetchForecastBundles_ShouldOnlyAskDelegateForMisses_AndShareEntriesWithSingleFetch() {
+        LocalDate day = LocalDate.of(2025, 11, 24);
+        Coordinates toronto = new Coordinates(43.65, -79.38);
+        Coordinates paris = new Coordinates(48.86, 2.35);
+        ForecastBundle bundle = new ForecastBundle(ZoneOffset.UTC, weekly(), Collections.emptyList());
+        when(delegate.fetchForecastBundle(43.65, -79.38, day, day)).thenReturn(bundle);
+        when(delegate.fetchForecastBundles(anyCollection(), eq(day), eq(day))).thenReturn(Map.of(paris, bundle));
+
+        repository.fetchForecastBundle(43.65, -79.38, day, day);
+        Map<Coordinates, ForecastBundle> first = repository.fetchForecastBundles(List.of(toronto, paris), day, day);
+        Map<Coordinates, ForecastBundle> second = repository.fetchForecastBundles(List.of(toronto, paris), day, day);
+
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+        verify(delegate, times(1)).fetchForecastBundles(eq(List.of(paris)), eq(day), eq(day));
+    }
+
+    @Test
+    void fetchForecastBundle_ForTheWeek_ShouldAnswerWeeklyAndHourlyRequestsForTheSamePlace() {
+        // Kiritimati is UTC+14, so its date is ahead of this machine's for most of the day.
+        ZoneId kiritimati = ZoneId.of("Pacific/Kiritimati");
+        LocalDate today = LocalDate.now(kiritimati);
+        LocalDate first = ForecastWeek.firstRequestedDate();
+        LocalDate last = ForecastWeek.lastRequestedDate();
+        List<WeatherForecast> days = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            days.add(new WeatherForecast(date, 10.0, 5.0, "Sunny", 0.0, 10.0, 1));
+        }
+        ForecastBundle bundle = new ForecastBundle(kiritimati, days, List.of(
+                new HourlyForecast(today.atTime(9, 0), 4.0, 0.1, "Sunny", 5.0),
+                new HourlyForecast(today.atTime(10, 0), 5.0, 0.1, "Sunny", 5.0)));
+        when(delegate.fetchForecastBundle(43.65, -79.38, first, last)).thenReturn(bundle);
+
+        repository.fetchForecastBundle(43.65, -79.38, first, last);
+        List<WeatherForecast> weeklyForecast = repository.fetchWeeklyForecast(43.65, -79.38);
+        List<HourlyForecast> hours = repository.fetchHourlyForecast(43.65, -79.38, today);
+        repository.fetchHourlyForecast(43.65, -79.38, today.plusDays(ForecastWeek.DAYS));
+
+        assertEquals(ForecastWeek.DAYS, weeklyForecast.size());
+        assertEquals(today, weeklyForecast.get(0).getDate());
+        assertEquals(2, hours.size());
+        verify(delegate, times(1)).fetchForecastBundle(43.65, -79.38, first, last);
+        verify(delegate, never()).fetchWeeklyForecast(anyDouble(), anyDouble());
+        verify(delegate, never()).fetchHourlyForecast(anyDouble(), anyDouble(), eq(today));
+        verify(delegate).fetchHourlyForecast(43.65, -79.38, today.plusDays(ForecastWeek.DAYS));
+    }
+}
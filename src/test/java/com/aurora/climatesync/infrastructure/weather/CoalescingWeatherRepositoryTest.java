@@ -0,0 +1,160 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.WeatherForecast;
+import com.aurora.climatesync.repository.WeatherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CoalescingWeatherRepositoryTest {
+
+    @Mock
+    private WeatherRepository delegate;
+
+    private CoalescingWeatherRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        repository = new CoalescingWeatherRepository(delegate);
+    }
+
+    @Test
+    void concurrentIdenticalRequests_ShouldShareOneUpstreamCall() throws Exception {
+        List<WeatherForecast> forecast = List.of(new WeatherForecast(LocalDate.now(), 10.0, 5.0, "Sunny", 0.0, 10.0, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return forecast;
+        });
+
+        int callers = 5;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        List<Future<List<WeatherForecast>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> repository.fetchWeeklyForecast(43.65, -79.38)));
+        }
+        // Wait until every caller other than the leader has joined the in-flight request
+        long waitUntil = System.currentTimeMillis() + 5000;
+        while (repository.getCoalescedCallCount() < callers - 1 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        for (Future<List<WeatherForecast>> result : results) {
+            assertSame(forecast, result.get(5, TimeUnit.SECONDS));
+        }
+        pool.shutdownNow();
+
+        verify(delegate, times(1)).fetchWeeklyForecast(anyDouble(), anyDouble());
+        assertEquals(1, repository.getUpstreamCallCount());
+        assertEquals(callers - 1, repository.getCoalescedCallCount());
+    }
+
+    @Test
+    void sequentialRequests_ShouldEachGoUpstream() {
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble())).thenReturn(new ArrayList<>());
+
+        repository.fetchWeeklyForecast(43.65, -79.38);
+        repository.fetchWeeklyForecast(43.65, -79.38);
+
+        verify(delegate, times(2)).fetchWeeklyForecast(43.65, -79.38);
+        assertEquals(0, repository.getCoalescedCallCount());
+    }
+
+    @Test
+    void failure_ShouldPropagateAndNotBlockLaterRequests() {
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(new ArrayList<>());
+
+        assertThrows(IllegalStateException.class, () -> repository.fetchWeeklyForecast(1.0, 2.0));
+        assertNotNull(repository.fetchWeeklyForecast(1.0, 2.0));
+    }
+
+    @Test
+    void error_ShouldReleaseWaiters_AndNotBlockLaterRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.fetchWeeklyForecast(anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new AssertionError("boom");
+                })
+                .thenReturn(new ArrayList<>());
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Future<List<WeatherForecast>> leader = pool.submit(() -> repository.fetchWeeklyForecast(1.0, 2.0));
+        long waitUntil = System.currentTimeMillis() + 5000;
+        while (repository.getUpstreamCallCount() < 1 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        Future<List<WeatherForecast>> waiter = pool.submit(() -> repository.fetchWeeklyForecast(1.0, 2.0));
+        while (repository.getCoalescedCallCount() < 1 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, leaderFailure.getCause());
+        assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        pool.shutdownNow();
+        assertNotNull(repository.fetchWeeklyForecast(1.0, 2.0));
+    }
+
+    @Test
+    void batchRequest_ShouldJoinInFlightSingleFetch_AndSendOnlyTheRest() throws Exception {
+        LocalDate day = LocalDate.of(2025, 11, 24);
+        Coordinates toronto = new Coordinates(43.65, -79.38);
+        Coordinates paris = new Coordinates(48.86, 2.35);
+        ForecastBundle torontoBundle = new ForecastBundle(ZoneOffset.UTC, List.of(), List.of());
+        ForecastBundle parisBundle = new ForecastBundle(ZoneOffset.UTC, List.of(), List.of());
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.fetchForecastBundle(43.65, -79.38, day, day)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return torontoBundle;
+        });
+        when(delegate.fetchForecastBundles(anyCollection(), eq(day), eq(day))).thenReturn(Map.of(paris, parisBundle));
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Future<ForecastBundle> single = pool.submit(() -> repository.fetchForecastBundle(43.65, -79.38, day, day));
+        long waitUntil = System.currentTimeMillis() + 5000;
+        while (repository.getUpstreamCallCount() < 1 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        Future<Map<Coordinates, ForecastBundle>> batch = pool.submit(() -> repository.fetchForecastBundles(List.of(toronto, paris), day, day));
+        while (repository.getCoalescedCallCount() < 1 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        Map<Coordinates, ForecastBundle> bundles = batch.get(5, TimeUnit.SECONDS);
+        assertSame(torontoBundle, single.get(5, TimeUnit.SECONDS));
+        pool.shutdownNow();
+
+        assertSame(torontoBundle, bundles.get(toronto));
+        assertSame(parisBundle, bundles.get(paris));
+        verify(delegate, times(1)).fetchForecastBundles(eq(Set.of(paris)), eq(day), eq(day));
+    }
+}
@@ -0,0 +1,99 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Location;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeocodeCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-24T12:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private GeocodeCache cacheAt(Path file, Instant now) {
+        return new GeocodeCache(file, Duration.ofDays(30), Duration.ofHours(24), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void resolvedEntries_ShouldSurviveRestart() {
+        // Arrange
+        Path file = tempDir.resolve("geocode-cache.json");
+        GeocodeCache cache = cacheAt(file, NOW);
+        cache.putResolved("Toronto", "Canada", new Location("Toronto", "Canada", 43.65, -79.38));
+        cache.close();
+
+        // Act
+        GeocodeCache reloaded = cacheAt(file, NOW.plus(Duration.ofDays(1)));
+        Location location = new Location("  toronto ", "CANADA", 0, 0);
+        boolean resolved = reloaded.get(location.getCityName(), location.getCountry()).applyTo(location);
+
+        // Assert
+        assertTrue(Files.exists(file));
+        assertTrue(resolved);
+        assertEquals(43.65, location.getLatitude());
+        assertEquals(-79.38, location.getLongitude());
+        assertEquals("Toronto", location.getCityName());
+    }
+
+    @Test
+    void missingEntries_ShouldExpireSoonerThanResolvedOnes() {
+        // Arrange
+        Path file = tempDir.resolve("geocode-cache.json");
+        GeocodeCache cache = cacheAt(file, NOW);
+        cache.putResolved("Toronto", null, new Location("Toronto", "Canada", 43.65, -79.38));
+        cache.putMissing("Room 204", null);
+        cache.close();
+
+        // Act
+        GeocodeCache sameDay = cacheAt(file, NOW.plus(Duration.ofHours(1)));
+        GeocodeCache nextWeek = cacheAt(file, NOW.plus(Duration.ofDays(7)));
+
+        // Assert
+        assertFalse(sameDay.get("Room 204", null).isFound());
+        assertNull(nextWeek.get("Room 204", null));
+        assertTrue(nextWeek.get("Toronto", null).isFound());
+    }
+
+    @Test
+    void unreadableFile_ShouldStartEmpty() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("geocode-cache.json");
+        Files.writeString(file, "not json");
+
+        // Act
+        GeocodeCache cache = cacheAt(file, NOW);
+
+        // Assert
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void puts_ShouldBeWrittenTogether_AfterTheQuietPeriod() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("geocode-cache.json");
+        GeocodeCache cache = new GeocodeCache(file, Duration.ofDays(30), Duration.ofHours(24), Duration.ofHours(1),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        cache.putResolved("Toronto", null, new Location("Toronto", "Canada", 43.65, -79.38));
+        cache.putMissing("Room 204", null);
+        boolean writtenBeforeFlush = Files.exists(file);
+        cache.flush();
+
+        // Assert
+        assertFalse(writtenBeforeFlush);
+        assertEquals(2, cacheAt(file, NOW).size());
+        assertFalse(Files.exists(tempDir.resolve("geocode-cache.json.tmp")));
+        cache.close();
+    }
+}
@@ -0,0 +1,72 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.HourlySeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HourlySeriesStoreTest {
+
+    private static HourlySeries series() {
+        return new HourlySeries(ZoneOffset.UTC, 0, new double[] {1.0}, new double[] {0.0}, new double[] {5.0},
+                new short[] {0}, code -> "Sunny");
+    }
+
+    @Test
+    void get_ShouldShareOneLoadPerCell_AndForgetFinishedLoads() throws Exception {
+        HourlySeriesStore store = new HourlySeriesStore(8, Duration.ofMinutes(60));
+        Coordinates cell = new Coordinates(43.65, -79.38);
+        HourlySeries loaded = series();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<HourlySeries>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(pool.submit(() -> store.get(cell, c -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loaded;
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<HourlySeries> result : results) {
+            assertSame(loaded, result.get(5, TimeUnit.SECONDS));
+        }
+        pool.shutdownNow();
+
+        assertEquals(1, loads.get());
+        assertEquals(0, store.getLoadingCount());
+        assertSame(loaded, store.get(cell, c -> fail("should be cached")));
+    }
+
+    @Test
+    void get_ShouldNotKeepFailedLoads() {
+        HourlySeriesStore store = new HourlySeriesStore(8, Duration.ofMinutes(60));
+        Coordinates cell = new Coordinates(1.0, 2.0);
+
+        assertThrows(IllegalStateException.class, () -> store.get(cell, c -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, store.getLoadingCount());
+        assertNotNull(store.get(cell, c -> series()));
+    }
+}
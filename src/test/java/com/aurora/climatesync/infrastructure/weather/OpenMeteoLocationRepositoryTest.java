@@ -0,0 +1,124 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OpenMeteoLocationRepositoryTest {
+
+    private static final String MISS = "{\"results\":[]}";
+
+    @TempDir
+    Path tempDir;
+
+    private RestTemplate restTemplate;
+    private OpenMeteoLocationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        GeocodeCache cache = new GeocodeCache(tempDir.resolve("geocode.json"), Duration.ofDays(30), Duration.ofHours(24),
+                Clock.systemUTC());
+        repository = new OpenMeteoLocationRepository(restTemplate, cache, "http://geo.test/v1/search", 7);
+    }
+
+    private static String hit(String name, double lat, double lon) {
+        return "{\"results\":[{\"name\":\"" + name + "\",\"country\":\"Canada\",\"latitude\":" + lat + ",\"longitude\":" + lon + "}]}";
+    }
+
+    /** Answers each query variant after the given delay with the given body; unknown variants miss. */
+    private void answer(Map<String, String> bodies, long delayMillis, AtomicInteger calls) {
+        when(restTemplate.getForObject(anyString(), eq(String.class))).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            String url = URLDecoder.decode(invocation.getArgument(0), StandardCharsets.UTF_8);
+            String name = url.substring(url.indexOf("name=") + 5, url.indexOf("&count"));
+            Thread.sleep(delayMillis);
+            return bodies.getOrDefault(name, MISS);
+        });
+    }
+
+    @Test
+    void searchLocations_ShouldTryVariantsConcurrently() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        answer(Map.of("Union Station, Canada", hit("Union Station", 43.64, -79.38)), 300, calls);
+
+        // Act
+        long start = System.nanoTime();
+        List<Location> result = repository.searchLocations("Union Station", 5);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals("Union Station", result.get(0).getCityName());
+        assertEquals(5, calls.get());
+        // Five sequential lookups would take 1.5 s; in parallel they take about one round trip.
+        assertTrue(elapsedMillis < 1000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void searchVariants_ShouldPreferHigherRankedVariant_EvenIfItAnswersLater() {
+        // Arrange
+        when(restTemplate.getForObject(anyString(), eq(String.class))).thenAnswer(invocation -> {
+            String url = URLDecoder.decode(invocation.getArgument(0), StandardCharsets.UTF_8);
+            if (url.contains("name=Kingston&")) {
+                Thread.sleep(200);
+                return hit("Kingston", 44.23, -76.48);
+            }
+            return hit("Kingston Road", 43.70, -79.25);
+        });
+
+        // Act
+        List<Location> result = repository.searchVariants(List.of("Kingston", "Kingston Toronto"), 5);
+
+        // Assert
+        assertEquals("Kingston", result.get(0).getCityName());
+    }
+
+    @Test
+    void searchVariants_ShouldReturnNull_WhenEveryVariantMisses() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        answer(Map.of(), 0, calls);
+
+        // Act
+        List<Location> result = repository.searchVariants(List.of("Nowhere", "Nowhere Toronto", "Nowhere Canada"), 5);
+
+        // Assert
+        assertNull(result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void suggestLocations_ShouldSendOnePlainRequest_AndReturnEveryResult() {
+        // Arrange
+        when(restTemplate.getForObject(anyString(), eq(String.class))).thenReturn("{\"results\":["
+                + "{\"name\":\"Paris\",\"country\":\"France\",\"latitude\":48.85,\"longitude\":2.35},"
+                + "{\"name\":\"Paris\",\"country\":\"United States\",\"latitude\":33.66,\"longitude\":-95.56}]}");
+
+        // Act
+        List<Location> result = repository.suggestLocations("par", 8);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("United States", result.get(1).getCountry());
+        verify(restTemplate, times(1)).getForObject(contains("count=8"), eq(String.class));
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(String.class));
+    }
+}
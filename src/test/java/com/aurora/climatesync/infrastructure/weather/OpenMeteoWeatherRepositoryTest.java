@@ -0,0 +1,257 @@
+package com.aurora.climatesync.infrastructure.weather;
+
+import com.aurora.climatesync.model.Coordinates;
+import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.HourlyForecast;
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.model.WeatherForecast;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.hamcrest.Matchers.startsWith;
+
+class OpenMeteoWeatherRepositoryTest {
+
+    private static final String FORECAST_URL = "http://localhost/v1/forecast";
+    private static final long START_EPOCH = Instant.parse("2025-11-24T00:00:00Z").getEpochSecond();
+
+    @TempDir
+    Path tempDir;
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private GeocodeCache geocodeCache;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        geocodeCache = newGeocodeCache();
+    }
+
+    private GeocodeCache newGeocodeCache() {
+        return new GeocodeCache(tempDir.resolve("geocode-cache.json"), Duration.ofDays(30), Duration.ofHours(24), Clock.systemUTC());
+    }
+
+    private OpenMeteoWeatherRepository repository(boolean interpolate) {
+        return new OpenMeteoWeatherRepository(restTemplate, FORECAST_URL, "http://localhost/geo", "http://localhost/nominatim", 60, interpolate, geocodeCache);
+    }
+
+    /** Three hours of data: 10°C, 20°C, 30°C with precipitation 0%, 50%, 100%. */
+    private static String hourlySeriesJson() {
+        return "{\"hourly\":{" +
+                "\"time\":[" + START_EPOCH + "," + (START_EPOCH + 3600) + "," + (START_EPOCH + 7200) + "]," +
+                "\"temperature_2m\":[10.0,20.0,30.0]," +
+                "\"precipitation_probability\":[0,50,100]," +
+                "\"weathercode\":[0,3,61]," +
+                "\"windspeed_10m\":[5.0,10.0,15.0]}}";
+    }
+
+    @Test
+    void fetchForecastForTime_ShouldDownloadSeriesOnce_AndAnswerLaterLookupsFromMemory() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andExpect(queryParam("timeformat", "unixtime"))
+                .andRespond(withSuccess(hourlySeriesJson(), MediaType.APPLICATION_JSON));
+        OpenMeteoWeatherRepository repository = repository(false);
+
+        EventWeather first = repository.fetchForecastForTime(43.65, -79.38, ZonedDateTime.parse("2025-11-24T00:10:00Z"));
+        EventWeather second = repository.fetchForecastForTime(43.65, -79.38, ZonedDateTime.parse("2025-11-24T01:40:00Z"));
+        EventWeather third = repository.fetchForecastForTime(43.65, -79.38, ZonedDateTime.parse("2025-11-23T20:10:00-05:00"));
+
+        server.verify();
+        assertEquals(10.0, first.getTemperature());
+        assertEquals("Clear", first.getCondition());
+        assertEquals(30.0, second.getTemperature());
+        assertEquals(1.0, second.getPrecipitationChance());
+        assertEquals("Rainy", second.getCondition());
+        // 20:10 in Toronto is 01:10 UTC
+        assertEquals(20.0, third.getTemperature());
+    }
+
+    @Test
+    void fetchForecastForTime_ShouldReturnNull_OutsideSeries() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andRespond(withSuccess(hourlySeriesJson(), MediaType.APPLICATION_JSON));
+        OpenMeteoWeatherRepository repository = repository(false);
+
+        assertNull(repository.fetchForecastForTime(43.65, -79.38, ZonedDateTime.parse("2025-11-25T12:00:00Z")));
+    }
+
+    @Test
+    void fetchForecastForTime_ShouldInterpolateBetweenHours_WhenEnabled() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andRespond(withSuccess(hourlySeriesJson(), MediaType.APPLICATION_JSON));
+        OpenMeteoWeatherRepository repository = repository(true);
+
+        EventWeather weather = repository.fetchForecastForTime(43.65, -79.38, ZonedDateTime.parse("2025-11-24T00:30:00Z"));
+
+        assertEquals(15.0, weather.getTemperature(), 1e-9);
+        assertEquals(0.25, weather.getPrecipitationChance(), 1e-9);
+        assertEquals(7.5, weather.getWindSpeed(), 1e-9);
+    }
+
+    @Test
+    void resolveLocation_ShouldNotGeocodeAgain_AfterRestart() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith("http://localhost/geo")))
+                .andRespond(withSuccess("{\"results\":[{\"name\":\"Toronto\",\"country\":\"Canada\",\"latitude\":43.65,\"longitude\":-79.38}]}",
+                        MediaType.APPLICATION_JSON));
+        repository(false).resolveLocation(new Location("Toronto", "", 0, 0));
+
+        geocodeCache.close();
+        geocodeCache = newGeocodeCache();
+        Location location = new Location("Toronto", "", 0, 0);
+        OpenMeteoWeatherRepository restarted = repository(false);
+        boolean resolved = restarted.resolveLocation(location);
+
+        server.verify();
+        assertTrue(resolved);
+        assertEquals(0, restarted.getGeocodeRequestCount());
+        assertEquals(43.65, location.getLatitude());
+        assertEquals("Canada", location.getCountry());
+    }
+
+    @Test
+    void resolveLocation_ShouldRememberMisses() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith("http://localhost/geo")))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(startsWith("http://localhost/nominatim")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        OpenMeteoWeatherRepository repository = repository(false);
+
+        assertFalse(repository.resolveLocation(new Location("Room 204", "", 0, 0)));
+        assertFalse(repository.resolveLocation(new Location("Room 204", "", 0, 0)));
+
+        server.verify();
+    }
+
+    @Test
+    void fetchWeeklyForecast_ShouldParseDailyColumns_AndSkipUnknownFields() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andRespond(withSuccess("{\"latitude\":43.65,\"current_units\":{\"temperature_2m\":\"°C\"}," +
+                        "\"current\":{\"time\":\"2025-11-24T12:00\",\"temperature_2m\":3.5}," +
+                        "\"daily\":{\"time\":[\"2025-11-24\",\"2025-11-25\"]," +
+                        "\"temperature_2m_max\":[5.0,7.5],\"temperature_2m_min\":[-1.0,0.5]," +
+                        "\"precipitation_probability_mean\":[40,null],\"weathercode\":[61,3]," +
+                        "\"windspeed_10m_max\":[20.0,12.0]}}", MediaType.APPLICATION_JSON));
+
+        List<WeatherForecast> weekly = repository(false).fetchWeeklyForecast(43.65, -79.38);
+
+        assertEquals(2, weekly.size());
+        WeatherForecast today = weekly.get(0);
+        assertEquals(LocalDate.of(2025, 11, 24), today.getDate());
+        assertEquals(5.0, today.getMaxTemperature());
+        assertEquals(0.4, today.getPrecipitationChance(), 1e-9);
+        assertEquals("Rainy", today.getCondition());
+        assertEquals(3.5, today.getCurrentTemperature());
+        assertEquals(0.0, weekly.get(1).getPrecipitationChance());
+        assertNull(weekly.get(1).getCurrentTemperature());
+    }
+
+    @Test
+    void fetchForecastBundle_ShouldParseDailyAndHourly() {
+        ZoneId toronto = ZoneId.of("America/Toronto");
+        long midnight = LocalDate.of(2025, 11, 24).atStartOfDay(toronto).toEpochSecond();
+        long nineAm = midnight + 9 * 3600;
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andExpect(queryParam("timeformat", "unixtime"))
+                .andRespond(withSuccess("{\"timezone\":\"America/Toronto\"," +
+                        "\"daily\":{\"time\":[" + midnight + "],\"temperature_2m_max\":[5.0],\"temperature_2m_min\":[-1.0]," +
+                        "\"precipitation_probability_mean\":[10],\"weathercode\":[0],\"windspeed_10m_max\":[8.0]}," +
+                        "\"hourly\":{\"time\":[" + nineAm + "," + (nineAm + 3600) + "]," +
+                        "\"temperature_2m\":[1.0,2.0],\"precipitation_probability\":[0,20]," +
+                        "\"weathercode\":[0,3],\"windspeed_10m\":[4.0,6.0]}}", MediaType.APPLICATION_JSON));
+
+        ForecastBundle bundle = repository(false).fetchForecastBundle(43.65, -79.38,
+                LocalDate.of(2025, 11, 24), LocalDate.of(2025, 11, 24));
+
+        assertEquals(ZoneId.of("America/Toronto"), bundle.getZone());
+        assertEquals(5.0, bundle.getDailyForecast(LocalDate.of(2025, 11, 24)).getMaxTemperature());
+        List<HourlyForecast> hourly = bundle.getHourlyForecasts();
+        assertEquals(2, hourly.size());
+        assertEquals(LocalDateTime.of(2025, 11, 24, 10, 0), hourly.get(1).getDateTime());
+        assertEquals(0.2, hourly.get(1).getPrecipitationProbability(), 1e-9);
+        assertEquals("Cloudy", hourly.get(1).getCondition());
+        assertEquals(2.0, bundle.getWeatherAt(ZonedDateTime.of(2025, 11, 24, 10, 10, 0, 0, toronto)).getTemperature());
+    }
+
+    @Test
+    void fetchForecastBundle_ShouldRequestCurrentDailyAndHourlyInOneCall() {
+        ZoneId toronto = ZoneId.of("America/Toronto");
+        LocalDate today = LocalDate.now(toronto);
+        long midnight = today.atStartOfDay(toronto).toEpochSecond();
+        long lastHour = today.atTime(23, 0).atZone(toronto).toEpochSecond();
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andExpect(queryParam("current", "temperature_2m"))
+                .andExpect(queryParam("hourly", "temperature_2m,precipitation_probability,weathercode,windspeed_10m"))
+                .andExpect(queryParam("start_date", today.toString()))
+                .andExpect(queryParam("end_date", today.plusDays(6).toString()))
+                .andRespond(withSuccess("{\"timezone\":\"America/Toronto\",\"current\":{\"temperature_2m\":3.5}," +
+                        "\"daily\":{\"time\":[" + midnight + "," + (midnight + 86400) + "]," +
+                        "\"temperature_2m_max\":[5.0,7.0],\"temperature_2m_min\":[-1.0,0.0]," +
+                        "\"precipitation_probability_mean\":[10,20],\"weathercode\":[0,3],\"windspeed_10m_max\":[8.0,9.0]}," +
+                        "\"hourly\":{\"time\":[" + lastHour + "," + (lastHour + 3600) + "]," +
+                        "\"temperature_2m\":[1.0,2.0],\"precipitation_probability\":[0,20]," +
+                        "\"weathercode\":[0,3],\"windspeed_10m\":[4.0,6.0]}}", MediaType.APPLICATION_JSON));
+
+        ForecastBundle bundle = repository(false).fetchForecastBundle(43.65, -79.38, today, today.plusDays(6));
+
+        assertEquals(2, bundle.getDailyForecasts().size());
+        assertEquals(3.5, bundle.getDailyForecast(today).getCurrentTemperature());
+        assertEquals(List.of(1.0), bundle.getHourlyForecasts(today).stream().map(HourlyForecast::getTemperature).toList());
+        assertEquals(2, bundle.getHourlyForecasts().size());
+        server.verify();
+    }
+
+    @Test
+    void fetchForecastBundles_ShouldChunkLocationsAndMatchAnswersByPosition() {
+        OpenMeteoWeatherRepository repository = new OpenMeteoWeatherRepository(restTemplate, FORECAST_URL,
+                "http://localhost/geo", "http://localhost/nominatim", 60, false, geocodeCache, 2);
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andExpect(queryParam("latitude", "10.0,20.0"))
+                .andExpect(queryParam("longitude", "1.0,2.0"))
+                .andRespond(withSuccess("[" + dailyOnlyJson("UTC", 10.0) + "," + dailyOnlyJson("Europe/Paris", 20.0) + "]",
+                        MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(startsWith(FORECAST_URL)))
+                .andExpect(queryParam("latitude", "30.0"))
+                .andRespond(withSuccess(dailyOnlyJson("Asia/Tokyo", 30.0), MediaType.APPLICATION_JSON));
+        Coordinates first = new Coordinates(10.0, 1.0);
+        Coordinates second = new Coordinates(20.0, 2.0);
+        Coordinates third = new Coordinates(30.0, 3.0);
+        LocalDate day = LocalDate.of(2025, 11, 24);
+
+        Map<Coordinates, ForecastBundle> bundles = repository.fetchForecastBundles(List.of(first, second, third, first), day, day);
+
+        server.verify();
+        assertEquals(3, bundles.size());
+        assertEquals(10.0, bundles.get(first).getDailyForecast(day).getMaxTemperature());
+        assertEquals(ZoneId.of("Europe/Paris"), bundles.get(second).getZone());
+        assertEquals(30.0, bundles.get(third).getDailyForecast(day).getMaxTemperature());
+    }
+
+    private static String dailyOnlyJson(String zone, double maxTemperature) {
+        return "{\"timezone\":\"" + zone + "\",\"daily\":{\"time\":[\"2025-11-24\"]," +
+                "\"temperature_2m_max\":[" + maxTemperature + "],\"temperature_2m_min\":[0.0]," +
+                "\"precipitation_probability_mean\":[0],\"weathercode\":[0],\"windspeed_10m_max\":[1.0]}}";
+    }
+}
@@ -2,8 +2,12 @@ package com.aurora.climatesync.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,4 +77,29 @@ class ModelTest {
         user.clearTokens();
         assertFalse(user.isGoogleConnected());
     }
+
+    @Test
+    void testHourlySeries() {
+        ZoneId toronto = ZoneId.of("America/Toronto");
+        long start = ZonedDateTime.of(2025, 11, 24, 0, 0, 0, 0, toronto).toEpochSecond();
+        HourlySeries series = new HourlySeries(toronto, start,
+                new double[]{10.0, 20.0, 30.0}, new double[]{0.0, 0.5, 1.0}, new double[]{5.0, 10.0, 15.0},
+                new short[]{0, 3, 61}, code -> code == 61 ? "Rainy" : "Clear");
+
+        assertEquals(3, series.size());
+        assertEquals(LocalDateTime.of(2025, 11, 24, 2, 0), series.getDateTime(2));
+        assertEquals("Rainy", series.getCondition(2));
+
+        EventWeather nearest = series.weatherAt(Instant.ofEpochSecond(start + 4000), false);
+        assertEquals(20.0, nearest.getTemperature());
+        EventWeather blended = series.weatherAt(Instant.ofEpochSecond(start + 1800), true);
+        assertEquals(15.0, blended.getTemperature(), 1e-9);
+        assertNull(series.weatherAt(Instant.ofEpochSecond(start + 4 * 3600), false));
+
+        List<HourlyForecast> view = series.asForecasts();
+        assertEquals(3, view.size());
+        assertEquals(LocalDateTime.of(2025, 11, 24, 1, 0), view.get(1).getDateTime());
+        assertEquals(0.5, view.get(1).getPrecipitationProbability());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(view.get(0)));
+    }
 }
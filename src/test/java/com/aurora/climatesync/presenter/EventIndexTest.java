@@ -0,0 +1,48 @@
+package com.aurora.climatesync.presenter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventIndexTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Toronto");
+
+    private static DashboardViewModel event(String title, int day, int hour) {
+        ZonedDateTime start = ZonedDateTime.of(2025, 3, day, hour, 0, 0, 0, ZONE);
+        return new DashboardViewModel(title, title, null, null, start, start.plusHours(1), null,
+                null, null, null, null, -1, null);
+    }
+
+    private static List<String> titles(List<DashboardViewModel> events) {
+        return events.stream().map(DashboardViewModel::getTitle).toList();
+    }
+
+    @Test
+    void testDayAndRangeLookups() {
+        EventIndex index = EventIndex.of(List.of(
+                event("Late", 10, 18), event("Early", 10, 9), event("Also nine", 10, 9),
+                event("Next day", 11, 12), event("Later", 20, 8)));
+
+        assertEquals(5, index.size());
+        assertEquals(List.of("Early", "Also nine", "Late"), titles(index.onDay(LocalDate.of(2025, 3, 10))));
+        assertTrue(index.onDay(LocalDate.of(2025, 3, 12)).isEmpty());
+        assertEquals(List.of("Early", "Also nine", "Late", "Next day"),
+                titles(index.between(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 11))));
+        assertEquals(List.of("Early", "Also nine", "Late", "Next day", "Later"), titles(index.getAll()));
+    }
+
+    @Test
+    void testEmptyIndex() {
+        EventIndex index = EventIndex.of(List.of());
+
+        assertTrue(index.isEmpty());
+        assertSame(EventIndex.empty(), index);
+        assertTrue(index.onDay(LocalDate.of(2025, 3, 10)).isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+package com.aurora.climatesync.presenter;
+
+import com.aurora.climatesync.model.Location;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecastSnapshotsTest {
+
+    @Test
+    void put_ShouldFindSnapshotByQueryAndByNearbyLocation() {
+        // Arrange
+        Instant now = Instant.parse("2026-10-18T12:00:00Z");
+        ForecastSnapshots snapshots = new ForecastSnapshots();
+        Location toronto = new Location("Toronto", "Canada", 43.6532, -79.3832);
+
+        // Act
+        snapshots.put("Toronto, Canada", toronto, "Toronto, Canada", List.of(), List.of(), now);
+        Location resolved = snapshots.resolvedLocation("  toronto ");
+        ForecastSnapshots.Snapshot nearby = snapshots.get(new Location("Toronto", "Canada", 43.6511, -79.3849));
+
+        // Assert
+        assertSame(toronto, resolved);
+        assertEquals("Toronto, Canada", nearby.displayName);
+        assertEquals(now, nearby.fetchedAt);
+        assertNull(snapshots.get(new Location("Ottawa", "Canada", 45.42, -75.69)));
+    }
+
+    @Test
+    void put_ShouldForgetLeastRecentlyViewedPlaces() {
+        // Arrange
+        ForecastSnapshots snapshots = new ForecastSnapshots();
+        Location first = new Location("Place 0", "Nowhere", 0.5, 0.5);
+
+        // Act
+        snapshots.put("place 0", first, "Place 0", List.of(), List.of(), Instant.now());
+        for (int i = 1; i <= ForecastSnapshots.MAX_PLACES; i++) {
+            snapshots.put("place " + i, new Location("Place " + i, "Nowhere", i, i), "Place " + i, List.of(), List.of(), Instant.now());
+        }
+
+        // Assert
+        assertNull(snapshots.get(first));
+        assertNull(snapshots.resolvedLocation("place 0"));
+        assertNotNull(snapshots.get(new Location("Place 1", "Nowhere", 1, 1)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.aurora.climatesync.presenter;
+
+import com.aurora.climatesync.model.Location;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationAutocompleteTest {
+
+    private static final Location TORONTO = new Location("Toronto", "Canada", 43.65, -79.38);
+    private static final Location TORINO = new Location("Torino", "Italy", 45.07, 7.69);
+    private static final Location LONDON = new Location("London", "United Kingdom", 51.51, -0.13);
+    private static final Location PARIS = new Location("Paris", "France", 48.86, 2.35);
+
+    private static void onEdt(Runnable action) throws Exception {
+        SwingUtilities.invokeAndWait(action);
+    }
+
+    @Test
+    void onQueryChanged_ShouldDebounceKeystrokes_AndReuseCachedPrefixResults_ThatStillAllMatch() throws Exception {
+        // Arrange
+        List<String> lookups = new CopyOnWriteArrayList<>();
+        List<List<Location>> shown = new CopyOnWriteArrayList<>();
+        CountDownLatch answered = new CountDownLatch(1);
+        LocationAutocomplete[] autocomplete = new LocationAutocomplete[1];
+        onEdt(() -> autocomplete[0] = new LocationAutocomplete(query -> {
+            lookups.add(query);
+            return List.of(TORONTO);
+        }, suggestions -> {
+            shown.add(suggestions);
+            if (!suggestions.isEmpty()) {
+                answered.countDown();
+            }
+        }, 50));
+
+        // Act
+        onEdt(() -> {
+            autocomplete[0].onQueryChanged("T");
+            autocomplete[0].onQueryChanged("To");
+            autocomplete[0].onQueryChanged("Tor");
+        });
+        assertTrue(answered.await(5, TimeUnit.SECONDS));
+        onEdt(() -> autocomplete[0].onQueryChanged("Toron"));
+
+        // Assert
+        assertEquals(List.of("tor"), lookups);
+        assertEquals(1, autocomplete[0].getLookupCount());
+        assertEquals(List.of(TORONTO), shown.get(shown.size() - 1));
+    }
+
+    @Test
+    void onQueryChanged_ShouldLookUpAgain_OnceTheCachedPrefixResultsShrink() throws Exception {
+        // Arrange
+        List<String> lookups = new CopyOnWriteArrayList<>();
+        List<List<Location>> shown = new CopyOnWriteArrayList<>();
+        CountDownLatch firstAnswer = new CountDownLatch(1);
+        CountDownLatch answered = new CountDownLatch(2);
+        Location torontoJunction = new Location("Toronto Junction", "Canada", 43.66, -79.46);
+        LocationAutocomplete[] autocomplete = new LocationAutocomplete[1];
+        onEdt(() -> autocomplete[0] = new LocationAutocomplete(query -> {
+            lookups.add(query);
+            return query.equals("tor") ? List.of(TORINO, TORONTO) : List.of(TORONTO, torontoJunction);
+        }, suggestions -> {
+            shown.add(suggestions);
+            if (suggestions.size() == 2) {
+                firstAnswer.countDown();
+                answered.countDown();
+            }
+        }, 10));
+
+        // Act
+        onEdt(() -> autocomplete[0].onQueryChanged("Tor"));
+        assertTrue(firstAnswer.await(5, TimeUnit.SECONDS));
+        onEdt(() -> autocomplete[0].onQueryChanged("Toron"));
+        assertTrue(answered.await(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(List.of("tor", "toron"), lookups);
+        assertEquals(List.of(TORONTO), shown.get(1));
+        assertEquals(List.of(TORONTO, torontoJunction), shown.get(2));
+    }
+
+    @Test
+    void onQueryChanged_ShouldCancelSupersededLookup_AndIgnoreItsAnswer() throws Exception {
+        // Arrange
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        CountDownLatch answered = new CountDownLatch(1);
+        List<List<Location>> shown = new CopyOnWriteArrayList<>();
+        LocationAutocomplete[] autocomplete = new LocationAutocomplete[1];
+        onEdt(() -> autocomplete[0] = new LocationAutocomplete(query -> {
+            if (query.equals("par")) {
+                slowStarted.countDown();
+                try {
+                    releaseSlow.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(PARIS);
+            }
+            return List.of(LONDON);
+        }, suggestions -> {
+            shown.add(suggestions);
+            answered.countDown();
+        }, 10));
+
+        // Act
+        onEdt(() -> autocomplete[0].onQueryChanged("par"));
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+        onEdt(() -> autocomplete[0].onQueryChanged("lon"));
+        assertTrue(answered.await(5, TimeUnit.SECONDS));
+        releaseSlow.countDown();
+        Thread.sleep(100);
+        onEdt(() -> { });
+
+        // Assert
+        assertEquals(List.of(List.of(LONDON)), shown);
+        assertEquals(2, autocomplete[0].getLookupCount());
+    }
+
+    @Test
+    void rank_ShouldPutExactNamesFirst() {
+        List<Location> ranked = LocationAutocomplete.rank("paris",
+                List.of(new Location("Parisville", "United States", 1, 1), PARIS));
+
+        assertEquals(PARIS, ranked.get(0));
+        assertEquals("toronto", LocationAutocomplete.normalize("  Toronto,  Canada"));
+    }
+}
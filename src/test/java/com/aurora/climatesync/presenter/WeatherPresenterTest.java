@@ -0,0 +1,86 @@
+package com.aurora.climatesync.presenter;
+
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.Location;
+import com.aurora.climatesync.model.WeatherForecast;
+import com.aurora.climatesync.service.SearchService;
+import com.aurora.climatesync.service.WeatherService;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WeatherPresenterTest {
+
+    private static final Location TORONTO = new Location("Toronto", "Canada", 43.65, -79.38);
+
+    private static ForecastBundle forecast(double max) {
+        return forecast(max, Instant.now());
+    }
+
+    private static ForecastBundle forecast(double max, Instant fetchedAt) {
+        return new ForecastBundle(ZoneOffset.UTC,
+                List.of(new WeatherForecast(LocalDate.now(), max, max - 5, "Sunny", 0.0, 10.0, 1)), null, fetchedAt);
+    }
+
+    @Test
+    void onSearch_ShouldShowLastForecastAtOnce_ThenSwapInRefreshedOne() throws Exception {
+        // Arrange
+        WeatherContract.View view = mock(WeatherContract.View.class);
+        WeatherService weatherService = mock(WeatherService.class);
+        SearchService searchService = mock(SearchService.class);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        when(searchService.searchLocation("Toronto")).thenReturn(TORONTO);
+        when(weatherService.getWeeklyBundle(any(Location.class)))
+                .thenReturn(forecast(10))
+                .thenAnswer(invocation -> {
+                    releaseRefresh.await();
+                    return forecast(20);
+                });
+        WeatherPresenter presenter = new WeatherPresenter(view, weatherService, searchService);
+
+        // Act
+        SwingUtilities.invokeAndWait(() -> presenter.onSearch("Toronto"));
+        verify(view, timeout(5000)).showUpdatedAt(any(), eq(false));
+        SwingUtilities.invokeAndWait(() -> presenter.onSearch("Toronto"));
+
+        // Assert: the second search renders the snapshot before its refresh has returned.
+        verify(view, times(2)).showWeather(eq("Toronto, Canada"), any());
+        verify(view).showUpdatedAt(any(), eq(true));
+        verify(view, times(1)).showLoading(anyString());
+
+        releaseRefresh.countDown();
+        verify(view, timeout(5000).times(3)).showWeather(eq("Toronto, Canada"), any());
+        verify(view, timeout(5000).times(2)).showUpdatedAt(any(), eq(false));
+        verify(searchService, times(1)).searchLocation(anyString());
+        verify(weatherService, never()).getHourlyForecast(any(), any());
+    }
+
+    @Test
+    void onSearch_ShouldLabelTheForecast_WithWhenItWasFetched_NotWhenItWasShown() throws Exception {
+        // Arrange
+        WeatherContract.View view = mock(WeatherContract.View.class);
+        WeatherService weatherService = mock(WeatherService.class);
+        SearchService searchService = mock(SearchService.class);
+        Instant fetchedAt = Instant.now().minus(Duration.ofMinutes(20));
+        when(searchService.searchLocation("Toronto")).thenReturn(TORONTO);
+        when(weatherService.getWeeklyBundle(any(Location.class))).thenReturn(forecast(10, fetchedAt));
+        WeatherPresenter presenter = new WeatherPresenter(view, weatherService, searchService);
+
+        // Act
+        SwingUtilities.invokeAndWait(() -> presenter.onSearch("Toronto"));
+
+        // Assert
+        verify(view, timeout(5000)).showUpdatedAt(fetchedAt, false);
+    }
+}
@@ -1,22 +1,34 @@
 package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.Coordinates;
 import com.aurora.climatesync.model.DashboardEvent;
-import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.HourlyForecast;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
+import com.aurora.climatesync.repository.EventPages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +48,25 @@ class DashboardServiceImplTest {
         dashboardService = new DashboardServiceImpl(calendarService, weatherService);
     }
 
+    private static ForecastBundle bundleFor(ZonedDateTime time, WeatherForecast daily, double hourlyTemp) {
+        List<HourlyForecast> hourly = new ArrayList<>();
+        ZonedDateTime startOfDay = time.truncatedTo(ChronoUnit.DAYS);
+        for (int h = 0; h < 24; h++) {
+            hourly.add(new HourlyForecast(startOfDay.plusHours(h).toLocalDateTime(), hourlyTemp, 0.2, "Sunny", 5.0));
+        }
+        return new ForecastBundle(time.getZone(), Collections.singletonList(daily), hourly);
+    }
+
+    /** Answers a batch request with the same bundle for every requested location. */
+    private static Answer<Map<Coordinates, ForecastBundle>> sameBundleForAll(ForecastBundle bundle) {
+        return invocation -> {
+            Collection<Coordinates> locations = invocation.getArgument(0);
+            Map<Coordinates, ForecastBundle> bundles = new HashMap<>();
+            locations.forEach(location -> bundles.put(location, bundle));
+            return bundles;
+        };
+    }
+
     @Test
     void getDashboardEvents_ShouldReturnEventsWithWeather_WhenLocationExists() {
         // Arrange
@@ -43,11 +74,10 @@ class DashboardServiceImplTest {
         ZonedDateTime now = ZonedDateTime.now();
         CalendarEvent event = new CalendarEvent("1", "Summary", "Desc", now, now.plusHours(1), location, "1");
         WeatherForecast forecast = new WeatherForecast(now.toLocalDate(), 10.0, 20.0, "Sunny", 0.0, 10.0, 1);
-        EventWeather eventWeather = new EventWeather(15.0, "Sunny", 0.0, 5.0);
 
         when(calendarService.getUpcomingEvents(anyInt())).thenReturn(Collections.singletonList(event));
-        when(weatherService.getForecastForDate(any(Location.class), any(LocalDate.class))).thenReturn(forecast);
-        when(weatherService.getForecastForTime(any(Location.class), any(ZonedDateTime.class))).thenReturn(eventWeather);
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(sameBundleForAll(bundleFor(now, forecast, 15.0)));
 
         // Act
         List<DashboardEvent> result = dashboardService.getDashboardEvents();
@@ -56,9 +86,11 @@ class DashboardServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(event, result.get(0).getCalendarEvent());
         assertEquals(forecast, result.get(0).getWeatherForecast());
-        assertEquals(eventWeather, result.get(0).getEventWeather());
-        verify(weatherService).getForecastForDate(location, now.toLocalDate());
-        verify(weatherService).getForecastForTime(location, now);
+        assertNotNull(result.get(0).getEventWeather());
+        assertEquals(15.0, result.get(0).getEventWeather().getTemperature());
+        verify(weatherService).getForecastBundles(eq(List.of(new Coordinates(10.0, 20.0))),
+                eq(now.toLocalDate().minusDays(1)), eq(now.toLocalDate().plusDays(1)));
+        verify(weatherService, never()).resolveLocation(any());
     }
 
     @Test
@@ -76,7 +108,7 @@ class DashboardServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(event, result.get(0).getCalendarEvent());
         assertNull(result.get(0).getWeatherForecast());
-        verify(weatherService, never()).getForecastForDate(any(), any());
+        verify(weatherService, never()).getForecastBundles(any(), any(), any());
     }
 
     @Test
@@ -87,7 +119,8 @@ class DashboardServiceImplTest {
         CalendarEvent event = new CalendarEvent("1", "Summary", "Desc", now, now.plusHours(1), location, "1");
 
         when(calendarService.getUpcomingEvents(anyInt())).thenReturn(Collections.singletonList(event));
-        when(weatherService.getForecastForDate(any(Location.class), any(LocalDate.class))).thenThrow(new RuntimeException("API Error"));
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new RuntimeException("API Error"));
 
         // Act
         List<DashboardEvent> result = dashboardService.getDashboardEvents();
@@ -132,8 +165,9 @@ class DashboardServiceImplTest {
         WeatherForecast forecast = new WeatherForecast(now.toLocalDate(), 10.0, 20.0, "Sunny", 0.0, 10.0, 1);
 
         when(calendarService.getUpcomingEvents(anyInt())).thenReturn(Collections.singletonList(event));
-        when(weatherService.getForecastForDate(any(Location.class), any(LocalDate.class))).thenReturn(forecast);
-        when(weatherService.getForecastForTime(any(Location.class), any(ZonedDateTime.class))).thenThrow(new RuntimeException("Partial API Error"));
+        // Daily data came back but the hourly block is missing
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(sameBundleForAll(new ForecastBundle(now.getZone(), Collections.singletonList(forecast), Collections.emptyList())));
 
         // Act
         List<DashboardEvent> result = dashboardService.getDashboardEvents();
@@ -141,9 +175,189 @@ class DashboardServiceImplTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals(event, result.get(0).getCalendarEvent());
-        // forecast should be present because the first call succeeded
+        // forecast should be present because the daily block was returned
         assertEquals(forecast, result.get(0).getWeatherForecast());
-        // eventWeather should be null because the second call failed
+        // eventWeather should be null because there is no hourly data
         assertNull(result.get(0).getEventWeather());
     }
+
+    @Test
+    void getDashboardEvents_ShouldFetchAllDistinctLocationsInOneBatch() {
+        // Arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        List<CalendarEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Location office = new Location("Toronto", "Unknown", 0.0, 0.0);
+            events.add(new CalendarEvent("t" + i, "Office " + i, "Desc", now.plusDays(i), now.plusDays(i).plusHours(1), office, "1"));
+        }
+        events.add(new CalendarEvent("p", "Trip", "Desc", now, now.plusHours(1), new Location("Paris", "France", 48.8566, 2.3522), "1"));
+
+        when(calendarService.getUpcomingEvents(anyInt())).thenReturn(events);
+        when(weatherService.resolveLocation(any(Location.class))).thenAnswer(invocation -> {
+            Location loc = invocation.getArgument(0);
+            loc.setLatitude(43.70011);
+            loc.setLongitude(-79.4163);
+            return true;
+        });
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(sameBundleForAll(new ForecastBundle(now.getZone(), Collections.emptyList(), Collections.emptyList())));
+        // Counters as read before and after the load
+        when(weatherService.getGeocodeRequestCount()).thenReturn(4L, 5L);
+        when(weatherService.getForecastRequestCount()).thenReturn(10L, 11L);
+        WeatherEnrichmentEngine engine = new WeatherEnrichmentEngine(weatherService);
+        dashboardService = new DashboardServiceImpl(calendarService, engine);
+
+        // Act
+        List<DashboardEvent> result = dashboardService.getDashboardEvents();
+
+        // Assert
+        assertEquals(6, result.size());
+        verify(weatherService, times(1)).resolveLocation(any(Location.class));
+        // One call for both cells, over the union of their date ranges
+        verify(weatherService, times(1)).getForecastBundles(
+                argThat((Collection<Coordinates> cells) -> cells.size() == 2),
+                eq(now.toLocalDate().minusDays(1)), eq(now.toLocalDate().plusDays(5)));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(43.70011, events.get(i).getEventLocation().getLatitude());
+        }
+        EnrichmentStats stats = engine.getLastStats();
+        assertEquals(6, stats.getEventCount());
+        assertEquals(2, stats.getLocationCount());
+        assertEquals(1, stats.getGeocodeRequests());
+        assertEquals(1, stats.getForecastRequests());
+    }
+
+    @Test
+    void getDashboardEvents_ShouldKeepWeatherFromOtherBatches_WhenOneBatchMissesDeadline() {
+        // Arrange
+        ExecutorService executor = WeatherEnrichmentEngine.newExecutor(4, false);
+        dashboardService = new DashboardServiceImpl(calendarService,
+                new WeatherEnrichmentEngine(weatherService, executor, Duration.ofMillis(300), 1));
+        ZonedDateTime now = ZonedDateTime.now();
+        CalendarEvent slowEvent = new CalendarEvent("1", "Slow", "Desc", now, now.plusHours(1), new Location("Slow", "Country", 10.0, 20.0), "1");
+        CalendarEvent fastEvent = new CalendarEvent("2", "Fast", "Desc", now, now.plusHours(1), new Location("Fast", "Country", 30.0, 40.0), "1");
+        WeatherForecast forecast = new WeatherForecast(now.toLocalDate(), 10.0, 20.0, "Sunny", 0.0, 10.0, 1);
+
+        when(calendarService.getUpcomingEvents(anyInt())).thenReturn(List.of(slowEvent, fastEvent));
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class))).thenAnswer(invocation -> {
+            Collection<Coordinates> cells = invocation.getArgument(0);
+            if (cells.contains(new Coordinates(10.0, 20.0))) {
+                Thread.sleep(5000);
+            }
+            return sameBundleForAll(bundleFor(now, forecast, 15.0)).answer(invocation);
+        });
+
+        // Act
+        List<DashboardEvent> result = dashboardService.getDashboardEvents();
+        executor.shutdownNow();
+
+        // Assert
+        verify(weatherService, times(2)).getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class));
+        assertNull(result.get(0).getWeatherForecast());
+        assertEquals(forecast, result.get(1).getWeatherForecast());
+    }
+
+    @Test
+    void getDashboardEvents_ShouldReturnEventsWithoutWeather_WhenBatchMissesDeadline() {
+        // Arrange
+        ExecutorService executor = WeatherEnrichmentEngine.newExecutor(4, false);
+        dashboardService = new DashboardServiceImpl(calendarService,
+                new WeatherEnrichmentEngine(weatherService, executor, Duration.ofMillis(200)));
+        ZonedDateTime now = ZonedDateTime.now();
+        Location slow = new Location("Slow", "Country", 10.0, 20.0);
+        Location other = new Location("Other", "Country", 30.0, 40.0);
+        CalendarEvent slowEvent = new CalendarEvent("1", "Slow", "Desc", now, now.plusHours(1), slow, "1");
+        CalendarEvent otherEvent = new CalendarEvent("2", "Other", "Desc", now, now.plusHours(1), other, "1");
+        WeatherForecast forecast = new WeatherForecast(now.toLocalDate(), 10.0, 20.0, "Sunny", 0.0, 10.0, 1);
+
+        when(calendarService.getUpcomingEvents(anyInt())).thenReturn(List.of(slowEvent, otherEvent));
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class))).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return sameBundleForAll(bundleFor(now, forecast, 15.0)).answer(invocation);
+        });
+
+        // Act
+        long start = System.nanoTime();
+        List<DashboardEvent> result = dashboardService.getDashboardEvents();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        executor.shutdownNow();
+
+        // Assert
+        assertTrue(elapsedMillis < 2000, "Dashboard load should not wait for the slow batch");
+        assertEquals(2, result.size());
+        assertNull(result.get(0).getWeatherForecast());
+        assertNull(result.get(0).getEventWeather());
+        assertNull(result.get(1).getWeatherForecast());
+    }
+
+    @Test
+    void getDashboardEvents_ShouldLeaveOutLocationsMissingFromBatch() {
+        // Arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        CalendarEvent found = new CalendarEvent("1", "Found", "Desc", now, now.plusHours(1), new Location("A", "Country", 10.0, 20.0), "1");
+        CalendarEvent missing = new CalendarEvent("2", "Missing", "Desc", now, now.plusHours(1), new Location("B", "Country", 30.0, 40.0), "1");
+        WeatherForecast forecast = new WeatherForecast(now.toLocalDate(), 10.0, 20.0, "Sunny", 0.0, 10.0, 1);
+
+        when(calendarService.getUpcomingEvents(anyInt())).thenReturn(List.of(found, missing));
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Map.of(new Coordinates(10.0, 20.0), bundleFor(now, forecast, 15.0)));
+
+        // Act
+        List<DashboardEvent> result = dashboardService.getDashboardEvents();
+
+        // Assert
+        assertEquals(forecast, result.get(0).getWeatherForecast());
+        assertNull(result.get(1).getWeatherForecast());
+        assertNull(result.get(1).getEventWeather());
+    }
+
+    @Test
+    void getDashboardEvents_ShouldPreserveEventOrder() {
+        // Arrange
+        Location location = new Location("City", "Country", 10.0, 20.0);
+        ZonedDateTime now = ZonedDateTime.now();
+        CalendarEvent first = new CalendarEvent("1", "First", "Desc", now, now.plusHours(1), location, "1");
+        CalendarEvent second = new CalendarEvent("2", "Second", "Desc", now.plusDays(1), now.plusDays(1).plusHours(1), null, "1");
+        CalendarEvent third = new CalendarEvent("3", "Third", "Desc", now.plusDays(2), now.plusDays(2).plusHours(1), location, "1");
+
+        when(calendarService.getUpcomingEvents(anyInt())).thenReturn(List.of(first, second, third));
+
+        // Act
+        List<DashboardEvent> result = dashboardService.getDashboardEvents();
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(first, result.get(0).getCalendarEvent());
+        assertEquals(second, result.get(1).getCalendarEvent());
+        assertEquals(third, result.get(2).getCalendarEvent());
+    }
+
+    @Test
+    void streamDashboardEvents_ShouldEnrichAndDeliverEachPage() {
+        // Arrange
+        Location location = new Location("City", "Country", 10.0, 20.0);
+        ZonedDateTime now = ZonedDateTime.now();
+        CalendarEvent first = new CalendarEvent("1", "First", "Desc", now, now.plusHours(1), location, "1");
+        CalendarEvent second = new CalendarEvent("2", "Second", "Desc", now.plusDays(1), now.plusDays(1).plusHours(1), location, "1");
+        WeatherForecast forecast = new WeatherForecast(now.toLocalDate(), 10.0, 20.0, "Sunny", 0.0, 10.0, 1);
+
+        EventPages pages = mock(EventPages.class);
+        when(pages.hasNext()).thenReturn(true, true, true, false);
+        when(pages.next()).thenReturn(List.of(first)).thenReturn(Collections.emptyList()).thenReturn(List.of(second));
+        when(calendarService.listEvents(any(), any())).thenReturn(pages);
+        when(weatherService.getForecastBundles(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(sameBundleForAll(bundleFor(now, forecast, 15.0)));
+
+        // Act
+        List<List<DashboardEvent>> delivered = new ArrayList<>();
+        dashboardService.streamDashboardEvents(now, now.plusDays(60), delivered::add);
+
+        // Assert
+        assertEquals(2, delivered.size());
+        assertEquals(first, delivered.get(0).get(0).getCalendarEvent());
+        assertEquals(second, delivered.get(1).get(0).getCalendarEvent());
+        assertNotNull(delivered.get(0).get(0).getWeatherForecast());
+        verify(calendarService).listEvents(now, now.plusDays(60));
+        verify(pages).close();
+    }
 }
@@ -12,6 +12,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -81,4 +82,15 @@ class SearchServiceTest {
         assertEquals("Toronto", result.getCityName());
         verify(locationRepository).searchLocations("toronto", 1);
     }
+
+    @Test
+    void suggestLocations_passesLimitThrough_andIgnoresBlankQueries() {
+        Location toronto = new Location("Toronto", "Canada", 43.7, -79.4);
+        when(locationRepository.suggestLocations("tor", 8)).thenReturn(List.of(toronto));
+
+        assertEquals(List.of(toronto), searchService.suggestLocations(" Tor ", 8));
+        assertTrue(searchService.suggestLocations("  ", 8).isEmpty());
+        verify(locationRepository, times(1)).suggestLocations(anyString(), anyInt());
+        verify(locationRepository, never()).searchLocations(anyString(), anyInt());
+    }
 }
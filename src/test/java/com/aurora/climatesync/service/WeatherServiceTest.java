@@ -1,7 +1,10 @@
 package com.aurora.climatesync.service;
 
 import com.aurora.climatesync.exception.LocationNotFoundException;
+import com.aurora.climatesync.infrastructure.weather.CachingWeatherRepository;
 import com.aurora.climatesync.model.EventWeather;
+import com.aurora.climatesync.model.ForecastBundle;
+import com.aurora.climatesync.model.ForecastWeek;
 import com.aurora.climatesync.model.HourlyForecast;
 import com.aurora.climatesync.model.Location;
 import com.aurora.climatesync.model.WeatherForecast;
@@ -11,8 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -451,5 +457,54 @@ class WeatherServiceTest {
         when(weatherRepository.fetchForecastForTime(10.0, 0.0, time)).thenReturn(expected);
         assertEquals(expected, weatherService.getForecastForTime(location2, time));
     }
-}
 
+    @Test
+    void getWeeklyBundle_ShouldStartTheWeekOnTheLocationsDate_NotThisMachines() {
+        // Kiritimati (UTC+14) and Pago Pago (UTC-11) are always on different dates, so at least one
+        // of them differs from the date here.
+        for (String zoneId : List.of("Pacific/Kiritimati", "Pacific/Pago_Pago")) {
+            // Arrange
+            ZoneId zone = ZoneId.of(zoneId);
+            Location location = new Location(zoneId, "Pacific", -14.28, -170.7);
+            LocalDate first = ForecastWeek.firstRequestedDate();
+            LocalDate last = ForecastWeek.lastRequestedDate();
+            List<WeatherForecast> days = new ArrayList<>();
+            for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+                days.add(new WeatherForecast(date, 10.0, 5.0, "Sunny", 0.0, 10.0, 1));
+            }
+            when(weatherRepository.fetchForecastBundle(-14.28, -170.7, first, last))
+                    .thenReturn(new ForecastBundle(zone, days, Collections.emptyList()));
+
+            // Act
+            ForecastBundle week = weatherService.getWeeklyBundle(location);
+
+            // Assert
+            assertEquals(ForecastWeek.DAYS, week.getDailyForecasts().size());
+            assertEquals(LocalDate.now(zone), week.getDailyForecasts().get(0).getDate());
+        }
+    }
+
+    @Test
+    void getForecastForDate_ShouldFetchTheWeekOnce_ForEveryDateAtOneLocation() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        List<WeatherForecast> week = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            week.add(new WeatherForecast(today.plusDays(day), 10.0 + day, 5.0, "Sunny", 0.0, 10.0, 1));
+        }
+        when(weatherRepository.fetchWeeklyForecast(43.65, -79.38)).thenReturn(week);
+        WeatherServiceImpl cached = new WeatherServiceImpl(
+                new CachingWeatherRepository(weatherRepository, 16, Duration.ofMinutes(30), Duration.ofMinutes(60)));
+        Location location = new Location("Toronto", "Canada", 43.65, -79.38);
+
+        // Act
+        List<WeatherForecast> found = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            found.add(cached.getForecastForDate(location, today.plusDays(day)));
+        }
+
+        // Assert
+        assertEquals(week, found);
+        verify(weatherRepository, times(1)).fetchWeeklyForecast(anyDouble(), anyDouble());
+    }
+}
@@ -0,0 +1,156 @@
+package com.aurora.climatesync.stub;
+
+import com.aurora.climatesync.service.DashboardService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the dashboard repeatedly from a few concurrent callers and reports the latency
+ * percentiles together with how many requests reached the stub upstream. Warm-up loads run first
+ * and are not counted, so the geocode cache is filled the way it would be after the first start.
+ *
+ * <p>Run it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.aurora.climatesync.stub.DashboardLoadDriver
+ * -Dexec.args="--loads=200 --concurrency=4 --latency=lognormal:60:400 --error-rate=0.02"}.
+ */
+public final class DashboardLoadDriver {
+
+    private DashboardLoadDriver() {
+    }
+
+    /**
+     * Runs {@code warmupLoads} uncounted loads, resets the stub's counters, then runs
+     * {@code loads} loads spread over {@code concurrency} threads.
+     */
+    public static Report run(DashboardService dashboardService, StubUpstreamServer stub, int eventCount,
+                             int warmupLoads, int loads, int concurrency) throws InterruptedException {
+        for (int i = 0; i < warmupLoads; i++) {
+            dashboardService.getDashboardEvents(eventCount);
+        }
+        stub.resetCounters();
+
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Long>> futures = new ArrayList<>(loads);
+            long started = System.nanoTime();
+            for (int i = 0; i < loads; i++) {
+                futures.add(callers.submit(() -> {
+                    long start = System.nanoTime();
+                    dashboardService.getDashboardEvents(eventCount);
+                    return System.nanoTime() - start;
+                }));
+            }
+
+            long[] latencies = new long[loads];
+            int failures = 0;
+            int completed = 0;
+            for (Future<Long> future : futures) {
+                try {
+                    latencies[completed++] = future.get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    completed--;
+                }
+            }
+            long elapsed = System.nanoTime() - started;
+
+            Map<StubUpstreamServer.Endpoint, long[]> upstream = new EnumMap<>(StubUpstreamServer.Endpoint.class);
+            for (StubUpstreamServer.Endpoint endpoint : StubUpstreamServer.Endpoint.values()) {
+                upstream.put(endpoint, new long[] {
+                        stub.getRequests(endpoint), stub.getErrors(endpoint), stub.getThrottled(endpoint)});
+            }
+            return new Report(Arrays.copyOf(latencies, completed), failures, elapsed, upstream);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = StubUpstreamServer.parseArgs(args);
+        int loads = Integer.parseInt(options.getOrDefault("loads", "200"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "20"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "4"));
+        int events = Integer.parseInt(options.getOrDefault("events", "25"));
+        boolean cache = Boolean.parseBoolean(options.getOrDefault("cache", "false"));
+
+        try (StubUpstreamServer stub = new StubUpstreamServer();
+             OfflineDashboard dashboard = new OfflineDashboard(stub, cache)) {
+            // Warm up against a healthy upstream so the measured loads see only the configured behaviour.
+            run(dashboard.getDashboardService(), stub, events, warmup, 0, 1);
+            stub.setBehavior(StubUpstreamServer.behaviorFromArgs(options));
+            System.out.println(run(dashboard.getDashboardService(), stub, events, 0, loads, concurrency));
+        }
+    }
+
+    /**
+     * Latency percentiles of the counted loads and the upstream traffic they caused.
+     */
+    public static final class Report {
+        private final long[] sortedNanos;
+        private final int failures;
+        private final long elapsedNanos;
+        private final Map<StubUpstreamServer.Endpoint, long[]> upstream;
+
+        Report(long[] latencyNanos, int failures, long elapsedNanos, Map<StubUpstreamServer.Endpoint, long[]> upstream) {
+            this.sortedNanos = latencyNanos.clone();
+            Arrays.sort(this.sortedNanos);
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.upstream = upstream;
+        }
+
+        public int getLoads() {
+            return sortedNanos.length;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        /** Nearest-rank percentile in milliseconds, e.g. {@code percentileMillis(99)}. */
+        public double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+            return sortedNanos[Math.max(0, Math.min(rank, sortedNanos.length) - 1)] / 1_000_000.0;
+        }
+
+        public long getUpstreamRequests(StubUpstreamServer.Endpoint endpoint) {
+            return upstream.get(endpoint)[0];
+        }
+
+        public long getUpstreamErrors(StubUpstreamServer.Endpoint endpoint) {
+            return upstream.get(endpoint)[1];
+        }
+
+        public long getUpstreamThrottled(StubUpstreamServer.Endpoint endpoint) {
+            return upstream.get(endpoint)[2];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            sb.append(String.format("loads=%d failures=%d throughput=%.1f/s%n", getLoads(), failures,
+                    seconds > 0 ? getLoads() / seconds : 0));
+            sb.append(String.format("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(100)));
+            for (Map.Entry<StubUpstreamServer.Endpoint, long[]> entry : upstream.entrySet()) {
+                long[] counts = entry.getValue();
+                sb.append(String.format("upstream %-9s requests=%d (%.2f/load) errors=%d throttled=%d%n",
+                        entry.getKey(), counts[0], getLoads() > 0 ? counts[0] / (double) getLoads() : 0,
+                        counts[1], counts[2]));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.aurora.climatesync.stub;
+
+import com.aurora.climatesync.infrastructure.google.GoogleEventMapper;
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.Location;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the fixture payloads under {@code src/test/resources/fixtures}. The payloads have the
+ * shape of real Open-Meteo and Google Calendar responses; the calendar events start on
+ * {@link #FIXTURE_FIRST_DAY} and can be shifted so benchmarks always look at upcoming dates.
+ */
+public final class Fixtures {
+
+    public static final String WEEKLY = "open-meteo-weekly.json";
+    public static final String HOURLY_HORIZON = "open-meteo-hourly-horizon.json";
+    public static final String BUNDLE = "open-meteo-bundle.json";
+    public static final String CALENDAR_EVENTS = "google-calendar-events.json";
+
+    /** The first day covered by the weekly, bundle and calendar fixtures (America/Toronto). */
+    public static final LocalDate FIXTURE_FIRST_DAY = LocalDate.of(2025, 11, 24);
+
+    private Fixtures() {
+    }
+
+    public static byte[] bytes(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No fixture named " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the calendar fixture through {@link GoogleEventMapper}, moving every event by the same
+     * number of days so the first one falls on {@code firstDay}. Each call returns new objects,
+     * since weather enrichment writes coordinates into the event locations.
+     */
+    public static List<CalendarEvent> calendarEvents(LocalDate firstDay) {
+        Events events;
+        try {
+            events = GsonFactory.getDefaultInstance()
+                    .fromString(new String(bytes(CALENDAR_EVENTS), StandardCharsets.UTF_8), Events.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long shiftDays = ChronoUnit.DAYS.between(FIXTURE_FIRST_DAY, firstDay);
+        GoogleEventMapper mapper = new GoogleEventMapper();
+        List<CalendarEvent> result = new ArrayList<>();
+        for (Event event : events.getItems()) {
+            CalendarEvent mapped = mapper.mapToCalendarEvent(event);
+            Location location = mapped.getEventLocation();
+            result.add(new CalendarEvent(
+                    mapped.getEventID(),
+                    mapped.getSummary(),
+                    mapped.getDescription(),
+                    mapped.getStartTime().plusDays(shiftDays),
+                    mapped.getEndTime().plusDays(shiftDays),
+                    new Location(location.getCityName(), location.getCountry(), 0, 0),
+                    mapped.getColorId()));
+        }
+        return result;
+    }
+}
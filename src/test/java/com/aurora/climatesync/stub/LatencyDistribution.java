@@ -0,0 +1,69 @@
+package com.aurora.climatesync.stub;
+
+import java.util.Random;
+
+/**
+ * How long the stub upstream waits before answering a request. Real upstream latency has a long
+ * tail, so besides fixed and uniform delays there is a log-normal distribution described by its
+ * median and 99th percentile.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /** z-score of the 99th percentile of a standard normal distribution. */
+    double Z_99 = 2.3263;
+
+    long sampleMillis(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("maxMillis must be >= minMillis");
+        }
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+    }
+
+    /**
+     * A log-normal delay, the usual shape of network round trips: most requests land near the
+     * median and a few take several times longer.
+     */
+    static LatencyDistribution logNormal(double medianMillis, double p99Millis) {
+        if (medianMillis <= 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("Need 0 < median <= p99");
+        }
+        double mu = Math.log(medianMillis);
+        double sigma = Math.log(p99Millis / medianMillis) / Z_99;
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * Reads a distribution from the command line: {@code 40}, {@code fixed:40},
+     * {@code uniform:20:120} or {@code lognormal:60:400} (median, then p99).
+     */
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase().split(":");
+        try {
+            switch (parts[0]) {
+                case "none":
+                    return none();
+                case "fixed":
+                    return fixed(Long.parseLong(parts[1]));
+                case "uniform":
+                    return uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                case "lognormal":
+                    return logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                default:
+                    return fixed(Long.parseLong(parts[0]));
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Unrecognised latency: " + spec, e);
+        }
+    }
+}
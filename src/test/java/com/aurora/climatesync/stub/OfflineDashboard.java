@@ -0,0 +1,140 @@
+package com.aurora.climatesync.stub;
+
+import com.aurora.climatesync.config.HttpClientConfig;
+import com.aurora.climatesync.infrastructure.weather.CachingWeatherRepository;
+import com.aurora.climatesync.infrastructure.weather.CoalescingWeatherRepository;
+import com.aurora.climatesync.infrastructure.weather.GeocodeCache;
+import com.aurora.climatesync.infrastructure.weather.OpenMeteoWeatherRepository;
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.model.CalendarMutation;
+import com.aurora.climatesync.model.CalendarMutationResult;
+import com.aurora.climatesync.repository.EventPages;
+import com.aurora.climatesync.repository.WeatherRepository;
+import com.aurora.climatesync.service.CalendarService;
+import com.aurora.climatesync.service.DashboardService;
+import com.aurora.climatesync.service.DashboardServiceImpl;
+import com.aurora.climatesync.service.WeatherEnrichmentEngine;
+import com.aurora.climatesync.service.WeatherServiceImpl;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The production dashboard stack, wired by hand against a {@link StubUpstreamServer}: pooled
+ * HTTP client, Open-Meteo repository, request coalescing, optionally the response cache, weather
+ * service and enrichment engine. Calendar events come from the fixture, moved so the first event
+ * is tomorrow. The geocode cache lives in a temporary file that is removed on {@link #close()}.
+ */
+public class OfflineDashboard implements AutoCloseable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final ExecutorService executor;
+    private final Path geocodeFile;
+    private final GeocodeCache geocodeCache;
+    private final WeatherEnrichmentEngine engine;
+    private final DashboardService dashboardService;
+
+    /**
+     * @param responseCache Whether to put the response cache in front of the upstream, as the
+     *                      application does. Without it every load pays for its forecast requests.
+     */
+    public OfflineDashboard(StubUpstreamServer stub, boolean responseCache) {
+        HttpClientConfig httpConfig = new HttpClientConfig();
+        connectionManager = httpConfig.httpConnectionManager(40, 10, 3000, 10000, 60);
+        httpClient = httpConfig.httpClient(connectionManager, 10000, 2000, 60);
+        RestTemplate restTemplate = httpConfig.restTemplate(httpClient);
+
+        try {
+            geocodeFile = Files.createTempFile("geocode", ".json");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        geocodeCache = new GeocodeCache(geocodeFile.toString(), 30, 24);
+        OpenMeteoWeatherRepository openMeteo = new OpenMeteoWeatherRepository(restTemplate, stub.getForecastUrl(),
+                stub.getGeocodingUrl(), stub.getNominatimUrl(), 60, false, geocodeCache);
+        WeatherRepository repository = new CoalescingWeatherRepository(openMeteo);
+        if (responseCache) {
+            repository = new CachingWeatherRepository(repository, 512, Duration.ofMinutes(30), Duration.ofMinutes(60));
+        }
+
+        executor = WeatherEnrichmentEngine.newExecutor(8, true);
+        engine = new WeatherEnrichmentEngine(new WeatherServiceImpl(repository), executor, Duration.ofSeconds(8));
+        dashboardService = new DashboardServiceImpl(new FixtureCalendarService(), engine);
+    }
+
+    public DashboardService getDashboardService() {
+        return dashboardService;
+    }
+
+    public WeatherEnrichmentEngine getEnrichmentEngine() {
+        return engine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        httpClient.close();
+        connectionManager.close();
+        geocodeCache.close();
+        Files.deleteIfExists(geocodeFile);
+    }
+
+    private static class FixtureCalendarService implements CalendarService {
+        @Override
+        public List<CalendarEvent> getUpcomingEvents() {
+            return getUpcomingEvents(25);
+        }
+
+        @Override
+        public List<CalendarEvent> getUpcomingEvents(int maxResults) {
+            List<CalendarEvent> events = Fixtures.calendarEvents(LocalDate.now().plusDays(1));
+            return events.subList(0, Math.min(maxResults, events.size()));
+        }
+
+        @Override
+        public EventPages listEvents(ZonedDateTime timeMin, ZonedDateTime timeMax) {
+            return EventPages.of(Fixtures.calendarEvents(timeMin.toLocalDate().plusDays(1)));
+        }
+
+        @Override
+        public CalendarEvent addEvent(CalendarEvent event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateEvent(CalendarEvent event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteEvent(String eventId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<CalendarMutationResult> applyMutations(List<CalendarMutation> mutations) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String connect() {
+            return "fixture";
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.aurora.climatesync.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local stand-in for the Open-Meteo forecast and geocoding APIs and for Nominatim, so the
+ * dashboard can be load tested and benchmarked without network access. Forecast requests are
+ * answered from the bundle fixture, moved to the requested start date, once per requested
+ * location when several coordinates are asked for together; geocoding gives each
+ * distinct name its own coordinates, derived from its hash.
+ *
+ * <p>Each endpoint has an {@link UpstreamBehavior} that can be changed while the server runs, and
+ * counts the requests it received and how they were answered.
+ *
+ * <p>To point a running application at it, start it on its own with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.aurora.climatesync.stub.StubUpstreamServer -Dexec.args="--port=8089 --latency=lognormal:60:400"}
+ * and copy the printed {@code weather.api.*} properties into {@code application.properties}.
+ */
+public class StubUpstreamServer implements AutoCloseable {
+
+    public enum Endpoint {
+        FORECAST("/v1/forecast"),
+        GEOCODING("/v1/search"),
+        NOMINATIM("/search");
+
+        private final String path;
+
+        Endpoint(String path) {
+            this.path = path;
+        }
+
+        public String getPath() {
+            return path;
+        }
+    }
+
+    private static final ZoneId FIXTURE_ZONE = ZoneId.of("America/Toronto");
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonNode bundle;
+    private final ConcurrentMap<String, byte[]> forecastResponses = new ConcurrentHashMap<>();
+    private final Map<Endpoint, EndpointState> endpoints = new EnumMap<>(Endpoint.class);
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /** Starts a healthy stub on a free local port. */
+    public StubUpstreamServer() {
+        this(0);
+    }
+
+    /** Starts a healthy stub on the given local port, or a free one if {@code port} is 0. */
+    public StubUpstreamServer(int port) {
+        try {
+            this.bundle = mapper.readTree(Fixtures.bytes(Fixtures.BUNDLE));
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (Endpoint endpoint : Endpoint.values()) {
+            endpoints.put(endpoint, new EndpointState());
+        }
+        server.createContext(Endpoint.FORECAST.getPath(), exchange -> handle(Endpoint.FORECAST, exchange));
+        server.createContext(Endpoint.GEOCODING.getPath(), exchange -> handle(Endpoint.GEOCODING, exchange));
+        server.createContext(Endpoint.NOMINATIM.getPath(), exchange -> handle(Endpoint.NOMINATIM, exchange));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /** Applies the same behaviour to every endpoint. */
+    public StubUpstreamServer setBehavior(UpstreamBehavior behavior) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            setBehavior(endpoint, behavior);
+        }
+        return this;
+    }
+
+    public StubUpstreamServer setBehavior(Endpoint endpoint, UpstreamBehavior behavior) {
+        endpoints.get(endpoint).behavior = behavior;
+        return this;
+    }
+
+    public String getForecastUrl() {
+        return baseUrl() + Endpoint.FORECAST.getPath();
+    }
+
+    public String getGeocodingUrl() {
+        return baseUrl() + Endpoint.GEOCODING.getPath();
+    }
+
+    public String getNominatimUrl() {
+        return baseUrl() + Endpoint.NOMINATIM.getPath();
+    }
+
+    /** All requests received by the endpoint, however they were answered. */
+    public long getRequests(Endpoint endpoint) {
+        return endpoints.get(endpoint).requests.get();
+    }
+
+    /** Requests answered with a 500. */
+    public long getErrors(Endpoint endpoint) {
+        return endpoints.get(endpoint).errors.get();
+    }
+
+    /** Requests answered with a 429. */
+    public long getThrottled(Endpoint endpoint) {
+        return endpoints.get(endpoint).throttled.get();
+    }
+
+    public long getTotalRequests() {
+        long total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            total += getRequests(endpoint);
+        }
+        return total;
+    }
+
+    public void resetCounters() {
+        for (EndpointState state : endpoints.values()) {
+            state.requests.set(0);
+            state.errors.set(0);
+            state.throttled.set(0);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(Endpoint endpoint, HttpExchange exchange) throws IOException {
+        EndpointState state = endpoints.get(endpoint);
+        state.requests.incrementAndGet();
+        UpstreamBehavior behavior = state.behavior;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delay = behavior.getLatency().sampleMillis(random);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!state.tryAcquire(behavior.getMaxRequestsPerSecond()) || random.nextDouble() < behavior.getThrottleRate()) {
+            state.throttled.incrementAndGet();
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            respond(exchange, 429, error("Too many requests"));
+            return;
+        }
+        if (random.nextDouble() < behavior.getErrorRate()) {
+            state.errors.incrementAndGet();
+            respond(exchange, 500, error("Injected failure"));
+            return;
+        }
+
+        Map<String, String> query = query(exchange);
+        switch (endpoint) {
+            case FORECAST:
+                respond(exchange, 200, forecast(query));
+                break;
+            case GEOCODING:
+                respond(exchange, 200, geocoding(query.getOrDefault("name", "")));
+                break;
+            default:
+                respond(exchange, 200, nominatim(query.getOrDefault("q", "")));
+                break;
+        }
+    }
+
+    private byte[] forecast(Map<String, String> query) {
+        LocalDate start = query.containsKey("start_date") ? LocalDate.parse(query.get("start_date")) : LocalDate.now(FIXTURE_ZONE);
+        LocalDate end = query.containsKey("end_date") ? LocalDate.parse(query.get("end_date")) : start.plusDays(6);
+        byte[] single = forecastResponses.computeIfAbsent(start + "|" + end, k -> forecastFor(start, end));
+        int locations = query.getOrDefault("latitude", "").split(",").length;
+        if (locations <= 1) {
+            return single;
+        }
+        // Several coordinates are answered with an array, one object per location.
+        ByteArrayOutputStream array = new ByteArrayOutputStream(single.length * locations + locations + 1);
+        array.write('[');
+        for (int i = 0; i < locations; i++) {
+            if (i > 0) {
+                array.write(',');
+            }
+            array.writeBytes(single);
+        }
+        array.write(']');
+        return array.toByteArray();
+    }
+
+    private byte[] geocoding(String name) throws IOException {
+        int hash = name.toLowerCase().hashCode();
+        String city = name.contains(",") ? name.substring(0, name.indexOf(',')).trim() : name;
+        String json = "{\"results\":[{\"id\":" + Math.abs(hash) + ",\"name\":" + mapper.writeValueAsString(city)
+                + ",\"latitude\":" + latitude(hash) + ",\"longitude\":" + longitude(hash)
+                + ",\"country_code\":\"CA\",\"timezone\":\"America/Toronto\",\"country\":\"Canada\"}],"
+                + "\"generationtime_ms\":0.8}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] nominatim(String q) throws IOException {
+        int hash = q.toLowerCase().hashCode();
+        String json = "[{\"place_id\":" + Math.abs(hash) + ",\"lat\":\"" + latitude(hash) + "\",\"lon\":\"" + longitude(hash)
+                + "\",\"display_name\":" + mapper.writeValueAsString(q) + ",\"type\":\"city\"}]";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static double latitude(int hash) {
+        return 42.0 + Math.floorMod(hash, 1000) / 100.0;
+    }
+
+    private static double longitude(int hash) {
+        return -80.0 + Math.floorMod(hash / 1000, 2000) / 100.0;
+    }
+
+    private static byte[] error(String reason) {
+        return ("{\"error\":true,\"reason\":\"" + reason + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Moves the fixture so its first day is {@code start} and trims it to the requested range.
+     */
+    private byte[] forecastFor(LocalDate start, LocalDate end) {
+        ObjectNode response = bundle.deepCopy();
+        long shift = ChronoUnit.DAYS.between(Fixtures.FIXTURE_FIRST_DAY, start) * SECONDS_PER_DAY;
+        int days = (int) Math.min(ChronoUnit.DAYS.between(start, end) + 1, bundle.path("daily").path("time").size());
+        sliceAndShift((ObjectNode) response.get("daily"), days, shift);
+        sliceAndShift((ObjectNode) response.get("hourly"), days * 24, shift);
+        try {
+            return mapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sliceAndShift(ObjectNode block, int rows, long shiftSeconds) {
+        for (Map.Entry<String, JsonNode> column : block.properties()) {
+            ArrayNode values = (ArrayNode) column.getValue();
+            while (values.size() > rows) {
+                values.remove(values.size() - 1);
+            }
+            if (column.getKey().equals("time")) {
+                for (int i = 0; i < values.size(); i++) {
+                    values.set(i, values.numberNode(values.get(i).asLong() + shiftSeconds));
+                }
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Reads {@code --name=value} arguments into a map.
+     */
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Builds a behaviour from {@code --latency}, {@code --error-rate}, {@code --throttle-rate} and
+     * {@code --rate-limit}.
+     */
+    static UpstreamBehavior behaviorFromArgs(Map<String, String> options) {
+        return UpstreamBehavior.healthy()
+                .withLatency(LatencyDistribution.parse(options.getOrDefault("latency", "0")))
+                .withErrorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")))
+                .withThrottleRate(Double.parseDouble(options.getOrDefault("throttle-rate", "0")))
+                .withRateLimit(Integer.parseInt(options.getOrDefault("rate-limit", "0")));
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parseArgs(args);
+        StubUpstreamServer stub = new StubUpstreamServer(Integer.parseInt(options.getOrDefault("port", "8089")));
+        stub.setBehavior(behaviorFromArgs(options));
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+
+        System.out.println("Stub upstream listening. Point the application at it with:");
+        System.out.println("weather.api.forecast-url=" + stub.getForecastUrl());
+        System.out.println("weather.api.geocoding-url=" + stub.getGeocodingUrl());
+        System.out.println("weather.api.nominatim-url=" + stub.getNominatimUrl());
+        new CountDownLatch(1).await();
+    }
+
+    private static final class EndpointState {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong throttled = new AtomicLong();
+        private volatile UpstreamBehavior behavior = UpstreamBehavior.healthy();
+        private long windowSecond;
+        private int windowCount;
+
+        /** Fixed one-second window; always succeeds when there is no limit. */
+        synchronized boolean tryAcquire(int maxPerSecond) {
+            if (maxPerSecond <= 0) {
+                return true;
+            }
+            long second = System.nanoTime() / 1_000_000_000L;
+            if (second != windowSecond) {
+                windowSecond = second;
+                windowCount = 0;
+            }
+            return ++windowCount <= maxPerSecond;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.aurora.climatesync.stub;
+
+import com.aurora.climatesync.model.DashboardEvent;
+import com.aurora.climatesync.stub.StubUpstreamServer.Endpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubUpstreamServerTest {
+
+    private StubUpstreamServer stub;
+
+    @BeforeEach
+    void setUp() {
+        stub = new StubUpstreamServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void testDashboardLoadsAgainstHealthyStub() throws Exception {
+        try (OfflineDashboard dashboard = new OfflineDashboard(stub, true)) {
+            List<DashboardEvent> events = dashboard.getDashboardService().getDashboardEvents(10);
+
+            assertEquals(10, events.size());
+            assertTrue(events.stream().anyMatch(e -> e.getWeatherForecast() != null));
+            assertTrue(stub.getRequests(Endpoint.FORECAST) > 0);
+            assertTrue(stub.getRequests(Endpoint.GEOCODING) > 0);
+
+            // With the response cache and geocode cache warm, repeat loads never reach the upstream.
+            DashboardLoadDriver.Report report = DashboardLoadDriver.run(dashboard.getDashboardService(), stub, 10, 0, 5, 2);
+            assertEquals(5, report.getLoads());
+            assertEquals(0, report.getFailures());
+            assertEquals(0, report.getUpstreamRequests(Endpoint.FORECAST));
+            assertEquals(0, report.getUpstreamRequests(Endpoint.GEOCODING));
+            assertTrue(report.percentileMillis(50) <= report.percentileMillis(99));
+        }
+    }
+
+    @Test
+    void testInjectedErrorsLeaveEventsWithoutWeather() throws Exception {
+        stub.setBehavior(Endpoint.FORECAST, UpstreamBehavior.healthy().withErrorRate(1.0));
+
+        try (OfflineDashboard dashboard = new OfflineDashboard(stub, false)) {
+            DashboardLoadDriver.Report report = DashboardLoadDriver.run(dashboard.getDashboardService(), stub, 10, 0, 2, 1);
+            List<DashboardEvent> events = dashboard.getDashboardService().getDashboardEvents(10);
+
+            assertEquals(0, report.getFailures());
+            assertTrue(report.getUpstreamRequests(Endpoint.FORECAST) > 0);
+            assertEquals(report.getUpstreamRequests(Endpoint.FORECAST), report.getUpstreamErrors(Endpoint.FORECAST));
+            assertTrue(events.stream().allMatch(e -> e.getWeatherForecast() == null));
+        }
+    }
+
+    @Test
+    void testRateLimitAnswersTooManyRequests() throws Exception {
+        stub.setBehavior(Endpoint.GEOCODING, UpstreamBehavior.healthy().withRateLimit(2));
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(stub.getGeocodingUrl() + "?name=Toronto")).build();
+
+        int[] statuses = new int[3];
+        for (int i = 0; i < statuses.length; i++) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            statuses[i] = response.statusCode();
+            if (response.statusCode() == 429) {
+                assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+            }
+        }
+
+        // The window may roll over between requests, so at most one of the three is refused.
+        assertTrue(Arrays.stream(statuses).allMatch(s -> s == 200 || s == 429));
+        assertEquals(stub.getThrottled(Endpoint.GEOCODING), Arrays.stream(statuses).filter(s -> s == 429).count());
+        assertEquals(3, stub.getRequests(Endpoint.GEOCODING));
+    }
+
+    @Test
+    void testLogNormalLatencyMatchesMedianAndTail() {
+        LatencyDistribution latency = LatencyDistribution.logNormal(50, 400);
+        Random random = new Random(42);
+        long[] samples = new long[20000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = latency.sampleMillis(random);
+        }
+        Arrays.sort(samples);
+
+        assertEquals(50, samples[samples.length / 2], 5);
+        assertEquals(400, samples[(int) (samples.length * 0.99)], 60);
+        assertEquals(40, LatencyDistribution.parse("fixed:40").sampleMillis(random));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("gamma:1"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.aurora.climatesync.stub;
+
+/**
+ * How one stub endpoint misbehaves: added latency, a share of requests that fail with a 500, and
+ * throttling, either as a random share of 429 responses or once a requests-per-second budget is
+ * used up. Instances are immutable; the {@code with} methods return modified copies.
+ */
+public final class UpstreamBehavior {
+
+    private static final UpstreamBehavior HEALTHY = new UpstreamBehavior(LatencyDistribution.none(), 0, 0, 0);
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double throttleRate;
+    private final int maxRequestsPerSecond;
+
+    private UpstreamBehavior(LatencyDistribution latency, double errorRate, double throttleRate, int maxRequestsPerSecond) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.throttleRate = throttleRate;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /** Answers every request straight away and without errors. */
+    public static UpstreamBehavior healthy() {
+        return HEALTHY;
+    }
+
+    public UpstreamBehavior withLatency(LatencyDistribution latency) {
+        return new UpstreamBehavior(latency, errorRate, throttleRate, maxRequestsPerSecond);
+    }
+
+    /** @param errorRate Share of requests, between 0 and 1, answered with a 500. */
+    public UpstreamBehavior withErrorRate(double errorRate) {
+        return new UpstreamBehavior(latency, checkRate(errorRate), throttleRate, maxRequestsPerSecond);
+    }
+
+    /** @param throttleRate Share of requests, between 0 and 1, answered with a 429. */
+    public UpstreamBehavior withThrottleRate(double throttleRate) {
+        return new UpstreamBehavior(latency, errorRate, checkRate(throttleRate), maxRequestsPerSecond);
+    }
+
+    /** @param maxRequestsPerSecond Requests allowed per second before answering 429; 0 means no limit. */
+    public UpstreamBehavior withRateLimit(int maxRequestsPerSecond) {
+        if (maxRequestsPerSecond < 0) {
+            throw new IllegalArgumentException("maxRequestsPerSecond must not be negative");
+        }
+        return new UpstreamBehavior(latency, errorRate, throttleRate, maxRequestsPerSecond);
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getThrottleRate() {
+        return throttleRate;
+    }
+
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+}
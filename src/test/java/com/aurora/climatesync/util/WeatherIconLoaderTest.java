@@ -0,0 +1,40 @@
+package com.aurora.climatesync.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherIconLoaderTest {
+
+    @Test
+    void testIconsAreDecodedOnceAndScaledPerSize() throws Exception {
+        WeatherIconLoader.warmUp(List.of("cloudy.png", "drizzle.png"), WeatherIconLoader.STANDARD_SIZE).get();
+        int decodesAfterWarmUp = WeatherIconLoader.getDecodeCount();
+
+        ImageIcon standard = WeatherIconLoader.load("cloudy.png", WeatherIconLoader.STANDARD_SIZE);
+        ImageIcon small = WeatherIconLoader.load("cloudy.png", 24);
+
+        assertSame(standard, WeatherIconLoader.load("cloudy.png", WeatherIconLoader.STANDARD_SIZE));
+        assertEquals(WeatherIconLoader.STANDARD_SIZE, standard.getIconWidth());
+        assertEquals(24, small.getIconWidth());
+        assertEquals(24, small.getIconHeight());
+        assertEquals(decodesAfterWarmUp, WeatherIconLoader.getDecodeCount());
+    }
+
+    @Test
+    void testSmallIconsKeepTheirOwnSize() {
+        ImageIcon notAvailable = WeatherIconLoader.load("not_available.svg.png", WeatherIconLoader.STANDARD_SIZE);
+
+        assertEquals(16, notAvailable.getIconWidth());
+        assertEquals(16, notAvailable.getIconHeight());
+    }
+
+    @Test
+    void testMissingIconReturnsNull() {
+        assertNull(WeatherIconLoader.load("no_such_icon.png", WeatherIconLoader.STANDARD_SIZE));
+        assertNull(WeatherIconLoader.load("no_such_icon.png", WeatherIconLoader.STANDARD_SIZE));
+    }
+}
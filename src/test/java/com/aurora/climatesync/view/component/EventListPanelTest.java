@@ -0,0 +1,75 @@
+package com.aurora.climatesync.view.component;
+
+import com.aurora.climatesync.model.CalendarEvent;
+import com.aurora.climatesync.presenter.DashboardViewModel;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventListPanelTest {
+
+    private static List<DashboardViewModel> events(int count) {
+        ZonedDateTime start = ZonedDateTime.now();
+        List<DashboardViewModel> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CalendarEvent source = new CalendarEvent(String.valueOf(i), "Event " + i, null,
+                    start.plusHours(i), start.plusHours(i + 1), null, "1");
+            events.add(new DashboardViewModel(source.getEventID(), source.getSummary(), null, null,
+                    source.getStartTime(), source.getEndTime(), "1", null, null, null, source, -1, null));
+        }
+        return events;
+    }
+
+    private static int countComponents(Container container) {
+        int count = container.getComponentCount();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                count += countComponents((Container) child);
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void testComponentCountDoesNotGrowWithEvents() throws Exception {
+        AtomicReference<int[]> counts = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            EventListPanel panel = new EventListPanel();
+            panel.render(events(10), event -> { });
+            int small = countComponents(panel);
+            panel.render(events(5000), event -> { });
+            int large = countComponents(panel);
+            counts.set(new int[] {small, large});
+        });
+
+        assertEquals(counts.get()[0], counts.get()[1]);
+    }
+
+    @Test
+    void testRendererIsReusedAndLocatesEditButton() throws Exception {
+        AtomicReference<Boolean[]> results = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            EventCardRenderer renderer = new EventCardRenderer();
+            JList<DashboardViewModel> list = new JList<>();
+            List<DashboardViewModel> events = events(2);
+            Component first = renderer.getListCellRendererComponent(list, events.get(0), 0, false, false);
+            Component second = renderer.getListCellRendererComponent(list, events.get(1), 1, false, false);
+
+            Dimension cell = new Dimension(600, EventCardRenderer.CELL_HEIGHT);
+            boolean onRightEdge = renderer.isOnEditButton(list, events.get(0), cell, new Point(570, 45));
+            boolean onTitle = renderer.isOnEditButton(list, events.get(0), cell, new Point(150, 30));
+            results.set(new Boolean[] {first == second, onRightEdge, onTitle});
+        });
+
+        assertTrue(results.get()[0]);
+        assertTrue(results.get()[1]);
+        assertFalse(results.get()[2]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.aurora.climatesync.view.component;
+
+import com.aurora.climatesync.presenter.DashboardViewModel;
+import com.aurora.climatesync.presenter.EventIndex;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedReconcilerTest {
+
+    private static DashboardViewModel event(String id, String title, int day) {
+        ZonedDateTime start = ZonedDateTime.of(2025, 3, day, 9, 0, 0, 0, ZoneId.of("UTC"));
+        return new DashboardViewModel(id, title, null, null, start, start.plusHours(1), "1",
+                null, null, null, null, -1, null);
+    }
+
+    @Test
+    void testOnlyChangedItemsGetNewComponents() {
+        JPanel container = new JPanel();
+        KeyedReconciler<DashboardViewModel> reconciler = new KeyedReconciler<>(container,
+                DashboardViewModel::getKey, DashboardViewModel::contentHash, e -> new JLabel(e.getTitle()));
+        reconciler.reconcile(List.of(event("a", "A", 1), event("b", "B", 2), event("c", "C", 3)));
+        Component b = container.getComponent(1);
+        Component c = container.getComponent(2);
+
+        boolean changed = reconciler.reconcile(List.of(event("c", "C", 3), event("a", "A (edited)", 1), event("d", "D", 4)));
+
+        assertTrue(changed);
+        assertEquals(1, reconciler.getAdded());
+        assertEquals(1, reconciler.getUpdated());
+        assertEquals(1, reconciler.getRemoved());
+        assertEquals(3, container.getComponentCount());
+        assertSame(c, container.getComponent(0));
+        assertEquals("A (edited)", ((JLabel) container.getComponent(1)).getText());
+        assertEquals("D", ((JLabel) container.getComponent(2)).getText());
+        assertNull(b.getParent());
+        assertFalse(reconciler.reconcile(List.of(event("c", "C", 3), event("a", "A (edited)", 1), event("d", "D", 4))));
+    }
+
+    @Test
+    void testEditingOneEventRebuildsOneMonthCell() throws Exception {
+        List<int[]> counts = new ArrayList<>();
+        SwingUtilities.invokeAndWait(() -> {
+            MonthViewPanel month = new MonthViewPanel();
+            LocalDate march = LocalDate.of(2025, 3, 1);
+            month.render(EventIndex.of(List.of(event("a", "A", 3), event("b", "B", 10))), march, e -> { });
+            counts.add(new int[] {month.getCells().getAdded(), month.getCells().getUpdated()});
+
+            month.render(EventIndex.of(List.of(event("a", "A", 3), event("b", "B moved", 10))), march, e -> { });
+            counts.add(new int[] {month.getCells().getAdded(), month.getCells().getUpdated(), month.getCells().getRemoved()});
+        });
+
+        // March 2025 starts on a Saturday: five blanks and 31 days.
+        assertArrayEquals(new int[] {36, 0}, counts.get(0));
+        assertArrayEquals(new int[] {0, 1, 0}, counts.get(1));
+    }
+}